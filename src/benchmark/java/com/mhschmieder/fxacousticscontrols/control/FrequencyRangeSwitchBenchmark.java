@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.control;
+
+import com.mhschmieder.fxacousticscontrols.model.FrequencyRangeModel;
+import com.mhschmieder.jacoustics.FrequencyRange;
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.layout.HBox;
+import javafx.stage.Stage;
+
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A benchmark of the latency of switching the Relative Bandwidth of the real
+ * Frequency Range controls, from 1/3-octave to each supported bandwidth and
+ * back again, including the CSS and layout pass of the controls.
+ * <p>
+ * Each switch applies a new Frequency Range as a batch update, as the
+ * application does, on the JavaFX Application Thread, and the controls are
+ * shown in a stage so that their skins update as well. The first switch to
+ * each bandwidth is timed right after constructing the controls, while the
+ * band tables may still be built in the background, and then again in new
+ * controls once they are all built; the warm switches are timed over many
+ * cycles.
+ * <p>
+ * This lives outside of the unit tests, and runs with
+ * {@code mvn -Pbenchmark test-compile exec:java}, or headless by adding
+ * {@code -Dglass.platform=Monocle -Dmonocle.platform=Headless} with Monocle on
+ * the class path. The program arguments are
+ * {@code [cycles] [fullSpan] [layout]}; turning off the layout leaves the
+ * controls out of the scene, which times the same selector and drop-list
+ * updates without the skins, for hosts that lack the native text libraries.
+ */
+public final class FrequencyRangeSwitchBenchmark extends Application {
+
+    // The Relative Bandwidths that the controls support.
+    private static final RelativeBandwidth[] SUPPORTED_VALUES    = new RelativeBandwidth[] {
+            RelativeBandwidth.ONE_OCTAVE,
+            RelativeBandwidth.THIRD_OCTAVE,
+            RelativeBandwidth.SIXTH_OCTAVE,
+            RelativeBandwidth.TWELTH_OCTAVE,
+            RelativeBandwidth.TWENTYFOURTH_OCTAVE,
+            RelativeBandwidth.FORTYEIGHTH_OCTAVE };
+
+    // The number of warm switching cycles to time by default.
+    private static final int                 CYCLE_COUNT_DEFAULT = 2000;
+
+    // The Center Frequency to switch at.
+    private static final double              CENTER_FREQUENCY    = 1000.0d;
+
+    // The controls under test, and the root of the scene that shows them.
+    private FrequencyRangeControls           _frequencyRangeControls;
+    private HBox                             _root;
+
+    // Make new controls, and show them in place of the previous ones.
+    private void makeControls( final boolean fullSpan ) {
+        // NOTE: The client properties only tune the styling of the selectors,
+        // which makes no difference to the timing.
+        final NumberFormat numberFormat = NumberFormat.getNumberInstance( Locale.US );
+        _frequencyRangeControls = new FrequencyRangeControls( numberFormat,
+                                                              null,
+                                                              false,
+                                                              false,
+                                                              FrequencyRangeModel.START_INDEX_DEFAULT,
+                                                              FrequencyRangeModel.START_INDEX_DEFAULT );
+        _root.getChildren().setAll( _frequencyRangeControls._relativeBandwidthSelector,
+                                    _frequencyRangeControls._octaveRangeSelector,
+                                    _frequencyRangeControls._centerFrequencySelector );
+        if ( fullSpan ) {
+            _frequencyRangeControls.setFullSpan( true );
+        }
+        switchTo( RelativeBandwidth.THIRD_OCTAVE );
+    }
+
+    // Switch to the given Relative Bandwidth as a batch update, and then lay
+    // out the controls, returning the elapsed time in nanoseconds.
+    private long switchTo( final RelativeBandwidth relativeBandwidth ) {
+        final long startNanos = System.nanoTime();
+        final String octaveRange = _frequencyRangeControls.getFrequencyRangeModel()
+                .resolveOctaveRange( relativeBandwidth, CENTER_FREQUENCY ).label();
+        _frequencyRangeControls.updateFrequencyRange( new FrequencyRange( relativeBandwidth,
+                                                                          octaveRange,
+                                                                          CENTER_FREQUENCY ) );
+        _root.applyCss();
+        _root.layout();
+        return System.nanoTime() - startNanos;
+    }
+
+    // Time the first switch to each bandwidth, in microseconds.
+    private void timeFirstSwitches( final String title ) {
+        System.out.println( title );
+        for ( final RelativeBandwidth relativeBandwidth : SUPPORTED_VALUES ) {
+            final long elapsedNanos = switchTo( relativeBandwidth );
+            System.out.println( String.format( Locale.US,
+                                               "  %-20s %10.1f us  (%d items)", //$NON-NLS-1$
+                                               relativeBandwidth,
+                                               elapsedNanos * 1.0e-3d,
+                                               _frequencyRangeControls._centerFrequencySelector
+                                                       .getItems().size() ) );
+        }
+    }
+
+    // Time the round trip from 1/3-octave to each bandwidth and back again,
+    // reporting the median and 99th percentile, in microseconds.
+    private void timeWarmSwitches( final int cycleCount ) {
+        System.out.println( "Warm switches from 1/3-octave and back (" + cycleCount //$NON-NLS-1$
+                + " cycles)" ); //$NON-NLS-1$
+        final long[] elapsedNanos = new long[ cycleCount ];
+        for ( final RelativeBandwidth relativeBandwidth : SUPPORTED_VALUES ) {
+            final long changeCount = _frequencyRangeControls.getFrequencyRangeChangeCount();
+            for ( int cycle = 0; cycle < cycleCount; cycle++ ) {
+                elapsedNanos[ cycle ] = switchTo( relativeBandwidth )
+                        + switchTo( RelativeBandwidth.THIRD_OCTAVE );
+            }
+            Arrays.sort( elapsedNanos );
+            System.out.println( String.format( Locale.US,
+                                               "  %-20s median %8.2f us  p99 %8.2f us  (%.1f events per switch)", //$NON-NLS-1$
+                                               relativeBandwidth,
+                                               elapsedNanos[ cycleCount / 2 ] * 1.0e-3d,
+                                               elapsedNanos[ ( cycleCount * 99 ) / 100 ] * 1.0e-3d,
+                                               ( _frequencyRangeControls
+                                                       .getFrequencyRangeChangeCount()
+                                                       - changeCount ) / ( 2.0d * cycleCount ) ) );
+        }
+    }
+
+    @Override
+    public void start( final Stage primaryStage ) throws Exception {
+        final List< String > args = getParameters().getRaw();
+        final int cycleCount = ( args.size() > 0 )
+            ? Integer.parseInt( args.get( 0 ) )
+            : CYCLE_COUNT_DEFAULT;
+        final boolean fullSpan = ( args.size() > 1 ) && Boolean.parseBoolean( args.get( 1 ) );
+        final boolean layout = ( args.size() <= 2 ) || Boolean.parseBoolean( args.get( 2 ) );
+
+        // NOTE: CSS and layout are no-ops for a root that is not in a scene.
+        _root = new HBox();
+        if ( layout ) {
+            primaryStage.setScene( new Scene( _root ) );
+            primaryStage.show();
+        }
+
+        try {
+            System.out.println( "Drop-list mode: " //$NON-NLS-1$
+                    + ( fullSpan ? "full span" : "per Octave Range" ) //$NON-NLS-1$ //$NON-NLS-2$
+                    + ( layout ? ", with layout" : ", without layout" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+            makeControls( fullSpan );
+            timeFirstSwitches( "First switches, while the band tables are built in the background" ); //$NON-NLS-1$
+
+            // Wait for the background preparation that the controls start on
+            // construction, and then time the first switches of new controls
+            // that share the tables it built.
+            _frequencyRangeControls.getFrequencyRangeModel()
+                    .prepareCenterFrequencyTablesInBackground( SUPPORTED_VALUES ).get();
+            makeControls( fullSpan );
+            timeFirstSwitches( "First switches, after the band tables are built" ); //$NON-NLS-1$
+
+            timeWarmSwitches( cycleCount );
+        }
+        finally {
+            Platform.exit();
+        }
+    }
+
+    public static void main( final String[] args ) {
+        launch( args );
+    }
+}
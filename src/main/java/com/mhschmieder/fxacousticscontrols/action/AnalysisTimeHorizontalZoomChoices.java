@@ -38,6 +38,10 @@ import org.controlsfx.control.action.Action;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * This is a struct-like container for generic Analysis Time Horizontal Zoom
@@ -59,88 +63,40 @@ public final class AnalysisTimeHorizontalZoomChoices {
     public static final int ZOOM_1120MS  = ZOOM_112MS + 1;
     public static final int ZOOM_DEFAULT = ZOOM_280MS;
 
+    // The Analysis Time edge of each Horizontal Zoom choice, in milliseconds,
+    // and whether it is one of the zoomed-in spans, indexed by the zoom
+    // constants; new zoom levels are just new entries.
+    private static final List< Integer >         ANALYSIS_TIME_EDGES_MS     = Collections
+            .unmodifiableList( Arrays.asList( 7, 70, 14, 140, 28, 280, 56, 560, 112, 1120 ) );
+    private static final boolean[]               ANALYSIS_TIME_ZOOMED_IN    = {
+            true, false, true, false, true, false, true, false, true, false };
+
+    // Reverse lookup from Analysis Time edge to zoom index.
+    private static final Map< Integer, Integer > ANALYSIS_TIME_INDEX_LOOKUP = new HashMap<>();
+
+    static {
+        for ( int index = 0; index < ANALYSIS_TIME_EDGES_MS.size(); index++ ) {
+            ANALYSIS_TIME_INDEX_LOOKUP.put( ANALYSIS_TIME_EDGES_MS.get( index ), index );
+        }
+    }
+
+    // Get the number of Analysis Time Horizontal Zoom choices.
+    public static int getAnalysisTimeChoiceCount() {
+        return ANALYSIS_TIME_EDGES_MS.size();
+    }
+
     // Get the Analysis Time edge for the Horizontal Zoom choices.
     public static int getAnalysisTimeEdgeMs( final int analysisTimeIndex ) {
-        int analysisTimeEdgeMs = 280;
-        
-        switch ( analysisTimeIndex ) {
-        case ZOOM_7MS:
-            analysisTimeEdgeMs = 7;
-            break;
-        case ZOOM_70MS:
-            analysisTimeEdgeMs = 70;
-            break;
-        case ZOOM_14MS:
-            analysisTimeEdgeMs = 14;
-            break;
-        case ZOOM_140MS:
-            analysisTimeEdgeMs = 140;
-            break;
-        case ZOOM_28MS:
-            analysisTimeEdgeMs = 28;
-            break;
-        case ZOOM_280MS:
-            analysisTimeEdgeMs = 280;
-            break;
-        case ZOOM_56MS:
-            analysisTimeEdgeMs = 56;
-            break;
-        case ZOOM_560MS:
-            analysisTimeEdgeMs = 560;
-            break;
-        case ZOOM_112MS:
-            analysisTimeEdgeMs = 112;
-            break;
-        case ZOOM_1120MS:
-            analysisTimeEdgeMs = 1120;
-            break;
-        default:
-            break;
-        }
-        
-        return analysisTimeEdgeMs;
+        return ( ( analysisTimeIndex >= 0 )
+                && ( analysisTimeIndex < ANALYSIS_TIME_EDGES_MS.size() ) )
+                    ? ANALYSIS_TIME_EDGES_MS.get( analysisTimeIndex )
+                    : ANALYSIS_TIME_EDGES_MS.get( ZOOM_DEFAULT );
     }
 
     // Get the Analysis Time index for the Horizontal Zoom choices.
     public static int getAnalysisTimeIndex( final int analysisTimeEdgeMs ) {
-        int analysisTimeIndex = ZOOM_DEFAULT;
-        
-        switch ( analysisTimeEdgeMs ) {
-        case 7:
-            analysisTimeIndex = ZOOM_7MS;
-            break;
-        case 70:
-            analysisTimeIndex = ZOOM_70MS;
-            break;
-        case 14:
-            analysisTimeIndex = ZOOM_14MS;
-            break;
-        case 140:
-            analysisTimeIndex = ZOOM_140MS;
-            break;
-        case 28:
-            analysisTimeIndex = ZOOM_28MS;
-            break;
-        case 280:
-            analysisTimeIndex = ZOOM_280MS;
-            break;
-        case 56:
-            analysisTimeIndex = ZOOM_56MS;
-            break;
-        case 560:
-            analysisTimeIndex = ZOOM_560MS;
-            break;
-        case 112:
-            analysisTimeIndex = ZOOM_112MS;
-            break;
-        case 1120:
-            analysisTimeIndex = ZOOM_1120MS;
-            break;
-        default:
-            break;
-        }
-        
-        return analysisTimeIndex;
+        final Integer analysisTimeIndex = ANALYSIS_TIME_INDEX_LOOKUP.get( analysisTimeEdgeMs );
+        return ( analysisTimeIndex != null ) ? analysisTimeIndex.intValue() : ZOOM_DEFAULT;
     }
 
     // Declare all of the Analysis Time Horizontal Zoom choices.
@@ -158,6 +114,9 @@ public final class AnalysisTimeHorizontalZoomChoices {
     // Cache the associated choice group, for ease of overall enablement.
     public XActionGroup _analysisTimeHorizontalZoomChoiceGroup;
 
+    // Track the selected choice, so that queries are just a field read.
+    private final ChoiceGroupDescriptor< Integer > _analysisTimeHorizontalZoomDescriptor;
+
     // Default constructor
     @SuppressWarnings("nls")
     public AnalysisTimeHorizontalZoomChoices( final ClientProperties clientProperties ) {
@@ -182,7 +141,7 @@ public final class AnalysisTimeHorizontalZoomChoices {
         _zoom1120msAnalysisTimeChoice = AcousticsLabeledActionFactory
                 .getHorizontalZoom1120msChoice( clientProperties );
 
-        final Collection< Action > analysisTimeHorizontalZoomChoiceCollection = Arrays
+        final List< XAction > analysisTimeHorizontalZoomChoices = Arrays
                 .asList( _zoom7msAnalysisTimeChoice,
                          _zoom70msAnalysisTimeChoice,
                          _zoom14msAnalysisTimeChoice,
@@ -193,6 +152,13 @@ public final class AnalysisTimeHorizontalZoomChoices {
                          _zoom560msAnalysisTimeChoice,
                          _zoom112msAnalysisTimeChoice,
                          _zoom1120msAnalysisTimeChoice );
+        final Collection< Action > analysisTimeHorizontalZoomChoiceCollection = Collections
+                .unmodifiableList( analysisTimeHorizontalZoomChoices );
+
+        _analysisTimeHorizontalZoomDescriptor = new ChoiceGroupDescriptor<>( analysisTimeHorizontalZoomChoices,
+                                                                             ANALYSIS_TIME_EDGES_MS,
+                                                                             ANALYSIS_TIME_EDGES_MS
+                                                                                     .get( ZOOM_DEFAULT ) );
 
         _analysisTimeHorizontalZoomChoiceGroup = ActionFactory
                 .makeChoiceGroup( clientProperties,
@@ -208,92 +174,25 @@ public final class AnalysisTimeHorizontalZoomChoices {
     }
 
     public int getAnalysisTimeIndex() {
-        int analysisTimeIndex = ZOOM_DEFAULT;
-
-        if ( _zoom7msAnalysisTimeChoice.isSelected() ) {
-            analysisTimeIndex = ZOOM_7MS;
-        }
-        else if ( _zoom70msAnalysisTimeChoice.isSelected() ) {
-            analysisTimeIndex = ZOOM_70MS;
-        }
-        else if ( _zoom14msAnalysisTimeChoice.isSelected() ) {
-            analysisTimeIndex = ZOOM_14MS;
-        }
-        else if ( _zoom140msAnalysisTimeChoice.isSelected() ) {
-            analysisTimeIndex = ZOOM_140MS;
-        }
-        else if ( _zoom28msAnalysisTimeChoice.isSelected() ) {
-            analysisTimeIndex = ZOOM_28MS;
-        }
-        else if ( _zoom280msAnalysisTimeChoice.isSelected() ) {
-            analysisTimeIndex = ZOOM_280MS;
-        }
-        else if ( _zoom56msAnalysisTimeChoice.isSelected() ) {
-            analysisTimeIndex = ZOOM_56MS;
-        }
-        else if ( _zoom560msAnalysisTimeChoice.isSelected() ) {
-            analysisTimeIndex = ZOOM_560MS;
-        }
-        else if ( _zoom112msAnalysisTimeChoice.isSelected() ) {
-            analysisTimeIndex = ZOOM_112MS;
-        }
-        else if ( _zoom1120msAnalysisTimeChoice.isSelected() ) {
-            analysisTimeIndex = ZOOM_1120MS;
-        }
+        return _analysisTimeHorizontalZoomDescriptor.getSelectedIndex();
+    }
 
-        return analysisTimeIndex;
+    public int getAnalysisTimeEdgeMs() {
+        return _analysisTimeHorizontalZoomDescriptor.getSelectedValue();
     }
 
     public boolean isAnalysisTimeZoomedIn() {
-        if ( _zoom7msAnalysisTimeChoice.isSelected() || _zoom14msAnalysisTimeChoice.isSelected()
-                || _zoom28msAnalysisTimeChoice.isSelected()
-                || _zoom56msAnalysisTimeChoice.isSelected()
-                || _zoom112msAnalysisTimeChoice.isSelected() ) {
-            return true;
-        }
-
-        return false;
+        return _analysisTimeHorizontalZoomDescriptor.isSelected()
+                && ANALYSIS_TIME_ZOOMED_IN[ _analysisTimeHorizontalZoomDescriptor
+                        .getSelectedIndex() ];
     }
 
     // Sync up the horizontal zoom radio button menu items with the current
     // analysis time.
     public void setAnalysisTimeIndex( final int analysisTimeIndex ) {
-        switch ( analysisTimeIndex ) {
-        case ZOOM_7MS:
-            _zoom7msAnalysisTimeChoice.setSelected( true );
-            break;
-        case ZOOM_70MS:
-            _zoom70msAnalysisTimeChoice.setSelected( true );
-            break;
-        case ZOOM_14MS:
-            _zoom14msAnalysisTimeChoice.setSelected( true );
-            break;
-        case ZOOM_140MS:
-            _zoom140msAnalysisTimeChoice.setSelected( true );
-            break;
-        case ZOOM_28MS:
-            _zoom28msAnalysisTimeChoice.setSelected( true );
-            break;
-        case ZOOM_280MS:
-            _zoom280msAnalysisTimeChoice.setSelected( true );
-            break;
-        case ZOOM_56MS:
-            _zoom56msAnalysisTimeChoice.setSelected( true );
-            break;
-        case ZOOM_560MS:
-            _zoom560msAnalysisTimeChoice.setSelected( true );
-            break;
-        case ZOOM_112MS:
-            _zoom112msAnalysisTimeChoice.setSelected( true );
-            break;
-        case ZOOM_1120MS:
-            _zoom1120msAnalysisTimeChoice.setSelected( true );
-            break;
-        default:
-            // If we fell through to the default case, we probably were
-            // invoked with a Frequency Range vs. Analysis Time index.
-            break;
-        }
+        // NOTE: An out-of-range index was probably meant for the Frequency
+        // Range rather than the Analysis Time, so it is ignored.
+        _analysisTimeHorizontalZoomDescriptor.setSelectedIndex( analysisTimeIndex );
     }
 
     public void setDisabled( final boolean disabled ) {
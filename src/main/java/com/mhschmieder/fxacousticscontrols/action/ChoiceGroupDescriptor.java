@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.action;
+
+import com.mhschmieder.fxcontrols.action.XAction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A descriptor for a group of mutually exclusive choices, built once from an
+ * immutable table of choices and the values that they stand for, where the
+ * index of each choice is its position in the table.
+ * <p>
+ * The selected choice is tracked by listeners on the choices rather than
+ * polled, so that reading the selected index or value is a single field read,
+ * and adding a choice to a group is a matter of adding a row to its table.
+ * <p>
+ * Choices are selected on the JavaFX Application Thread, but the selection can
+ * be read from any thread, such as from a render loop.
+ *
+ * @param <T>
+ *            The type of the values of the choices
+ */
+public final class ChoiceGroupDescriptor< T > {
+
+    // The choices and their values, in index order.
+    private final List< XAction >   _choices;
+    private final List< T >         _values;
+
+    // Reverse lookup from value to index.
+    private final Map< T, Integer > _valueLookup;
+
+    // The value, and its index, for when no choice is selected.
+    private final T                 _defaultValue;
+    private final int               _defaultIndex;
+
+    // The index of the selected choice, or -1 if none is selected.
+    private volatile int            _selectedIndex;
+
+    /**
+     * Constructs a descriptor for a group of choices.
+     *
+     * @param choices
+     *            The choices, in index order
+     * @param values
+     *            The value of each choice, in the same order, with no
+     *            duplicates
+     * @param defaultValue
+     *            The value to report when no choice is selected, and to select
+     *            for values that are not in the table
+     */
+    public ChoiceGroupDescriptor( final List< XAction > choices,
+                                  final List< T > values,
+                                  final T defaultValue ) {
+        if ( choices.size() != values.size() ) {
+            throw new IllegalArgumentException( "Each choice needs exactly one value" ); //$NON-NLS-1$
+        }
+
+        _choices = Collections.unmodifiableList( new ArrayList<>( choices ) );
+        _values = Collections.unmodifiableList( new ArrayList<>( values ) );
+        _valueLookup = new HashMap<>( values.size() * 2 );
+        for ( int index = 0; index < values.size(); index++ ) {
+            if ( _valueLookup.put( values.get( index ), index ) != null ) {
+                throw new IllegalArgumentException( "Duplicate choice value: " //$NON-NLS-1$
+                        + values.get( index ) );
+            }
+        }
+        _defaultValue = defaultValue;
+        _defaultIndex = indexOf( defaultValue );
+
+        _selectedIndex = -1;
+        for ( int index = 0; index < _choices.size(); index++ ) {
+            final XAction choice = _choices.get( index );
+            if ( choice.isSelected() ) {
+                _selectedIndex = index;
+            }
+
+            // NOTE: Within a choice group, the old choice may be deselected
+            // before or after the new choice is selected, so a deselection
+            // only clears the selection if it is still the selected choice.
+            final int choiceIndex = index;
+            choice.selectedProperty().addListener( ( observable, wasSelected, isSelected ) -> {
+                if ( isSelected ) {
+                    _selectedIndex = choiceIndex;
+                }
+                else if ( _selectedIndex == choiceIndex ) {
+                    _selectedIndex = -1;
+                }
+            } );
+        }
+    }
+
+    public List< XAction > getChoices() {
+        return _choices;
+    }
+
+    public List< T > getValues() {
+        return _values;
+    }
+
+    public int size() {
+        return _choices.size();
+    }
+
+    public XAction getChoice( final int index ) {
+        return _choices.get( index );
+    }
+
+    public T getValue( final int index ) {
+        return _values.get( index );
+    }
+
+    public T getDefaultValue() {
+        return _defaultValue;
+    }
+
+    /**
+     * Returns the index of a value.
+     *
+     * @param value
+     *            The value to look up
+     * @return The index of the value, or -1 if it is not in the table
+     */
+    public int indexOf( final T value ) {
+        final Integer index = _valueLookup.get( value );
+        return ( index != null ) ? index.intValue() : -1;
+    }
+
+    public boolean isSelected() {
+        return _selectedIndex >= 0;
+    }
+
+    /**
+     * Returns the index of the selected choice.
+     *
+     * @return The index of the selected choice, or the index of the default
+     *         value if no choice is selected
+     */
+    public int getSelectedIndex() {
+        final int selectedIndex = _selectedIndex;
+        return ( selectedIndex >= 0 ) ? selectedIndex : _defaultIndex;
+    }
+
+    /**
+     * Returns the value of the selected choice.
+     *
+     * @return The value of the selected choice, or the default value if no
+     *         choice is selected
+     */
+    public T getSelectedValue() {
+        final int selectedIndex = _selectedIndex;
+        return ( selectedIndex >= 0 ) ? _values.get( selectedIndex ) : _defaultValue;
+    }
+
+    /**
+     * Selects the choice at an index, if there is one.
+     *
+     * @param index
+     *            The index of the choice to select
+     * @return True if there is a choice at the index
+     */
+    public boolean setSelectedIndex( final int index ) {
+        if ( ( index < 0 ) || ( index >= _choices.size() ) ) {
+            return false;
+        }
+
+        _choices.get( index ).setSelected( true );
+        return true;
+    }
+
+    /**
+     * Selects the choice for a value, or else the choice for the default
+     * value.
+     *
+     * @param value
+     *            The value of the choice to select
+     * @return True if there is a choice for the value
+     */
+    public boolean setSelectedValue( final T value ) {
+        final int index = indexOf( value );
+        if ( index >= 0 ) {
+            return setSelectedIndex( index );
+        }
+
+        setSelectedIndex( _defaultIndex );
+        return false;
+    }
+}
@@ -38,6 +38,8 @@ import org.controlsfx.control.action.Action;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * This is a struct-like container for generic Frequency Amplitude Vertical Zoom
@@ -45,6 +47,14 @@ import java.util.Collection;
  */
 public final class FrequencyAmplitudeVerticalZoomChoices {
 
+    // The Vertical Grid Spacing of each Vertical Zoom choice, in dB, in
+    // choice order; new zoom levels are just new entries.
+    private static final List< Integer > VERTICAL_GRID_SPACINGS_DB       = Collections
+            .unmodifiableList( Arrays.asList( 1, 2, 3, 6, 10, 12, 15, 20, 30 ) );
+
+    // Default to something in the middle of the choices.
+    private static final int             VERTICAL_GRID_SPACING_DEFAULT_DB = 10;
+
     // Declare all of the Vertical Zoom choices.
     public XAction      _div1dbChoice;
     public XAction      _div2dbChoice;
@@ -59,6 +69,9 @@ public final class FrequencyAmplitudeVerticalZoomChoices {
     // Cache the associated choice group, for ease of overall enablement.
     public XActionGroup _frequencyAmplitudeVerticalZoomChoiceGroup;
 
+    // Track the selected choice, so that queries are just a field read.
+    private final ChoiceGroupDescriptor< Integer > _frequencyAmplitudeVerticalZoomDescriptor;
+
     // Default constructor
     @SuppressWarnings("nls")
     public FrequencyAmplitudeVerticalZoomChoices( final ClientProperties clientProperties ) {
@@ -72,7 +85,7 @@ public final class FrequencyAmplitudeVerticalZoomChoices {
         _div20dbChoice = AcousticsLabeledActionFactory.getDiv20DbChoice( clientProperties );
         _div30dbChoice = AcousticsLabeledActionFactory.getDiv30DbChoice( clientProperties );
 
-        final Collection< Action > frequencyAmplitudeVerticalZoomChoiceCollection = Arrays
+        final List< XAction > frequencyAmplitudeVerticalZoomChoices = Arrays
                 .asList( _div1dbChoice,
                          _div2dbChoice,
                          _div3dbChoice,
@@ -82,6 +95,12 @@ public final class FrequencyAmplitudeVerticalZoomChoices {
                          _div15dbChoice,
                          _div20dbChoice,
                          _div30dbChoice );
+        final Collection< Action > frequencyAmplitudeVerticalZoomChoiceCollection = Collections
+                .unmodifiableList( frequencyAmplitudeVerticalZoomChoices );
+
+        _frequencyAmplitudeVerticalZoomDescriptor = new ChoiceGroupDescriptor<>( frequencyAmplitudeVerticalZoomChoices,
+                                                                                 VERTICAL_GRID_SPACINGS_DB,
+                                                                                 VERTICAL_GRID_SPACING_DEFAULT_DB );
 
         _frequencyAmplitudeVerticalZoomChoiceGroup = ActionFactory
                 .makeChoiceGroup( clientProperties,
@@ -98,37 +117,7 @@ public final class FrequencyAmplitudeVerticalZoomChoices {
 
     // Reverse-map the selected choice to an invertible Vertical Grid Spacing.
     public int getVerticalGridSpacing() {
-        if ( _div1dbChoice.isSelected() ) {
-            return 1;
-        }
-        else if ( _div2dbChoice.isSelected() ) {
-            return 2;
-        }
-        else if ( _div3dbChoice.isSelected() ) {
-            return 3;
-        }
-        else if ( _div6dbChoice.isSelected() ) {
-            return 6;
-        }
-        else if ( _div10dbChoice.isSelected() ) {
-            return 10;
-        }
-        else if ( _div12dbChoice.isSelected() ) {
-            return 12;
-        }
-        else if ( _div15dbChoice.isSelected() ) {
-            return 15;
-        }
-        else if ( _div20dbChoice.isSelected() ) {
-            return 20;
-        }
-        else if ( _div30dbChoice.isSelected() ) {
-            return 30;
-        }
-        else {
-            // Default to something in the middle of the choices.
-            return 10;
-        }
+        return _frequencyAmplitudeVerticalZoomDescriptor.getSelectedValue();
     }
 
     public void setDisabled( final boolean disabled ) {
@@ -136,39 +125,8 @@ public final class FrequencyAmplitudeVerticalZoomChoices {
     }
 
     // Sync up the Vertical Zoom choice with the current Vertical Grid Spacing
-    // value.
+    // value, falling back to the default for unsupported values.
     public void setVerticalGridSpacing( final int verticalGridSpacing ) {
-        switch ( verticalGridSpacing ) {
-        case 1:
-            _div1dbChoice.setSelected( true );
-            break;
-        case 2:
-            _div2dbChoice.setSelected( true );
-            break;
-        case 3:
-            _div3dbChoice.setSelected( true );
-            break;
-        case 6:
-            _div6dbChoice.setSelected( true );
-            break;
-        case 10:
-            _div10dbChoice.setSelected( true );
-            break;
-        case 12:
-            _div12dbChoice.setSelected( true );
-            break;
-        case 15:
-            _div15dbChoice.setSelected( true );
-            break;
-        case 20:
-            _div20dbChoice.setSelected( true );
-            break;
-        case 30:
-            _div30dbChoice.setSelected( true );
-            break;
-        default:
-            _div10dbChoice.setSelected( true );
-            break;
-        }
+        _frequencyAmplitudeVerticalZoomDescriptor.setSelectedValue( verticalGridSpacing );
     }
 }
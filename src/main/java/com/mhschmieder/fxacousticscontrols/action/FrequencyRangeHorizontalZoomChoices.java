@@ -38,6 +38,8 @@ import org.controlsfx.control.action.Action;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * This is a struct-like container for generic Frequency Range Horizontal Zoom
@@ -53,6 +55,15 @@ public final class FrequencyRangeHorizontalZoomChoices {
     public static final int ZOOM_MID_HIGH_FREQ = ZOOM_MID_FREQ + 1;
     public static final int ZOOM_HIGH_FREQ     = ZOOM_MID_HIGH_FREQ + 1;
 
+    // The index of each Horizontal Zoom choice, in choice order.
+    private static final List< Integer > FREQUENCY_RANGE_HORIZONTAL_ZOOM_INDICES = Collections
+            .unmodifiableList( Arrays.asList( ZOOM_FULL_RANGE,
+                                              ZOOM_LOW_FREQ,
+                                              ZOOM_LOW_MID_FREQ,
+                                              ZOOM_MID_FREQ,
+                                              ZOOM_MID_HIGH_FREQ,
+                                              ZOOM_HIGH_FREQ ) );
+
     // Declare all of the Frequency Range Horizontal Zoom choices.
     public XAction          _zoomFullRangeChoice;
     public XAction          _zoomLowFreqChoice;
@@ -64,6 +75,9 @@ public final class FrequencyRangeHorizontalZoomChoices {
     // Cache the associated choice group, for ease of overall enablement.
     public XActionGroup     _frequencyRangeHorizontalZoomChoiceGroup;
 
+    // Track the selected choice, so that queries are just a field read.
+    private final ChoiceGroupDescriptor< Integer > _frequencyRangeHorizontalZoomDescriptor;
+
     // Default constructor
     @SuppressWarnings("nls")
     public FrequencyRangeHorizontalZoomChoices( final ClientProperties clientProperties ) {
@@ -80,13 +94,19 @@ public final class FrequencyRangeHorizontalZoomChoices {
         _zoomHighFreqChoice = AcousticsLabeledActionFactory
                 .getZoomHighFrequencyRangeChoice( clientProperties );
 
-        final Collection< Action > frequencyRangeHorizontalZoomChoiceCollection = Arrays
+        final List< XAction > frequencyRangeHorizontalZoomChoices = Arrays
                 .asList( _zoomFullRangeChoice,
                          _zoomLowFreqChoice,
                          _zoomLowMidFreqChoice,
                          _zoomMidFreqChoice,
                          _zoomMidHighFreqChoice,
                          _zoomHighFreqChoice );
+        final Collection< Action > frequencyRangeHorizontalZoomChoiceCollection = Collections
+                .unmodifiableList( frequencyRangeHorizontalZoomChoices );
+
+        _frequencyRangeHorizontalZoomDescriptor = new ChoiceGroupDescriptor<>( frequencyRangeHorizontalZoomChoices,
+                                                                               FREQUENCY_RANGE_HORIZONTAL_ZOOM_INDICES,
+                                                                               ZOOM_FULL_RANGE );
 
         _frequencyRangeHorizontalZoomChoiceGroup = ActionFactory
                 .makeChoiceGroup( clientProperties,
@@ -103,27 +123,7 @@ public final class FrequencyRangeHorizontalZoomChoices {
 
     // Reverse-map the selected choice to an invertible index.
     public int getFrequencyRangeHorizontalZoomIndex() {
-        if ( _zoomFullRangeChoice.isSelected() ) {
-            return ZOOM_FULL_RANGE;
-        }
-        else if ( _zoomLowFreqChoice.isSelected() ) {
-            return ZOOM_LOW_FREQ;
-        }
-        else if ( _zoomLowMidFreqChoice.isSelected() ) {
-            return ZOOM_LOW_MID_FREQ;
-        }
-        else if ( _zoomMidFreqChoice.isSelected() ) {
-            return ZOOM_MID_FREQ;
-        }
-        else if ( _zoomMidHighFreqChoice.isSelected() ) {
-            return ZOOM_MID_HIGH_FREQ;
-        }
-        else if ( _zoomHighFreqChoice.isSelected() ) {
-            return ZOOM_HIGH_FREQ;
-        }
-        else {
-            return ZOOM_FULL_RANGE;
-        }
+        return _frequencyRangeHorizontalZoomDescriptor.getSelectedValue();
     }
 
     public void setDisabled( final boolean disabled ) {
@@ -133,27 +133,8 @@ public final class FrequencyRangeHorizontalZoomChoices {
     // Sync up the Horizontal Zoom choice with the current Frequency Range
     // Horizontal Zoom index.
     public void setFrequencyRangeHorizontalZoomIndex( final int frequencyRangeHorizontalZoomIndex ) {
-        switch ( frequencyRangeHorizontalZoomIndex ) {
-        case ZOOM_FULL_RANGE:
-            _zoomFullRangeChoice.setSelected( true );
-            break;
-        case ZOOM_LOW_FREQ:
-            _zoomLowFreqChoice.setSelected( true );
-            break;
-        case ZOOM_LOW_MID_FREQ:
-            _zoomLowMidFreqChoice.setSelected( true );
-            break;
-        case ZOOM_MID_FREQ:
-            _zoomMidFreqChoice.setSelected( true );
-            break;
-        case ZOOM_MID_HIGH_FREQ:
-            _zoomMidHighFreqChoice.setSelected( true );
-            break;
-        case ZOOM_HIGH_FREQ:
-            _zoomHighFreqChoice.setSelected( true );
-            break;
-        default:
-            break;
-        }
+        _frequencyRangeHorizontalZoomDescriptor
+                .setSelectedIndex( _frequencyRangeHorizontalZoomDescriptor
+                        .indexOf( frequencyRangeHorizontalZoomIndex ) );
     }
 }
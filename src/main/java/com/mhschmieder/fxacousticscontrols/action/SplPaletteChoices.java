@@ -37,6 +37,8 @@ import org.controlsfx.control.action.Action;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * This is a struct-like container for generic SPL Palette choices, generally
@@ -46,6 +48,14 @@ import java.util.Collection;
  */
 public final class SplPaletteChoices {
 
+    // The SPL Palette Resolution of each SPL Palette choice, in choice order.
+    private static final List< SplPaletteResolution > SPL_PALETTE_RESOLUTIONS = Collections
+            .unmodifiableList( Arrays.asList( SplPaletteResolution.RES_256,
+                                              SplPaletteResolution.RES_64,
+                                              SplPaletteResolution.RES_1DB,
+                                              SplPaletteResolution.RES_2DB,
+                                              SplPaletteResolution.RES_3DB ) );
+
     // Declare all of the SPL Palette choices.
     public XAction _splPaletteColors256Choice;
     public XAction _splPaletteColors64Choice;
@@ -53,6 +63,9 @@ public final class SplPaletteChoices {
     public XAction _splPaletteColor2dbChoice;
     public XAction _splPaletteColor3dbChoice;
 
+    // Track the selected choice, so that queries are just a field read.
+    private final ChoiceGroupDescriptor< SplPaletteResolution > _splPaletteDescriptor;
+
     // Default constructor
     public SplPaletteChoices( final ClientProperties clientProperties ) {
         _splPaletteColors256Choice = AcousticsLabeledActionFactory
@@ -65,39 +78,27 @@ public final class SplPaletteChoices {
                 .getSplPaletteColor2dbChoice( clientProperties );
         _splPaletteColor3dbChoice = AcousticsLabeledActionFactory
                 .getSplPaletteColor3dbChoice( clientProperties );
+
+        final List< XAction > splPaletteChoices = Arrays.asList( _splPaletteColors256Choice,
+                                                                 _splPaletteColors64Choice,
+                                                                 _splPaletteColor1dbChoice,
+                                                                 _splPaletteColor2dbChoice,
+                                                                 _splPaletteColor3dbChoice );
+        _splPaletteDescriptor = new ChoiceGroupDescriptor<>( splPaletteChoices,
+                                                             SPL_PALETTE_RESOLUTIONS,
+                                                             SplPaletteResolution.RES_64 );
     }
 
     public Collection< Action > getSplPaletteChoiceCollection() {
-        final Collection< Action > splPaletteChoiceCollection = Arrays
-                .asList( _splPaletteColors256Choice,
-                         _splPaletteColors64Choice,
-                         _splPaletteColor1dbChoice,
-                         _splPaletteColor2dbChoice,
-                         _splPaletteColor3dbChoice );
-        return splPaletteChoiceCollection;
+        return Collections.unmodifiableList( _splPaletteDescriptor.getChoices() );
+    }
+
+    public SplPaletteResolution getSplPaletteResolution() {
+        return _splPaletteDescriptor.getSelectedValue();
     }
 
     public void setSplPaletteResolution( final SplPaletteResolution splPaletteResolution ) {
-        switch ( splPaletteResolution ) {
-        case RES_256:
-            _splPaletteColors256Choice.setSelected( true );
-            break;
-        case RES_64:
-            _splPaletteColors64Choice.setSelected( true );
-            break;
-        case RES_1DB:
-            _splPaletteColor1dbChoice.setSelected( true );
-            break;
-        case RES_2DB:
-            _splPaletteColor2dbChoice.setSelected( true );
-            break;
-        case RES_3DB:
-            _splPaletteColor3dbChoice.setSelected( true );
-            break;
-        default:
-            _splPaletteColors64Choice.setSelected( true );
-            break;
-        }
+        _splPaletteDescriptor.setSelectedValue( splPaletteResolution );
     }
 
 }
@@ -0,0 +1,191 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.analysis;
+
+import com.mhschmieder.fxacousticscontrols.action.AnalysisTimeHorizontalZoomChoices;
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A time gate for converting an impulse response to a frequency response,
+ * with its window table and FFT plan precomputed for one sample rate and one
+ * Analysis Time edge.
+ * <p>
+ * The gate starts at time zero and lasts for the Analysis Time edge, so that
+ * short gates keep just the direct sound and long gates keep the reverberant
+ * tail too. It is flat, apart from a raised cosine fade-out over its last
+ * part, which keeps the truncation from smearing the response; the gated
+ * samples are zero-padded up to the next power of two.
+ * <p>
+ * Gates are shared, one per sample rate and Analysis Time edge, and are
+ * immutable once built.
+ */
+public final class AnalysisTimeGate {
+
+    /**
+     * The fraction of the gate that fades out.
+     */
+    public static final double FADE_OUT_FRACTION = 0.25d;
+
+    // Shared gates, per sample rate and per Analysis Time edge.
+    private static final ConcurrentMap< Double, Map< Integer, AnalysisTimeGate > > GATE_CACHE =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared gate for a sample rate and an Analysis Time zoom
+     * choice, building it the first time it is requested.
+     *
+     * @param sampleRate
+     *            The sample rate of the impulse response, in Hertz
+     * @param analysisTimeIndex
+     *            The index of the Analysis Time Horizontal Zoom choice
+     * @return The shared gate
+     */
+    public static AnalysisTimeGate getInstance( final double sampleRate,
+                                                final int analysisTimeIndex ) {
+        if ( sampleRate <= 0.0d ) {
+            throw new IllegalArgumentException( "Sample rate must be positive: " + sampleRate ); //$NON-NLS-1$
+        }
+
+        final int analysisTimeEdgeMs = AnalysisTimeHorizontalZoomChoices
+                .getAnalysisTimeEdgeMs( analysisTimeIndex );
+        Map< Integer, AnalysisTimeGate > gates = GATE_CACHE.get( sampleRate );
+        if ( gates == null ) {
+            gates = GATE_CACHE.computeIfAbsent( sampleRate, rate -> new ConcurrentHashMap<>() );
+        }
+        final AnalysisTimeGate gate = gates.get( analysisTimeEdgeMs );
+        if ( gate != null ) {
+            return gate;
+        }
+
+        return gates.computeIfAbsent( analysisTimeEdgeMs,
+                                      edgeMs -> new AnalysisTimeGate( sampleRate, edgeMs ) );
+    }
+
+    // The sample rate and Analysis Time edge of the gate.
+    private final double   _sampleRate;
+    private final int      _analysisTimeEdgeMs;
+
+    // The window of the gated samples.
+    private final double[] _window;
+
+    // The plan for the zero-padded FFT.
+    private final FftPlan  _fftPlan;
+
+    private AnalysisTimeGate( final double sampleRate, final int analysisTimeEdgeMs ) {
+        _sampleRate = sampleRate;
+        _analysisTimeEdgeMs = analysisTimeEdgeMs;
+
+        final int gateSampleCount = Math
+                .max( 1, ( int ) Math.round( ( analysisTimeEdgeMs * sampleRate ) / 1000.0d ) );
+        _window = new double[ gateSampleCount ];
+        final int fadeOutSampleCount = ( int ) Math.round( gateSampleCount * FADE_OUT_FRACTION );
+        final int fadeOutStart = gateSampleCount - fadeOutSampleCount;
+        for ( int i = 0; i < gateSampleCount; i++ ) {
+            _window[ i ] = ( i < fadeOutStart )
+                ? 1.0d
+                : 0.5d * ( 1.0d + FastMath.cos( ( FastMath.PI * ( ( i - fadeOutStart ) + 1 ) )
+                        / ( fadeOutSampleCount + 1 ) ) );
+        }
+
+        _fftPlan = FftPlan.getInstance( FftPlan.getSize( gateSampleCount ) );
+    }
+
+    public double getSampleRate() {
+        return _sampleRate;
+    }
+
+    public int getAnalysisTimeEdgeMs() {
+        return _analysisTimeEdgeMs;
+    }
+
+    public int getGateSampleCount() {
+        return _window.length;
+    }
+
+    public double getWindow( final int index ) {
+        return _window[ index ];
+    }
+
+    public FftPlan getFftPlan() {
+        return _fftPlan;
+    }
+
+    public int getFftSize() {
+        return _fftPlan.size();
+    }
+
+    /**
+     * Returns the number of frequency bins from DC up to and including the
+     * Nyquist frequency.
+     *
+     * @return The number of frequency bins
+     */
+    public int getBinCount() {
+        return ( _fftPlan.size() >>> 1 ) + 1;
+    }
+
+    public double getBinFrequency( final int binIndex ) {
+        return ( binIndex * _sampleRate ) / _fftPlan.size();
+    }
+
+    /**
+     * Gates an impulse response into FFT buffers, zero-padding the rest.
+     *
+     * @param impulseResponse
+     *            The impulse response
+     * @param zeroSampleIndex
+     *            The index of the sample at time zero, where the gate starts
+     * @param real
+     *            The buffer for the real parts, which must hold at least as
+     *            many values as the FFT size
+     * @param imaginary
+     *            The buffer for the imaginary parts, which must hold at least
+     *            as many values as the FFT size
+     */
+    void apply( final float[] impulseResponse,
+                final int zeroSampleIndex,
+                final double[] real,
+                final double[] imaginary ) {
+        final int fftSize = _fftPlan.size();
+        for ( int i = 0; i < fftSize; i++ ) {
+            final int sampleIndex = zeroSampleIndex + i;
+            real[ i ] = ( ( i < _window.length ) && ( sampleIndex >= 0 )
+                    && ( sampleIndex < impulseResponse.length ) )
+                        ? _window[ i ] * impulseResponse[ sampleIndex ]
+                        : 0.0d;
+            imaginary[ i ] = 0.0d;
+        }
+    }
+}
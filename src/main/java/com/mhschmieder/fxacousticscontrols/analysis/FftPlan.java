@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.analysis;
+
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A plan for an in-place radix-2 complex FFT of one size, with the bit
+ * reversal permutation and the twiddle factors precomputed once, so that each
+ * transform does no trigonometry and allocates nothing.
+ * <p>
+ * Plans are shared, one per size, and are immutable once built, so they are
+ * safe to use from several threads with separate buffers.
+ */
+public final class FftPlan {
+
+    // Shared plans, one per size.
+    private static final ConcurrentMap< Integer, FftPlan > PLAN_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared plan for the given size, building it the first time
+     * it is requested.
+     *
+     * @param size
+     *            The number of points, which must be a power of two
+     * @return The shared plan for the size
+     */
+    public static FftPlan getInstance( final int size ) {
+        final FftPlan plan = PLAN_CACHE.get( size );
+        if ( plan != null ) {
+            return plan;
+        }
+
+        return PLAN_CACHE.computeIfAbsent( size, FftPlan::new );
+    }
+
+    /**
+     * Returns the smallest power of two that holds the given number of points.
+     *
+     * @param pointCount
+     *            The number of points
+     * @return The smallest power of two that is not less than the number of
+     *         points, and at least one
+     */
+    public static int getSize( final int pointCount ) {
+        return ( pointCount <= 1 ) ? 1 : Integer.highestOneBit( pointCount - 1 ) << 1;
+    }
+
+    // The number of points.
+    private final int      _size;
+
+    // The bit reversal permutation of the point indices.
+    private final int[]    _bitReversal;
+
+    // The cosine and sine of each twiddle factor, for half of the circle.
+    private final double[] _cosines;
+    private final double[] _sines;
+
+    private FftPlan( final int size ) {
+        if ( ( size < 1 ) || ( Integer.bitCount( size ) != 1 ) ) {
+            throw new IllegalArgumentException( "FFT size must be a power of two: " + size ); //$NON-NLS-1$
+        }
+
+        _size = size;
+
+        final int bitCount = Integer.numberOfTrailingZeros( size );
+        _bitReversal = new int[ size ];
+        for ( int i = 0; i < size; i++ ) {
+            _bitReversal[ i ] = ( bitCount == 0 ) ? 0 : Integer.reverse( i ) >>> ( 32 - bitCount );
+        }
+
+        final int halfSize = size >>> 1;
+        _cosines = new double[ halfSize ];
+        _sines = new double[ halfSize ];
+        for ( int k = 0; k < halfSize; k++ ) {
+            final double angle = ( -2.0d * FastMath.PI * k ) / size;
+            _cosines[ k ] = FastMath.cos( angle );
+            _sines[ k ] = FastMath.sin( angle );
+        }
+    }
+
+    public int size() {
+        return _size;
+    }
+
+    /**
+     * Computes the forward FFT of a complex sequence, in place.
+     *
+     * @param real
+     *            The real parts, which must hold at least as many values as
+     *            the size of the plan
+     * @param imaginary
+     *            The imaginary parts, which must hold at least as many values
+     *            as the size of the plan
+     */
+    public void transform( final double[] real, final double[] imaginary ) {
+        for ( int i = 0; i < _size; i++ ) {
+            final int j = _bitReversal[ i ];
+            if ( j > i ) {
+                final double realSwap = real[ i ];
+                real[ i ] = real[ j ];
+                real[ j ] = realSwap;
+                final double imaginarySwap = imaginary[ i ];
+                imaginary[ i ] = imaginary[ j ];
+                imaginary[ j ] = imaginarySwap;
+            }
+        }
+
+        // Combine the butterflies of each stage, striding through the shared
+        // twiddle factors so that every stage uses the same tables.
+        for ( int span = 1; span < _size; span <<= 1 ) {
+            final int twiddleStride = _size / ( span << 1 );
+            for ( int start = 0; start < _size; start += span << 1 ) {
+                for ( int k = 0; k < span; k++ ) {
+                    final double cosine = _cosines[ k * twiddleStride ];
+                    final double sine = _sines[ k * twiddleStride ];
+                    final int even = start + k;
+                    final int odd = even + span;
+                    final double oddReal = ( real[ odd ] * cosine ) - ( imaginary[ odd ] * sine );
+                    final double oddImaginary = ( real[ odd ] * sine )
+                            + ( imaginary[ odd ] * cosine );
+                    real[ odd ] = real[ even ] - oddReal;
+                    imaginary[ odd ] = imaginary[ even ] - oddImaginary;
+                    real[ even ] += oddReal;
+                    imaginary[ even ] += oddImaginary;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.analysis;
+
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A precomputed fractional-octave smoothing kernel for the frequency bins of
+ * one FFT size and sample rate, holding the first and last bin that each bin
+ * is averaged over.
+ * <p>
+ * The kernel of each bin spans one fraction of an octave, centered on the bin
+ * on a log-frequency axis, so it widens with frequency; bins whose span is
+ * narrower than a bin, such as near DC, are left as they are. An octave
+ * divider of zero means no smoothing at all.
+ * <p>
+ * Kernels are shared, one per FFT size, sample rate and octave divider, and
+ * are immutable once built.
+ */
+public final class FractionalOctaveKernel {
+
+    // Shared kernels, per sample rate, and per FFT size and octave divider.
+    // NOTE: The FFT size and octave divider are packed into one long key, so
+    // that lookups need no key objects.
+    private static final ConcurrentMap< Double, Map< Long, FractionalOctaveKernel > > KERNEL_CACHE =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared kernel for an FFT size, sample rate and octave
+     * divider, building it the first time it is requested.
+     *
+     * @param fftSize
+     *            The size of the FFT that the frequency bins come from
+     * @param sampleRate
+     *            The sample rate, in Hertz
+     * @param octaveDivider
+     *            The octave divider, such as three for 1/3-octave smoothing,
+     *            or zero for no smoothing
+     * @return The shared kernel
+     */
+    public static FractionalOctaveKernel getInstance( final int fftSize,
+                                                      final double sampleRate,
+                                                      final int octaveDivider ) {
+        if ( ( fftSize < 1 ) || ( sampleRate <= 0.0d ) || ( octaveDivider < 0 ) ) {
+            throw new IllegalArgumentException( "Invalid smoothing kernel parameters: " //$NON-NLS-1$
+                    + fftSize + ", " + sampleRate + ", " + octaveDivider ); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        Map< Long, FractionalOctaveKernel > kernels = KERNEL_CACHE.get( sampleRate );
+        if ( kernels == null ) {
+            kernels = KERNEL_CACHE.computeIfAbsent( sampleRate, rate -> new ConcurrentHashMap<>() );
+        }
+
+        final long key = ( ( long ) fftSize << 32 ) | octaveDivider;
+        final FractionalOctaveKernel kernel = kernels.get( key );
+        if ( kernel != null ) {
+            return kernel;
+        }
+
+        return kernels.computeIfAbsent( key,
+                                        packedKey -> new FractionalOctaveKernel( fftSize,
+                                                                                 sampleRate,
+                                                                                 octaveDivider ) );
+    }
+
+    // The FFT size, sample rate and octave divider of the kernel.
+    private final int    _fftSize;
+    private final double _sampleRate;
+    private final int    _octaveDivider;
+
+    // The first and last bin that each bin is averaged over.
+    private final int[]  _lowerBins;
+    private final int[]  _upperBins;
+
+    private FractionalOctaveKernel( final int fftSize,
+                                    final double sampleRate,
+                                    final int octaveDivider ) {
+        _fftSize = fftSize;
+        _sampleRate = sampleRate;
+        _octaveDivider = octaveDivider;
+
+        final int binCount = ( fftSize >>> 1 ) + 1;
+        _lowerBins = new int[ binCount ];
+        _upperBins = new int[ binCount ];
+
+        // Each edge is half of the fraction of an octave away from the bin, so
+        // in bins it is just the bin index scaled by a constant.
+        final double edgeRatio = ( octaveDivider > 0 )
+            ? FastMath.pow( 2.0d, 0.5d / octaveDivider )
+            : 1.0d;
+        for ( int bin = 0; bin < binCount; bin++ ) {
+            final int lowerBin = ( int ) FastMath.ceil( bin / edgeRatio );
+            final int upperBin = ( int ) FastMath.floor( bin * edgeRatio );
+            _lowerBins[ bin ] = Math.max( 0, Math.min( bin, lowerBin ) );
+            _upperBins[ bin ] = Math.min( binCount - 1, Math.max( bin, upperBin ) );
+        }
+    }
+
+    public int getFftSize() {
+        return _fftSize;
+    }
+
+    public double getSampleRate() {
+        return _sampleRate;
+    }
+
+    public int getOctaveDivider() {
+        return _octaveDivider;
+    }
+
+    public int getBinCount() {
+        return _lowerBins.length;
+    }
+
+    public double getFrequencyStep() {
+        return _sampleRate / _fftSize;
+    }
+
+    public int getLowerBin( final int bin ) {
+        return _lowerBins[ bin ];
+    }
+
+    public int getUpperBin( final int bin ) {
+        return _upperBins[ bin ];
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.analysis;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * A fractional-octave smoothing engine for complex frequency responses, such
+ * as for the Smoothing choices, which averages each bin over its precomputed
+ * kernel in constant time using running sums, so that smoothing is linear in
+ * the number of bins regardless of the width of the kernels.
+ * <p>
+ * The running sums are kept in work buffers that are allocated once and grown
+ * as needed, so that smoothing a live trace allocates nothing.
+ * <p>
+ * A smoother is not thread-safe; use one smoother per thread. The shared
+ * kernels are immutable, so smoothers on different threads share them.
+ */
+public final class FractionalOctaveSmoother {
+
+    // The running sums of the real and imaginary parts, or of the power.
+    private double[] _realSums;
+    private double[] _imaginarySums;
+
+    // Default constructor
+    public FractionalOctaveSmoother() {
+        _realSums = new double[ 0 ];
+        _imaginarySums = new double[ 0 ];
+    }
+
+    // Make sure the running sums hold one more value than there are bins.
+    private void ensureCapacity( final int binCount ) {
+        if ( _realSums.length <= binCount ) {
+            _realSums = new double[ binCount + 1 ];
+            _imaginarySums = new double[ binCount + 1 ];
+        }
+    }
+
+    private static void checkBinCount( final FractionalOctaveKernel kernel,
+                                       final double[]... arrays ) {
+        for ( final double[] array : arrays ) {
+            if ( array.length < kernel.getBinCount() ) {
+                throw new IllegalArgumentException( "Arrays are smaller than the bin count " //$NON-NLS-1$
+                        + kernel.getBinCount() );
+            }
+        }
+    }
+
+    /**
+     * Smooths a complex frequency response by averaging its real and imaginary
+     * parts separately, which keeps the phase.
+     *
+     * @param kernel
+     *            The smoothing kernel, which sets the number of bins
+     * @param real
+     *            The real part of each bin
+     * @param imaginary
+     *            The imaginary part of each bin
+     * @param smoothedReal
+     *            The array to write the smoothed real part of each bin to,
+     *            which may be the same as the input
+     * @param smoothedImaginary
+     *            The array to write the smoothed imaginary part of each bin
+     *            to, which may be the same as the input
+     */
+    public void smoothComplex( final FractionalOctaveKernel kernel,
+                               final double[] real,
+                               final double[] imaginary,
+                               final double[] smoothedReal,
+                               final double[] smoothedImaginary ) {
+        checkBinCount( kernel, real, imaginary, smoothedReal, smoothedImaginary );
+
+        final int binCount = kernel.getBinCount();
+        ensureCapacity( binCount );
+        final double[] realSums = _realSums;
+        final double[] imaginarySums = _imaginarySums;
+        realSums[ 0 ] = 0.0d;
+        imaginarySums[ 0 ] = 0.0d;
+        for ( int bin = 0; bin < binCount; bin++ ) {
+            realSums[ bin + 1 ] = realSums[ bin ] + real[ bin ];
+            imaginarySums[ bin + 1 ] = imaginarySums[ bin ] + imaginary[ bin ];
+        }
+
+        for ( int bin = 0; bin < binCount; bin++ ) {
+            final int lowerBin = kernel.getLowerBin( bin );
+            final int upperBin = kernel.getUpperBin( bin ) + 1;
+            final double scale = 1.0d / ( upperBin - lowerBin );
+            smoothedReal[ bin ] = ( realSums[ upperBin ] - realSums[ lowerBin ] ) * scale;
+            smoothedImaginary[ bin ] = ( imaginarySums[ upperBin ] - imaginarySums[ lowerBin ] )
+                    * scale;
+        }
+    }
+
+    /**
+     * Smooths a complex frequency response by averaging its power, which
+     * disregards the phase.
+     *
+     * @param kernel
+     *            The smoothing kernel, which sets the number of bins
+     * @param real
+     *            The real part of each bin
+     * @param imaginary
+     *            The imaginary part of each bin
+     * @param smoothedPower
+     *            The array to write the smoothed power of each bin to
+     */
+    public void smoothPower( final FractionalOctaveKernel kernel,
+                             final double[] real,
+                             final double[] imaginary,
+                             final double[] smoothedPower ) {
+        checkBinCount( kernel, real, imaginary, smoothedPower );
+
+        final int binCount = kernel.getBinCount();
+        ensureCapacity( binCount );
+        final double[] powerSums = _realSums;
+        powerSums[ 0 ] = 0.0d;
+        for ( int bin = 0; bin < binCount; bin++ ) {
+            powerSums[ bin + 1 ] = powerSums[ bin ] + ( real[ bin ] * real[ bin ] )
+                    + ( imaginary[ bin ] * imaginary[ bin ] );
+        }
+
+        for ( int bin = 0; bin < binCount; bin++ ) {
+            final int lowerBin = kernel.getLowerBin( bin );
+            final int upperBin = kernel.getUpperBin( bin ) + 1;
+            smoothedPower[ bin ] = ( powerSums[ upperBin ] - powerSums[ lowerBin ] )
+                    / ( upperBin - lowerBin );
+        }
+    }
+
+    /**
+     * Smooths a complex frequency response into a new frequency response
+     * curve, such as for the frequency response cache.
+     *
+     * @param kernel
+     *            The smoothing kernel, which sets the number of bins
+     * @param smoothingMode
+     *            Whether to average the complex response or the power
+     * @param real
+     *            The real part of each bin, which is overwritten
+     * @param imaginary
+     *            The imaginary part of each bin, which is overwritten
+     * @return The smoothed curve, with the phase only for complex smoothing
+     */
+    public FrequencyResponse smooth( final FractionalOctaveKernel kernel,
+                                     final SmoothingMode smoothingMode,
+                                     final double[] real,
+                                     final double[] imaginary ) {
+        final int binCount = kernel.getBinCount();
+        final float[] magnitudesDb = new float[ binCount ];
+        float[] phasesDegrees = null;
+
+        if ( SmoothingMode.COMPLEX == smoothingMode ) {
+            smoothComplex( kernel, real, imaginary, real, imaginary );
+            phasesDegrees = new float[ binCount ];
+            for ( int bin = 0; bin < binCount; bin++ ) {
+                final double power = ( real[ bin ] * real[ bin ] )
+                        + ( imaginary[ bin ] * imaginary[ bin ] );
+                magnitudesDb[ bin ] = ( float ) ( 10.0d * FastMath.log10( power ) );
+                phasesDegrees[ bin ] = ( float ) FastMath
+                        .toDegrees( FastMath.atan2( imaginary[ bin ], real[ bin ] ) );
+            }
+        }
+        else {
+            smoothPower( kernel, real, imaginary, real );
+            for ( int bin = 0; bin < binCount; bin++ ) {
+                magnitudesDb[ bin ] = ( float ) ( 10.0d * FastMath.log10( real[ bin ] ) );
+            }
+        }
+
+        return new FrequencyResponse( kernel.getFrequencyStep(), magnitudesDb, phasesDegrees );
+    }
+}
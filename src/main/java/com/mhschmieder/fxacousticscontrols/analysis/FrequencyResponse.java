@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.analysis;
+
+/**
+ * A frequency response curve, with the magnitude and optionally the phase of
+ * each evenly spaced frequency bin, from DC up.
+ * <p>
+ * Curves are treated as immutable once constructed, so that they can be
+ * cached and shared; the arrays are not copied, so the caller must not change
+ * them afterwards.
+ */
+public final class FrequencyResponse {
+
+    // The spacing of the frequency bins, in Hertz.
+    private final double  _frequencyStep;
+
+    // The magnitude of each bin, in dB, and the phase, in degrees, if any.
+    private final float[] _magnitudesDb;
+    private final float[] _phasesDegrees;
+
+    /**
+     * Constructs a frequency response curve.
+     *
+     * @param frequencyStep
+     *            The spacing of the frequency bins, in Hertz
+     * @param magnitudesDb
+     *            The magnitude of each bin, in dB
+     * @param phasesDegrees
+     *            The phase of each bin, in degrees, or null for a curve with
+     *            magnitudes only
+     */
+    public FrequencyResponse( final double frequencyStep,
+                              final float[] magnitudesDb,
+                              final float[] phasesDegrees ) {
+        if ( ( phasesDegrees != null ) && ( phasesDegrees.length != magnitudesDb.length ) ) {
+            throw new IllegalArgumentException( "Each bin needs both a magnitude and a phase" ); //$NON-NLS-1$
+        }
+
+        _frequencyStep = frequencyStep;
+        _magnitudesDb = magnitudesDb;
+        _phasesDegrees = phasesDegrees;
+    }
+
+    public double getFrequencyStep() {
+        return _frequencyStep;
+    }
+
+    public int size() {
+        return _magnitudesDb.length;
+    }
+
+    public double getFrequency( final int binIndex ) {
+        return binIndex * _frequencyStep;
+    }
+
+    public float getMagnitudeDb( final int binIndex ) {
+        return _magnitudesDb[ binIndex ];
+    }
+
+    public boolean hasPhase() {
+        return _phasesDegrees != null;
+    }
+
+    public float getPhaseDegrees( final int binIndex ) {
+        return _phasesDegrees[ binIndex ];
+    }
+
+    public long getSizeInBytes() {
+        final long arrayCount = ( _phasesDegrees != null ) ? 2L : 1L;
+        return arrayCount * _magnitudesDb.length * 4L;
+    }
+}
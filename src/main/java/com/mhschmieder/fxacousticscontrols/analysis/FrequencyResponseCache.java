@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.analysis;
+
+import com.mhschmieder.fxacousticscontrols.cache.WeightedLruCache;
+import com.mhschmieder.fxacousticscontrols.model.FrequencyWeighting;
+
+import java.util.function.Function;
+
+/**
+ * A bounded cache of the frequency response curves derived from impulse
+ * responses, so that flipping back to an Analysis Time, Smoothing and
+ * weighting combination that was already shown displays instantly, rather
+ * than gating, transforming and smoothing the data again.
+ * <p>
+ * Curves are kept in a least-recently-used cache with a memory budget, keyed
+ * by the dataset version, the Analysis Time zoom choice, the Smoothing octave
+ * divider and the weighting. Bumping the dataset version misses the cache for
+ * new data, while the curves of the old data age out, and superseded versions
+ * can also be purged right away.
+ * <p>
+ * All methods are thread-safe. Curves are computed outside of the cache lock,
+ * so two threads that miss the same key at once may both compute its curve.
+ */
+public final class FrequencyResponseCache {
+
+    /**
+     * The default memory budget for the cached curves, in bytes.
+     */
+    public static final long MAXIMUM_BYTES_DEFAULT = 32L * 1024L * 1024L;
+
+    // The cached curves, weighed by their size in bytes.
+    private final WeightedLruCache< FrequencyResponseKey, FrequencyResponse > _frequencyResponses;
+
+    // Default constructor
+    public FrequencyResponseCache() {
+        this( MAXIMUM_BYTES_DEFAULT );
+    }
+
+    public FrequencyResponseCache( final long maximumBytes ) {
+        _frequencyResponses = new WeightedLruCache<>( maximumBytes,
+                                                      FrequencyResponse::getSizeInBytes );
+    }
+
+    /**
+     * Returns the cached curve for a key.
+     *
+     * @param frequencyResponseKey
+     *            The key of the curve
+     * @return The cached curve, or null if it is not cached
+     */
+    public FrequencyResponse get( final FrequencyResponseKey frequencyResponseKey ) {
+        return _frequencyResponses.get( frequencyResponseKey );
+    }
+
+    /**
+     * Returns the cached curve for a key, or else computes and caches it.
+     *
+     * @param frequencyResponseKey
+     *            The key of the curve
+     * @param frequencyResponseComputer
+     *            The function that computes the curve for the key, such as by
+     *            gating, transforming and smoothing the impulse response
+     * @return The cached or computed curve
+     */
+    public FrequencyResponse get( final FrequencyResponseKey frequencyResponseKey,
+                                  final Function< FrequencyResponseKey, FrequencyResponse > frequencyResponseComputer ) {
+        final FrequencyResponse cachedFrequencyResponse = _frequencyResponses
+                .get( frequencyResponseKey );
+        if ( cachedFrequencyResponse != null ) {
+            return cachedFrequencyResponse;
+        }
+
+        final FrequencyResponse frequencyResponse = frequencyResponseComputer
+                .apply( frequencyResponseKey );
+        if ( frequencyResponse != null ) {
+            _frequencyResponses.put( frequencyResponseKey, frequencyResponse );
+        }
+        return frequencyResponse;
+    }
+
+    /**
+     * Returns the cached curve for the current choices, or else computes and
+     * caches it.
+     *
+     * @param datasetVersion
+     *            The version of the impulse response dataset
+     * @param analysisTimeIndex
+     *            The index of the Analysis Time Horizontal Zoom choice
+     * @param smoothingOctaveDivider
+     *            The octave divider of the Smoothing choice, or zero for none
+     * @param weighting
+     *            The frequency weighting of the curve
+     * @param frequencyResponseComputer
+     *            The function that computes the curve for the key
+     * @return The cached or computed curve
+     */
+    public FrequencyResponse get( final long datasetVersion,
+                                  final int analysisTimeIndex,
+                                  final int smoothingOctaveDivider,
+                                  final FrequencyWeighting weighting,
+                                  final Function< FrequencyResponseKey, FrequencyResponse > frequencyResponseComputer ) {
+        return get( new FrequencyResponseKey( datasetVersion,
+                                              analysisTimeIndex,
+                                              smoothingOctaveDivider,
+                                              weighting ),
+                    frequencyResponseComputer );
+    }
+
+    public void put( final FrequencyResponseKey frequencyResponseKey,
+                     final FrequencyResponse frequencyResponse ) {
+        _frequencyResponses.put( frequencyResponseKey, frequencyResponse );
+    }
+
+    /**
+     * Removes the curves of all dataset versions before the given one, to
+     * free their memory right away rather than letting them age out.
+     *
+     * @param datasetVersion
+     *            The oldest dataset version to keep
+     */
+    public void removeDatasetVersionsBefore( final long datasetVersion ) {
+        _frequencyResponses
+                .removeIf( frequencyResponseKey -> frequencyResponseKey
+                        .getDatasetVersion() < datasetVersion );
+    }
+
+    /**
+     * Removes all cached curves.
+     */
+    public void clear() {
+        _frequencyResponses.clear();
+    }
+
+    public long getMaximumBytes() {
+        return _frequencyResponses.getMaximumWeight();
+    }
+
+    public void setMaximumBytes( final long maximumBytes ) {
+        _frequencyResponses.setMaximumWeight( maximumBytes );
+    }
+
+    public long getCachedBytes() {
+        return _frequencyResponses.getWeight();
+    }
+
+    public int getCachedFrequencyResponseCount() {
+        return _frequencyResponses.size();
+    }
+
+    public long getHitCount() {
+        return _frequencyResponses.getHitCount();
+    }
+
+    public long getMissCount() {
+        return _frequencyResponses.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return _frequencyResponses.getEvictionCount();
+    }
+
+    public void resetCounts() {
+        _frequencyResponses.resetCounts();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.analysis;
+
+import com.mhschmieder.fxacousticscontrols.model.FrequencyWeighting;
+
+/**
+ * An immutable key for one cached frequency response curve, which captures
+ * everything that the curve is derived from.
+ */
+public final class FrequencyResponseKey {
+
+    private final long               _datasetVersion;
+    private final int                _analysisTimeIndex;
+    private final int                _smoothingOctaveDivider;
+    private final FrequencyWeighting _weighting;
+    private final int                _hashCode;
+
+    /**
+     * Constructs a frequency response key.
+     *
+     * @param datasetVersion
+     *            The version of the impulse response dataset, which the caller
+     *            bumps whenever the measured or predicted data changes
+     * @param analysisTimeIndex
+     *            The index of the Analysis Time Horizontal Zoom choice
+     * @param smoothingOctaveDivider
+     *            The octave divider of the Smoothing choice, or zero for none
+     * @param weighting
+     *            The frequency weighting of the curve
+     */
+    public FrequencyResponseKey( final long datasetVersion,
+                                 final int analysisTimeIndex,
+                                 final int smoothingOctaveDivider,
+                                 final FrequencyWeighting weighting ) {
+        _datasetVersion = datasetVersion;
+        _analysisTimeIndex = analysisTimeIndex;
+        _smoothingOctaveDivider = smoothingOctaveDivider;
+        _weighting = weighting;
+
+        // Keys are hashed on every lookup, so compute the hash just once.
+        int hashCode = Long.hashCode( datasetVersion );
+        hashCode = ( 31 * hashCode ) + analysisTimeIndex;
+        hashCode = ( 31 * hashCode ) + smoothingOctaveDivider;
+        hashCode = ( 31 * hashCode ) + weighting.hashCode();
+        _hashCode = hashCode;
+    }
+
+    public long getDatasetVersion() {
+        return _datasetVersion;
+    }
+
+    public int getAnalysisTimeIndex() {
+        return _analysisTimeIndex;
+    }
+
+    public int getSmoothingOctaveDivider() {
+        return _smoothingOctaveDivider;
+    }
+
+    public FrequencyWeighting getWeighting() {
+        return _weighting;
+    }
+
+    @Override
+    public boolean equals( final Object other ) {
+        if ( this == other ) {
+            return true;
+        }
+        if ( !( other instanceof FrequencyResponseKey ) ) {
+            return false;
+        }
+
+        final FrequencyResponseKey otherKey = ( FrequencyResponseKey ) other;
+        return ( _datasetVersion == otherKey._datasetVersion )
+                && ( _analysisTimeIndex == otherKey._analysisTimeIndex )
+                && ( _smoothingOctaveDivider == otherKey._smoothingOctaveDivider )
+                && ( _weighting == otherKey._weighting );
+    }
+
+    @Override
+    public int hashCode() {
+        return _hashCode;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.analysis;
+
+import com.mhschmieder.fxacousticscontrols.action.AnalysisTimeHorizontalZoomChoices;
+
+/**
+ * A gated FFT engine, which converts an impulse response to a frequency
+ * response through the time gate of an Analysis Time zoom choice.
+ * <p>
+ * The shared gates and FFT plans are looked up once per zoom choice for the
+ * sample rate of the engine, and the work buffers are allocated once per FFT
+ * size, so that switching between zoom choices that were already used, such
+ * as between the 28 ms and 280 ms choices on a live trace, allocates nothing
+ * and reuses the window tables and twiddle factors.
+ * <p>
+ * An engine is not thread-safe; use one engine per thread. The shared gates
+ * and plans are immutable, so engines on different threads share them.
+ */
+public final class GatedFftEngine {
+
+    // The number of distinct power of two FFT sizes.
+    private static final int FFT_SIZE_COUNT = Integer.SIZE;
+
+    // The sample rate of the impulse responses, in Hertz.
+    private final double             _sampleRate;
+
+    // The gates of the zoom choices, looked up on first use.
+    private final AnalysisTimeGate[] _gates;
+
+    // The work buffers, per power of two FFT size, allocated on first use.
+    private final double[][]         _realBuffers;
+    private final double[][]         _imaginaryBuffers;
+
+    public GatedFftEngine( final double sampleRate ) {
+        if ( sampleRate <= 0.0d ) {
+            throw new IllegalArgumentException( "Sample rate must be positive: " + sampleRate ); //$NON-NLS-1$
+        }
+
+        _sampleRate = sampleRate;
+        _gates = new AnalysisTimeGate[ AnalysisTimeHorizontalZoomChoices
+                .getAnalysisTimeChoiceCount() ];
+        _realBuffers = new double[ FFT_SIZE_COUNT ][];
+        _imaginaryBuffers = new double[ FFT_SIZE_COUNT ][];
+    }
+
+    public double getSampleRate() {
+        return _sampleRate;
+    }
+
+    /**
+     * Returns the gate of an Analysis Time zoom choice, at the sample rate of
+     * this engine.
+     *
+     * @param analysisTimeIndex
+     *            The index of the Analysis Time Horizontal Zoom choice
+     * @return The gate of the zoom choice
+     */
+    public AnalysisTimeGate getGate( final int analysisTimeIndex ) {
+        final int gateIndex = ( ( analysisTimeIndex >= 0 )
+                && ( analysisTimeIndex < _gates.length ) )
+                    ? analysisTimeIndex
+                    : AnalysisTimeHorizontalZoomChoices.ZOOM_DEFAULT;
+        AnalysisTimeGate gate = _gates[ gateIndex ];
+        if ( gate == null ) {
+            gate = AnalysisTimeGate.getInstance( _sampleRate, gateIndex );
+            _gates[ gateIndex ] = gate;
+        }
+        return gate;
+    }
+
+    /**
+     * Returns the number of frequency bins that a transform through the gate
+     * of an Analysis Time zoom choice produces.
+     *
+     * @param analysisTimeIndex
+     *            The index of the Analysis Time Horizontal Zoom choice
+     * @return The number of frequency bins, from DC to the Nyquist frequency
+     */
+    public int getBinCount( final int analysisTimeIndex ) {
+        return getGate( analysisTimeIndex ).getBinCount();
+    }
+
+    /**
+     * Converts an impulse response to a frequency response, through the gate
+     * of an Analysis Time zoom choice.
+     *
+     * @param impulseResponse
+     *            The impulse response, at the sample rate of this engine
+     * @param zeroSampleIndex
+     *            The index of the sample at time zero, where the gate starts
+     * @param analysisTimeIndex
+     *            The index of the Analysis Time Horizontal Zoom choice
+     * @param real
+     *            The array to write the real part of each frequency bin to,
+     *            which must hold at least as many values as there are bins
+     * @param imaginary
+     *            The array to write the imaginary part of each frequency bin
+     *            to, which must hold at least as many values as there are bins
+     * @return The gate that was used, for the bin frequencies
+     */
+    public AnalysisTimeGate transform( final float[] impulseResponse,
+                                       final int zeroSampleIndex,
+                                       final int analysisTimeIndex,
+                                       final double[] real,
+                                       final double[] imaginary ) {
+        final AnalysisTimeGate gate = getGate( analysisTimeIndex );
+        final int binCount = gate.getBinCount();
+        if ( ( real.length < binCount ) || ( imaginary.length < binCount ) ) {
+            throw new IllegalArgumentException( "Output arrays are smaller than the bin count " //$NON-NLS-1$
+                    + binCount );
+        }
+
+        final int fftSize = gate.getFftSize();
+        final int bufferIndex = Integer.numberOfTrailingZeros( fftSize );
+        double[] realBuffer = _realBuffers[ bufferIndex ];
+        double[] imaginaryBuffer = _imaginaryBuffers[ bufferIndex ];
+        if ( realBuffer == null ) {
+            realBuffer = new double[ fftSize ];
+            imaginaryBuffer = new double[ fftSize ];
+            _realBuffers[ bufferIndex ] = realBuffer;
+            _imaginaryBuffers[ bufferIndex ] = imaginaryBuffer;
+        }
+
+        gate.apply( impulseResponse, zeroSampleIndex, realBuffer, imaginaryBuffer );
+        gate.getFftPlan().transform( realBuffer, imaginaryBuffer );
+
+        System.arraycopy( realBuffer, 0, real, 0, binCount );
+        System.arraycopy( imaginaryBuffer, 0, imaginary, 0, binCount );
+
+        return gate;
+    }
+
+    /**
+     * Releases the work buffers, such as when the engine is idle for a while;
+     * they are allocated again when next needed.
+     */
+    public void releaseBuffers() {
+        for ( int bufferIndex = 0; bufferIndex < FFT_SIZE_COUNT; bufferIndex++ ) {
+            _realBuffers[ bufferIndex ] = null;
+            _imaginaryBuffers[ bufferIndex ] = null;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.analysis;
+
+import com.mhschmieder.fxacousticscontrols.action.AnalysisTimeHorizontalZoomChoices;
+
+/**
+ * A multi-resolution min/max decimation pyramid for one time-domain trace,
+ * such as an impulse response, so that a plot draws at most two points per
+ * pixel column at any Analysis Time zoom, in time proportional to the plot
+ * width rather than to the number of samples in the span.
+ * <p>
+ * Each level halves the number of buckets of the level below it, and keeps
+ * the minimum and maximum sample of each bucket; level zero is the trace
+ * itself. A pixel column is drawn from the coarsest level whose buckets are
+ * no wider than half a column, so it combines at most a handful of buckets,
+ * and the peaks are never lost to aliasing as they are with plain
+ * subsampling.
+ * <p>
+ * The pyramid is immutable once built, and takes about twice the memory of
+ * the trace itself.
+ */
+public final class MinMaxDecimationPyramid {
+
+    // The sample rate of the trace, in Hertz.
+    private final double    _sampleRate;
+
+    // The number of samples in the trace.
+    private final int       _sampleCount;
+
+    // The minimum and maximum of each bucket, per level; level zero shares the
+    // trace for both.
+    private final float[][] _minimums;
+    private final float[][] _maximums;
+
+    /**
+     * Builds the pyramid for a trace, in a single pass per level.
+     *
+     * @param samples
+     *            The samples of the trace, which are not copied and must not
+     *            be changed afterwards
+     * @param sampleRate
+     *            The sample rate of the trace, in Hertz
+     */
+    public MinMaxDecimationPyramid( final float[] samples, final double sampleRate ) {
+        if ( sampleRate <= 0.0d ) {
+            throw new IllegalArgumentException( "Sample rate must be positive: " + sampleRate ); //$NON-NLS-1$
+        }
+
+        _sampleRate = sampleRate;
+        _sampleCount = samples.length;
+
+        int levelCount = 1;
+        for ( int length = samples.length; length > 1; length = ( length + 1 ) >>> 1 ) {
+            levelCount++;
+        }
+
+        _minimums = new float[ levelCount ][];
+        _maximums = new float[ levelCount ][];
+        _minimums[ 0 ] = samples;
+        _maximums[ 0 ] = samples;
+        for ( int level = 1; level < levelCount; level++ ) {
+            final float[] lowerMinimums = _minimums[ level - 1 ];
+            final float[] lowerMaximums = _maximums[ level - 1 ];
+            final int length = ( lowerMinimums.length + 1 ) >>> 1;
+            final float[] minimums = new float[ length ];
+            final float[] maximums = new float[ length ];
+            for ( int i = 0; i < length; i++ ) {
+                final int j = i << 1;
+                final int k = Math.min( j + 1, lowerMinimums.length - 1 );
+                minimums[ i ] = Math.min( lowerMinimums[ j ], lowerMinimums[ k ] );
+                maximums[ i ] = Math.max( lowerMaximums[ j ], lowerMaximums[ k ] );
+            }
+            _minimums[ level ] = minimums;
+            _maximums[ level ] = maximums;
+        }
+    }
+
+    public double getSampleRate() {
+        return _sampleRate;
+    }
+
+    public int getSampleCount() {
+        return _sampleCount;
+    }
+
+    public int getLevelCount() {
+        return _minimums.length;
+    }
+
+    /**
+     * Returns the number of samples that span an Analysis Time zoom choice,
+     * which covers plus and minus its edge.
+     *
+     * @param analysisTimeIndex
+     *            The index of the Analysis Time Horizontal Zoom choice
+     * @return The number of samples in the span of the zoom choice
+     */
+    public int getSpanSampleCount( final int analysisTimeIndex ) {
+        final int analysisTimeEdgeMs = AnalysisTimeHorizontalZoomChoices
+                .getAnalysisTimeEdgeMs( analysisTimeIndex );
+        return ( int ) Math.round( ( 2.0d * analysisTimeEdgeMs * _sampleRate ) / 1000.0d );
+    }
+
+    /**
+     * Returns the level of the pyramid to draw an Analysis Time zoom choice
+     * from, at the given plot width.
+     *
+     * @param analysisTimeIndex
+     *            The index of the Analysis Time Horizontal Zoom choice
+     * @param pixelWidth
+     *            The width of the plot, in pixels
+     * @return The level of the pyramid to draw from
+     */
+    public int getLevel( final int analysisTimeIndex, final int pixelWidth ) {
+        return getLevelForSpan( getSpanSampleCount( analysisTimeIndex ), pixelWidth );
+    }
+
+    // Get the coarsest level whose buckets are no wider than half a column.
+    private int getLevelForSpan( final int spanSampleCount, final int pixelWidth ) {
+        final long samplesPerHalfPixel = spanSampleCount / ( 2L * Math.max( 1, pixelWidth ) );
+        int level = 0;
+        while ( ( level + 1 < _minimums.length ) && ( ( 2L << level ) <= samplesPerHalfPixel ) ) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Decimates the span of an Analysis Time zoom choice, which covers plus
+     * and minus its edge around time zero, to a minimum and a maximum per
+     * pixel column.
+     *
+     * @param analysisTimeIndex
+     *            The index of the Analysis Time Horizontal Zoom choice
+     * @param zeroSampleIndex
+     *            The index of the sample at time zero, which is the center of
+     *            the span
+     * @param pixelWidth
+     *            The width of the plot, in pixels
+     * @param minimums
+     *            The array to write the minimum of each pixel column to, which
+     *            must hold at least as many values as the plot width
+     * @param maximums
+     *            The array to write the maximum of each pixel column to, which
+     *            must hold at least as many values as the plot width
+     */
+    public void decimate( final int analysisTimeIndex,
+                          final int zeroSampleIndex,
+                          final int pixelWidth,
+                          final float[] minimums,
+                          final float[] maximums ) {
+        final int spanSampleCount = getSpanSampleCount( analysisTimeIndex );
+        decimateSpan( zeroSampleIndex - ( spanSampleCount / 2 ),
+                      spanSampleCount,
+                      pixelWidth,
+                      minimums,
+                      maximums );
+    }
+
+    /**
+     * Decimates a span of the trace to a minimum and a maximum per pixel
+     * column. Columns that fall outside of the trace are set to NaN, so that
+     * plots can leave them out.
+     *
+     * @param startSampleIndex
+     *            The index of the first sample of the span, which may be
+     *            negative
+     * @param spanSampleCount
+     *            The number of samples in the span
+     * @param pixelWidth
+     *            The width of the plot, in pixels
+     * @param minimums
+     *            The array to write the minimum of each pixel column to, which
+     *            must hold at least as many values as the plot width
+     * @param maximums
+     *            The array to write the maximum of each pixel column to, which
+     *            must hold at least as many values as the plot width
+     */
+    public void decimateSpan( final int startSampleIndex,
+                              final int spanSampleCount,
+                              final int pixelWidth,
+                              final float[] minimums,
+                              final float[] maximums ) {
+        if ( ( minimums.length < pixelWidth ) || ( maximums.length < pixelWidth ) ) {
+            throw new IllegalArgumentException( "Output arrays are smaller than the plot width" ); //$NON-NLS-1$
+        }
+
+        final int level = getLevelForSpan( spanSampleCount, pixelWidth );
+        final float[] levelMinimums = _minimums[ level ];
+        final float[] levelMaximums = _maximums[ level ];
+        final double samplesPerPixel = ( double ) spanSampleCount / Math.max( 1, pixelWidth );
+
+        for ( int pixel = 0; pixel < pixelWidth; pixel++ ) {
+            // Find the samples of this column, which is at least the nearest
+            // sample when zoomed in past one sample per column.
+            final long fromSample = startSampleIndex
+                    + ( long ) Math.floor( pixel * samplesPerPixel );
+            final long toSample = Math.max( fromSample + 1L,
+                                            startSampleIndex + ( long ) Math
+                                                    .floor( ( pixel + 1 ) * samplesPerPixel ) );
+            if ( ( toSample <= 0L ) || ( fromSample >= _sampleCount ) ) {
+                minimums[ pixel ] = Float.NaN;
+                maximums[ pixel ] = Float.NaN;
+                continue;
+            }
+
+            // Combine the buckets that overlap the samples of this column.
+            final int fromBucket = ( int ) ( Math.max( 0L, fromSample ) >>> level );
+            final int toBucket = ( int ) ( ( Math.min( _sampleCount, toSample ) - 1L ) >>> level );
+            float minimum = levelMinimums[ fromBucket ];
+            float maximum = levelMaximums[ fromBucket ];
+            for ( int bucket = fromBucket + 1; bucket <= toBucket; bucket++ ) {
+                minimum = Math.min( minimum, levelMinimums[ bucket ] );
+                maximum = Math.max( maximum, levelMaximums[ bucket ] );
+            }
+            minimums[ pixel ] = minimum;
+            maximums[ pixel ] = maximum;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * A thread-safe, least-recently-used cache that is bounded by the total
+ * weight of its values, such as their size in bytes, rather than by their
+ * count.
+ * <p>
+ * Entries are kept in access order, so that the least recently used entries
+ * are evicted first whenever a new entry takes the total weight over budget.
+ * Hits, misses and evictions are counted, for tuning the budget, and an
+ * optional eviction listener is told about each evicted entry, such as to
+ * release the resources held by its value.
+ *
+ * @param <K>
+ *            The key type, which must have value semantics
+ * @param <V>
+ *            The value type
+ */
+public final class WeightedLruCache< K, V > {
+
+    // The entries, in access order from least to most recently used.
+    private final LinkedHashMap< K, V >              _entries;
+
+    // The function that computes the weight of a value, such as its size in
+    // bytes.
+    private final ToLongFunction< V >                _weigher;
+
+    // The listener that is told about each evicted entry.
+    private final BiConsumer< ? super K, ? super V > _evictionListener;
+
+    // The maximum total weight of all values, and their current total weight.
+    private long                                     _maximumWeight;
+    private long                                     _weight;
+
+    // The usage counters.
+    private long                                     _hitCount;
+    private long                                     _missCount;
+    private long                                     _evictionCount;
+
+    /**
+     * Constructs an empty cache with the given weight budget.
+     *
+     * @param maximumWeight
+     *            The maximum total weight of all values
+     * @param weigher
+     *            The function that computes the weight of a value
+     */
+    public WeightedLruCache( final long maximumWeight, final ToLongFunction< V > weigher ) {
+        this( maximumWeight, weigher, ( key, value ) -> {} );
+    }
+
+    /**
+     * Constructs an empty cache with the given weight budget, which tells the
+     * given listener about each entry that it evicts to stay within budget.
+     * <p>
+     * The listener is called while the cache is locked, so it must not call
+     * back into the cache. It is also told about previous values that are
+     * displaced by {@link #put(Object, Object)}, as the caller has no other
+     * handle on them. Entries that are removed or cleared explicitly are not
+     * evictions, so they are left to the caller.
+     *
+     * @param maximumWeight
+     *            The maximum total weight of all values
+     * @param weigher
+     *            The function that computes the weight of a value
+     * @param evictionListener
+     *            The listener to tell about each evicted entry
+     */
+    public WeightedLruCache( final long maximumWeight,
+                             final ToLongFunction< V > weigher,
+                             final BiConsumer< ? super K, ? super V > evictionListener ) {
+        _entries = new LinkedHashMap<>( 16, 0.75f, true );
+        _weigher = weigher;
+        _evictionListener = evictionListener;
+        _maximumWeight = maximumWeight;
+        _weight = 0L;
+        _hitCount = 0L;
+        _missCount = 0L;
+        _evictionCount = 0L;
+    }
+
+    /**
+     * Returns the cached value for the given key, marking it as most recently
+     * used.
+     *
+     * @param key
+     *            The key to look up
+     * @return The cached value, or null if it is not cached
+     */
+    public synchronized V get( final K key ) {
+        final V value = _entries.get( key );
+        if ( value != null ) {
+            _hitCount++;
+        }
+        else {
+            _missCount++;
+        }
+        return value;
+    }
+
+    /**
+     * Caches the value for the given key, replacing any previous value, and
+     * then evicts the least recently used entries until the cache is back
+     * within its weight budget. A previous value that is replaced is passed to
+     * the eviction listener, unless it is the same value.
+     * <p>
+     * A value that is heavier than the entire budget is not cached at all, in
+     * which case the previous value is evicted, as it is now stale, and the
+     * new value remains owned by the caller, who must release it when done.
+     *
+     * @param key
+     *            The key to cache the value for
+     * @param value
+     *            The value to cache
+     * @return {@code true} if the value was cached, and is therefore owned by
+     *         the cache, or {@code false} if it was too heavy to cache
+     */
+    public synchronized boolean put( final K key, final V value ) {
+        final long valueWeight = _weigher.applyAsLong( value );
+        if ( valueWeight > _maximumWeight ) {
+            final V previousValue = _entries.remove( key );
+            if ( previousValue != null ) {
+                _weight -= _weigher.applyAsLong( previousValue );
+                if ( previousValue != value ) {
+                    _evictionCount++;
+                    _evictionListener.accept( key, previousValue );
+                }
+            }
+            return false;
+        }
+
+        final V previousValue = _entries.put( key, value );
+        if ( previousValue != null ) {
+            _weight -= _weigher.applyAsLong( previousValue );
+        }
+        _weight += valueWeight;
+
+        // Release the replaced value, unless the same value was put again.
+        if ( ( previousValue != null ) && ( previousValue != value ) ) {
+            _evictionListener.accept( key, previousValue );
+        }
+
+        evictToWeight( _maximumWeight );
+
+        return true;
+    }
+
+    /**
+     * Removes the value for the given key, if it is cached. This does not
+     * count as an eviction.
+     *
+     * @param key
+     *            The key to remove
+     * @return The removed value, or null if it was not cached
+     */
+    public synchronized V remove( final K key ) {
+        final V value = _entries.remove( key );
+        if ( value != null ) {
+            _weight -= _weigher.applyAsLong( value );
+        }
+        return value;
+    }
+
+    /**
+     * Removes all entries whose keys match the given predicate, such as those
+     * for a superseded data version. This does not count as evictions.
+     *
+     * @param keyPredicate
+     *            The predicate for the keys to remove
+     */
+    public synchronized void removeIf( final Predicate< ? super K > keyPredicate ) {
+        final Iterator< Map.Entry< K, V > > iterator = _entries.entrySet().iterator();
+        while ( iterator.hasNext() ) {
+            final Map.Entry< K, V > entry = iterator.next();
+            if ( keyPredicate.test( entry.getKey() ) ) {
+                _weight -= _weigher.applyAsLong( entry.getValue() );
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Performs the given action on each entry, from the least to the most
+     * recently used, without changing the order or the usage counters.
+     *
+     * @param action
+     *            The action to perform on each entry
+     */
+    public synchronized void forEach( final BiConsumer< ? super K, ? super V > action ) {
+        for ( final Map.Entry< K, V > entry : _entries.entrySet() ) {
+            action.accept( entry.getKey(), entry.getValue() );
+        }
+    }
+
+    /**
+     * Removes all entries. This does not count as evictions.
+     */
+    public synchronized void clear() {
+        _entries.clear();
+        _weight = 0L;
+    }
+
+    // Evict the least recently used entries until within the given weight.
+    private void evictToWeight( final long maximumWeight ) {
+        final Iterator< Map.Entry< K, V > > iterator = _entries.entrySet().iterator();
+        while ( ( _weight > maximumWeight ) && iterator.hasNext() ) {
+            final Map.Entry< K, V > entry = iterator.next();
+            _weight -= _weigher.applyAsLong( entry.getValue() );
+            iterator.remove();
+            _evictionCount++;
+            _evictionListener.accept( entry.getKey(), entry.getValue() );
+        }
+    }
+
+    public synchronized long getMaximumWeight() {
+        return _maximumWeight;
+    }
+
+    /**
+     * Sets the weight budget, evicting the least recently used entries right
+     * away if the cache is now over budget.
+     *
+     * @param maximumWeight
+     *            The maximum total weight of all values
+     */
+    public synchronized void setMaximumWeight( final long maximumWeight ) {
+        _maximumWeight = maximumWeight;
+        evictToWeight( maximumWeight );
+    }
+
+    public synchronized long getWeight() {
+        return _weight;
+    }
+
+    public synchronized int size() {
+        return _entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return _hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return _missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return _evictionCount;
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters to zero.
+     */
+    public synchronized void resetCounts() {
+        _hitCount = 0L;
+        _missCount = 0L;
+        _evictionCount = 0L;
+    }
+}
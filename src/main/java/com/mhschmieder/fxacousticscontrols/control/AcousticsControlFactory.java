@@ -42,6 +42,14 @@ public final class AcousticsControlFactory {
     // Default SPL range, for best "out of box" experience.
     public static final int SPL_RANGE_DB_DEFAULT = 42;
 
+    // SPL range limits, for the regular and extended ranges, and the
+    // increment that all SPL ranges snap to.
+    public static final int SPL_RANGE_DB_MINIMUM = 42;
+    public static final int SPL_RANGE_DB_MAXIMUM = 72;
+    public static final int SPL_RANGE_DB_MINIMUM_EXTENDED = 3;
+    public static final int SPL_RANGE_DB_MAXIMUM_EXTENDED = 120;
+    public static final int SPL_RANGE_DB_INCREMENT = 3;
+
     // Default Dithering Amount, for best "out of box" experience.
     public static final double DITHERING_AMOUNT_DEFAULT = 8.0d;
 
@@ -54,9 +62,13 @@ public final class AcousticsControlFactory {
             final ClientProperties clientProperties,
             final boolean applyToolkitCss,
             final boolean useExtendedRange ) {
-        final int minimumSplRangeDb = useExtendedRange ? 3 : 42;
-        final int maximumSplRangeDb = useExtendedRange ? 120 : 72;
-        final int splRangeIncrementDb = 3;
+        final int minimumSplRangeDb = useExtendedRange
+            ? SPL_RANGE_DB_MINIMUM_EXTENDED
+            : SPL_RANGE_DB_MINIMUM;
+        final int maximumSplRangeDb = useExtendedRange
+            ? SPL_RANGE_DB_MAXIMUM_EXTENDED
+            : SPL_RANGE_DB_MAXIMUM;
+        final int splRangeIncrementDb = SPL_RANGE_DB_INCREMENT;
         final int defaultSplRangeDb = SPL_RANGE_DB_DEFAULT;
 
         final String numericFormatterPattern = "##0";
@@ -30,27 +30,79 @@
  */
 package com.mhschmieder.fxacousticscontrols.control;
 
+import com.mhschmieder.fxacousticscontrols.model.CenterFrequencyTable;
+import com.mhschmieder.fxacousticscontrols.model.FrequencyLabelFormatter;
+import com.mhschmieder.fxacousticscontrols.model.FrequencyRangeModel;
+import com.mhschmieder.fxacousticscontrols.model.OctaveRange;
 import com.mhschmieder.fxcontrols.control.DoubleSelector;
-import com.mhschmieder.jacoustics.CenterFrequencies;
-import com.mhschmieder.jacoustics.FrequencyRange;
-import com.mhschmieder.jacoustics.FrequencySignalUtilities;
 import com.mhschmieder.jacoustics.RelativeBandwidth;
 import com.mhschmieder.jcommons.util.ClientProperties;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import org.apache.commons.math3.util.FastMath;
+import javafx.scene.input.KeyEvent;
 
-import java.util.TreeSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 public final class CenterFrequencySelector extends DoubleSelector {
+
+    // Maximum number of rows to show at once in a narrow band drop-list, as
+    // the finest bands and the full span lists otherwise would be far too tall
+    // and would defeat the virtualized list.
+    public static final int MAXIMUM_VISIBLE_ROW_COUNT_NARROW_BAND = 24;
+
+    // Delay after which a new keystroke starts a new type-ahead search.
+    private static final long TYPE_AHEAD_TIMEOUT_NANOS = 1000000000L;
     
-    private final int _startIndexForOneOctave;
-    private final int _startIndexForThirdOctave;
+    // The toolkit-independent model that resolves the band selections.
+    private final FrequencyRangeModel                                   _frequencyRangeModel;
+
+    // Shared formatter for the labels, matching those of the band tables.
+    private final FrequencyLabelFormatter                               _frequencyLabelFormatter;
+
+    // Cache the band table that currently backs the drop-list.
+    private CenterFrequencyTable                                        _centerFrequencyTable;
+
+    // Flag for whether to update the drop-list in place with minimal changes,
+    // rather than replacing the entire list.
+    private boolean                                                     _incrementalListUpdates;
+
+    // The drop-lists of the band tables already shown, for replacing the
+    // entire list without copying the labels again.
+    // NOTE: Band tables are shared and immutable, so they key by identity.
+    private final Map< CenterFrequencyTable, ObservableList< String > > _centerFrequencyLists;
+
+    // Flag for whether narrow bands are shown from 10 Hz to 20 kHz in a single
+    // list, rather than one Octave Range at a time.
+    private boolean                                                     _fullSpan;
+
+    // Keystrokes typed so far for the type-ahead search, and when the last
+    // one was typed.
+    private final StringBuilder                                         _typeAheadPrefix;
+    private long                                                        _typeAheadTimeNanos;
+
+    // The nominal Center Frequency and band index of the current selection,
+    // tracked from the band table rather than from the display strings.
+    private final ReadOnlyDoubleWrapper                                 _centerFrequencyValue;
+    private final ReadOnlyIntegerWrapper                                _centerFrequencyIndex;
 
     public CenterFrequencySelector( final ClientProperties pClientProperties,
                                     final boolean applyToolkitCss,
                                     final int startIndexForOneOctave,
                                     final int startIndexForThirdOctave ) {
+        this( pClientProperties,
+              applyToolkitCss,
+              new FrequencyRangeModel( false, startIndexForOneOctave, startIndexForThirdOctave ) );
+    }
+
+    public CenterFrequencySelector( final ClientProperties pClientProperties,
+                                    final boolean applyToolkitCss,
+                                    final FrequencyRangeModel frequencyRangeModel ) {
         // Always call the superclass constructor first!
         super( pClientProperties,
                0,
@@ -63,21 +115,121 @@ public final class CenterFrequencySelector extends DoubleSelector {
                false,
                false );
         
-        _startIndexForOneOctave = startIndexForOneOctave;
-        _startIndexForThirdOctave = startIndexForThirdOctave;
+        _frequencyRangeModel = frequencyRangeModel;
+        _frequencyLabelFormatter = FrequencyLabelFormatter.getInstance( Locale.US );
+        _incrementalListUpdates = false;
+        _centerFrequencyLists = new HashMap<>();
+        _fullSpan = false;
+        _typeAheadPrefix = new StringBuilder();
+        _typeAheadTimeNanos = 0L;
+        _centerFrequencyValue = new ReadOnlyDoubleWrapper( Double.NaN );
+        _centerFrequencyIndex = new ReadOnlyIntegerWrapper( -1 );
 
         try {
             initComboBox();
+            initTypeAhead();
+            initCenterFrequencyProperties();
         }
         catch ( final Exception ex ) {
             ex.printStackTrace();
         }
     }
 
+    public boolean isIncrementalListUpdates() {
+        return _incrementalListUpdates;
+    }
+
+    /**
+     * Sets whether band changes update the drop-list in place with the minimal
+     * changes to match the new band table, so that switching back to a band
+     * table that is already displayed leaves the list cells untouched.
+     *
+     * @param incrementalListUpdates
+     *            Flag for whether to update the drop-list in place
+     */
+    public void setIncrementalListUpdates( final boolean incrementalListUpdates ) {
+        _incrementalListUpdates = incrementalListUpdates;
+
+        // The list currently shown may be a cached one, which must not be
+        // updated in place, so it is dropped from the cache.
+        if ( incrementalListUpdates ) {
+            _centerFrequencyLists.clear();
+        }
+    }
+
+    public boolean isFullSpan() {
+        return _fullSpan;
+    }
+
+    /**
+     * Sets whether narrow bands are shown from 10 Hz to 20 kHz in a single
+     * scrolling list, with type-ahead to jump to a frequency, rather than one
+     * Octave Range at a time. Takes effect on the next band update.
+     *
+     * @param fullSpan
+     *            Flag for whether to show all narrow bands in a single list
+     */
+    public void setFullSpan( final boolean fullSpan ) {
+        _fullSpan = fullSpan;
+    }
+
     public String getCenterFrequency() {
         return getValue();
     }
 
+    /**
+     * Returns the nominal Center Frequency of the current selection, from the
+     * backing band table rather than by parsing the selected label.
+     *
+     * @return The nominal Center Frequency, or NaN if nothing in the list is
+     *         selected
+     */
+    public double getCenterFrequencyValue() {
+        final int selectedIndex = getSelectionModel().getSelectedIndex();
+        return ( ( _centerFrequencyTable != null ) && ( selectedIndex >= 0 )
+                && ( selectedIndex < _centerFrequencyTable.size() ) )
+                    ? _centerFrequencyTable.getCenterFrequency( selectedIndex )
+                    : Double.NaN;
+    }
+
+    public void setCenterFrequencyValue( final double centerFrequency ) {
+        // Snap to the nearest nominal Center Frequency in the current list.
+        if ( _centerFrequencyTable != null ) {
+            setCenterFrequencyIndex( _centerFrequencyTable.getNearestIndex( centerFrequency ) );
+        }
+    }
+
+    /**
+     * Returns the index of the current selection in the backing band table.
+     *
+     * @return The index of the selected band, or -1 if nothing is selected
+     */
+    public int getCenterFrequencyIndex() {
+        return getSelectionModel().getSelectedIndex();
+    }
+
+    /**
+     * Selects the band at the given index in the backing band table. Indices
+     * outside the current table are ignored.
+     *
+     * @param centerFrequencyIndex
+     *            The index of the band to select
+     */
+    public void setCenterFrequencyIndex( final int centerFrequencyIndex ) {
+        if ( ( _centerFrequencyTable != null ) && ( centerFrequencyIndex >= 0 )
+                && ( centerFrequencyIndex < _centerFrequencyTable.size() ) ) {
+            getSelectionModel().select( centerFrequencyIndex );
+        }
+    }
+
+    public ReadOnlyDoubleProperty centerFrequencyValueProperty() {
+        return _centerFrequencyValue.getReadOnlyProperty();
+    }
+
+    public ReadOnlyIntegerProperty centerFrequencyIndexProperty() {
+        return _centerFrequencyIndex.getReadOnlyProperty();
+    }
+
     private void initComboBox() throws Exception {
         // NOTE: Groupings are turned off, and we force US locale for now,
         // due to specifics about the implementation of the pattern-matcher.
@@ -99,154 +251,198 @@ public final class CenterFrequencySelector extends DoubleSelector {
         // Frequencies, selected at 4 kHz.
         updateCenterFrequencyForBandwidthAndOctave(
                 RelativeBandwidth.defaultValue(),
-                OctaveRangeSelector.OCTAVE_RANGE_WIDE_DEFAULT,
+                OctaveRange.WIDE,
                 4000.0d,
                 false );
     }
 
+    private void initTypeAhead() {
+        // Jump to the first band whose label starts with the numbers typed so
+        // far, which is a binary search rather than a scan of the list.
+        addEventHandler( KeyEvent.KEY_TYPED, keyEvent -> {
+            if ( !_fullSpan || ( _centerFrequencyTable == null )
+                    || !_centerFrequencyTable.isNarrowBand() ) {
+                return;
+            }
+
+            final String character = keyEvent.getCharacter();
+            if ( ( character.length() != 1 ) || ( !Character.isDigit( character.charAt( 0 ) )
+                    && ( character.charAt( 0 ) != '.' ) ) ) {
+                return;
+            }
+
+            final long typeAheadTimeNanos = System.nanoTime();
+            if ( ( typeAheadTimeNanos - _typeAheadTimeNanos ) > TYPE_AHEAD_TIMEOUT_NANOS ) {
+                _typeAheadPrefix.setLength( 0 );
+            }
+            _typeAheadTimeNanos = typeAheadTimeNanos;
+            _typeAheadPrefix.append( character );
+
+            final int bandIndex = _centerFrequencyTable
+                    .findIndexByPrefix( _typeAheadPrefix.toString() );
+            if ( bandIndex >= 0 ) {
+                getSelectionModel().select( bandIndex );
+            }
+            keyEvent.consume();
+        } );
+    }
+
+    private void initCenterFrequencyProperties() {
+        // The selected index alone misses band table switches that keep the
+        // same index, so the selected value is tracked as well.
+        getSelectionModel().selectedIndexProperty()
+                .addListener( observable -> syncCenterFrequencyProperties() );
+        valueProperty().addListener( observable -> syncCenterFrequencyProperties() );
+        syncCenterFrequencyProperties();
+    }
+
+    // Sync the typed Center Frequency properties to the current selection.
+    private void syncCenterFrequencyProperties() {
+        _centerFrequencyIndex.set( getCenterFrequencyIndex() );
+        _centerFrequencyValue.set( getCenterFrequencyValue() );
+    }
+
     public void setCenterFrequency( final String sOctaveRange,
                                     final String sCenterFrequency ) {
-        final ObservableList< String > items = getItems();
-        if ( ( sCenterFrequency != null ) && items.contains( sCenterFrequency ) ) {
-            setValue( sCenterFrequency );
+        // Look up the label in the band table, rather than scanning the list.
+        final int centerFrequencyIndex = ( _centerFrequencyTable != null )
+            ? _centerFrequencyTable.indexOfLabel( sCenterFrequency )
+            : -1;
+        if ( centerFrequencyIndex >= 0 ) {
+            setCenterFrequencyIndex( centerFrequencyIndex );
         }
         else {
-            final double centerFrequencyDefault = FrequencyRange
-                    .getNominalCenterFrequencyDefaultForOctaveRange( sOctaveRange, true );
-            final String sCenterFrequencyDefault = FrequencySignalUtilities
-                    .getFormattedFrequency( centerFrequencyDefault, _numberFormat );
+            final double centerFrequencyDefault = OctaveRange.fromLabel( sOctaveRange )
+                    .getCenterFrequencyDefault( true );
+            final String sCenterFrequencyDefault = _frequencyLabelFormatter
+                    .format( centerFrequencyDefault );
             setValue( sCenterFrequencyDefault );
         }
     }
 
+    public void setCenterFrequency( final String sOctaveRange,
+                                    final double centerFrequency ) {
+        setCenterFrequency( OctaveRange.fromLabel( sOctaveRange ), centerFrequency );
+    }
+
+    /**
+     * Selects the band nearest to the given Center Frequency in the given
+     * Octave Range, first switching the drop-list over to the band table of
+     * that Octave Range if it shows the narrow bands of another one.
+     *
+     * @param octaveRange
+     *            The Octave Range of the band; ignored for wide bands and in
+     *            full span mode, where one list spans all Octave Ranges
+     * @param centerFrequency
+     *            The requested Center Frequency, which snaps to the nearest
+     *            band, or to the default if it is out of range
+     */
+    public void setCenterFrequency( final OctaveRange octaveRange,
+                                    final double centerFrequency ) {
+        // Switch to the band table of the requested Octave Range, which also
+        // selects the nearest band in it.
+        if ( ( _centerFrequencyTable != null ) && ( octaveRange != null ) && !_fullSpan
+                && _centerFrequencyTable.isNarrowBand()
+                && ( octaveRange != _centerFrequencyTable.getOctaveRange() ) ) {
+            updateCenterFrequencyForBandwidthAndOctave( _centerFrequencyTable.getRelativeBandwidth(),
+                                                        octaveRange,
+                                                        centerFrequency,
+                                                        false );
+            return;
+        }
+
+        // Snap to the nearest nominal Center Frequency in the current list, or
+        // else to the default if it is out of range.
+        final int centerFrequencyIndex = FrequencyRangeModel
+                .resolveCenterFrequencyIndex( _centerFrequencyTable, centerFrequency );
+        if ( centerFrequencyIndex >= 0 ) {
+            setCenterFrequencyIndex( centerFrequencyIndex );
+        }
+        else {
+            setValue( resolveCenterFrequencyLabel( _centerFrequencyTable, centerFrequency ) );
+        }
+    }
+
+    public void updateCenterFrequencyForBandwidthAndOctave( final RelativeBandwidth relativeBandwidth,
+                                                            final String sOctaveRange,
+                                                            final double centerFrequency,
+                                                            final boolean preserveSelection ) {
+        updateCenterFrequencyForBandwidthAndOctave( relativeBandwidth,
+                                                    OctaveRange.fromLabel( sOctaveRange ),
+                                                    centerFrequency,
+                                                    preserveSelection );
+    }
+
     // Set the drop-list of Center Frequencies based on Relative Bandwidth.
     // TODO: Remember to narrow the range of which frequencies are shown!
-    @SuppressWarnings("nls")
     public void updateCenterFrequencyForBandwidthAndOctave( final RelativeBandwidth relativeBandwidth,
-                                                            final String sOctaveRange,
+                                                            final OctaveRange octaveRange,
                                                             final double centerFrequency,
                                                             final boolean preserveSelection ) {
-        // Start with a clean slate, as we are effectively replacing the entire
-        // list. Be careful if restoring the current selection, as there are
+        // Look up the shared table of Center Frequencies for this bandwidth
+        // and Octave Range, as the nominal values and their labels never
+        // change. Be careful if restoring the current selection, as there are
         // many edge cases that either do the wrong thing, result in a blank
         // selection field, or do not generate a callback.
-        // NOTE: Using a Tree Set forces all numbers to be in ascending order.
-        final TreeSet< Double > centerFrequencies = new TreeSet<>();
-
-        int startIndex;
-        int stopIndex;
-        boolean narrowBand = false;
-        switch ( relativeBandwidth ) {
-        case ONE_OCTAVE:
-            // Update the list of Center Frequencies to match full octave
-            // bandwidth, displaying only the valid operating range.
-            startIndex = _startIndexForOneOctave;
-            stopIndex = 15;
-            for ( int i = startIndex; i < stopIndex; i++ ) {
-                final double wideBandCenterFrequency =
-                                                     CenterFrequencies.NOMINAL_FULL_OCTAVE_CENTER_FREQUENCIES[ i ];
-                centerFrequencies.add( wideBandCenterFrequency );
-            }
-            break;
-        case THIRD_OCTAVE:
-            // Update the list of Center Frequencies to match third octave
-            // bandwidth, displaying only the valid operating range.
-            startIndex = _startIndexForThirdOctave;
-            stopIndex = 43;
-            for ( int i = startIndex; i < stopIndex; i++ ) {
-                final double wideBandCenterFrequency =
-                                                     CenterFrequencies.NOMINAL_THIRD_OCTAVE_CENTER_FREQUENCIES[ i ];
-                centerFrequencies.add( wideBandCenterFrequency );
-            }
-            break;
-        case SIXTH_OCTAVE:
-        case TWELTH_OCTAVE:
-        case TWENTYFOURTH_OCTAVE:
-        case FORTYEIGHTH_OCTAVE:
-            narrowBand = true;
-
-            final int octaveDivider = relativeBandwidth.toOctaveDivider();
-            final int startIndexAt10Hz = 10 * ( int ) FastMath.ceil( octaveDivider / 3.0d );
-
-            final int octaveOffsetFrom10Hz = FrequencySignalUtilities
-                    .getOctaveOffsetFrom10Hz( sOctaveRange );
-
-            startIndex = startIndexAt10Hz + ( octaveOffsetFrom10Hz * octaveDivider );
-            stopIndex = startIndex + octaveDivider;
-
-            // Update the list of Center Frequencies to match relative
-            // bandwidth, displaying only the valid operating range.
-            for ( int i = startIndex; i < stopIndex; i++ ) {
-                final double narrowBandCenterFrequency = FrequencySignalUtilities
-                        .getCenterFrequencyByBandNumber( i, octaveDivider );
-                centerFrequencies.add( narrowBandCenterFrequency );
-            }
-            if ( "10 kHz to 20 kHz".equals( sOctaveRange ) ) {
-                // Insert the specific 1 kHz frequencies between 10 kHz and
-                // 20 kHz in the midst of the algorithmically generated ones.
-                // In order to get the numbers in order and avoid possible
-                // duplicates between integer values and algorithmically
-                // generated values, we use a TreeSet of Double objects.
-                for ( int j = 0; j <= 10; j++ ) {
-                    final double narrowBandCenterFrequency = 10000d + ( j * 1000d );
-                    centerFrequencies.add( narrowBandCenterFrequency );
-                }
-            }
-
-            break;
-        default:
-            break;
-        }
+        final CenterFrequencyTable centerFrequencyTable = _fullSpan
+            ? _frequencyRangeModel.getFullSpanCenterFrequencyTable( relativeBandwidth )
+            : _frequencyRangeModel.getCenterFrequencyTable( relativeBandwidth, octaveRange );
+        final boolean tableChanged = centerFrequencyTable != _centerFrequencyTable;
+        _centerFrequencyTable = centerFrequencyTable;
 
         // Make sure the list displays all items without scrolling.
         // NOTE: It is best to do this dynamically with list changes, for the
         // most reliable adherence at run-time to the desired new size, or else
         // blank lines can result and the new list size not being honored.
-        setVisibleRowCount( centerFrequencies.size() );
-
-        // Look for a simple search of the exact frequency, for a cheap return.
-        boolean centerFrequencyInRange = false;
-        double centerFrequencyDefault = Double.NaN;
-        if ( centerFrequencies.contains( centerFrequency ) ) {
-            centerFrequencyInRange = true;
-            centerFrequencyDefault = centerFrequency;
-        }
-        else {
-            // Make sure it's in range, so we know to look for closest match.
-            centerFrequencyInRange = FrequencyRange
-                    .isCenterFrequencyInOctaveRange( sOctaveRange, centerFrequency );
+        // NOTE: Narrow band lists are capped so that the popup scrolls, as
+        // only the visible cells of the virtualized list are then realized.
+        if ( tableChanged || !_incrementalListUpdates ) {
+            final int visibleRowCount = centerFrequencyTable.isNarrowBand()
+                ? Math.min( centerFrequencyTable.size(), MAXIMUM_VISIBLE_ROW_COUNT_NARROW_BAND )
+                : centerFrequencyTable.size();
+            setVisibleRowCount( visibleRowCount );
         }
 
-        // Convert the numbers to formatted strings, and search for the closest
-        // match to the previous Center Frequency while doing that.
-        // TODO: Use Functional Programming and Streams API to find best match?
-        final ObservableList< String > centerFrequenciesFormatted = FXCollections
-                .observableArrayList();
-        double previousFrequencyDifference = Double.MAX_VALUE;
-        double currentFrequencyDifference = Double.MAX_VALUE;
-        for ( final Double nominalCenterFrequency : centerFrequencies ) {
-            if ( centerFrequencyInRange ) {
-                currentFrequencyDifference = FastMath.abs( nominalCenterFrequency - centerFrequency );
-                if ( currentFrequencyDifference < previousFrequencyDifference ) {
-                    centerFrequencyDefault = nominalCenterFrequency;
-                }
-                previousFrequencyDifference = currentFrequencyDifference;
-            }
+        // Resolve the closest match to the previous Center Frequency, if it
+        // is still in range, or else choose a new default.
+        final String sCenterFrequencyDefault = resolveCenterFrequencyLabel( centerFrequencyTable,
+                                                                            centerFrequency );
 
-            final String centerFrequencyFormatted = FrequencySignalUtilities
-                    .getFormattedFrequency( nominalCenterFrequency, _numberFormat );
-            centerFrequenciesFormatted.add( centerFrequencyFormatted );
+        // Either update the list in place with minimal changes, or replace the
+        // entire list, and then re-assert the current selection.
+        if ( _incrementalListUpdates ) {
+            SelectorListUtilities.updateItemsIncrementally( this,
+                                                            centerFrequencyTable.getLabels(),
+                                                            sCenterFrequencyDefault,
+                                                            preserveSelection );
+        }
+        else {
+            final ObservableList< String > centerFrequenciesFormatted = _centerFrequencyLists
+                    .computeIfAbsent( centerFrequencyTable,
+                                      table -> FXCollections
+                                              .observableArrayList( table.getLabels() ) );
+            updateValues( centerFrequenciesFormatted, sCenterFrequencyDefault, preserveSelection );
         }
 
-        // If the Center Frequency is no longer in range, choose a new default.
-        if ( !centerFrequencyInRange ) {
-            centerFrequencyDefault = FrequencyRange
-                    .getNominalCenterFrequencyDefaultForOctaveRange( sOctaveRange, narrowBand );
+        // The new band table may leave both the index and the label as is,
+        // while changing the nominal Center Frequency behind them.
+        syncCenterFrequencyProperties();
+    }
+
+    // Resolve the label of the nominal Center Frequency that is nearest to
+    // the requested Center Frequency, or the default for the Octave Range if
+    // the requested Center Frequency is out of range.
+    private String resolveCenterFrequencyLabel( final CenterFrequencyTable centerFrequencyTable,
+                                                final double centerFrequency ) {
+        // Prefer the pre-formatted label, as long as the value is in the list.
+        final int centerFrequencyIndex = FrequencyRangeModel
+                .resolveCenterFrequencyIndex( centerFrequencyTable, centerFrequency );
+        if ( centerFrequencyIndex >= 0 ) {
+            return centerFrequencyTable.getLabel( centerFrequencyIndex );
         }
 
-        // Replace the entire list, and re-assert the current selection.
-        final String sCenterFrequencyDefault = FrequencySignalUtilities
-                .getFormattedFrequency( centerFrequencyDefault, _numberFormat );
-        updateValues( centerFrequenciesFormatted, sCenterFrequencyDefault, preserveSelection );
+        final double centerFrequencyDefault = FrequencyRangeModel
+                .resolveCenterFrequency( centerFrequencyTable, centerFrequency );
+        return _frequencyLabelFormatter.format( centerFrequencyDefault );
     }
 }
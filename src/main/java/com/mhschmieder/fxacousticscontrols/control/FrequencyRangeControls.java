@@ -30,12 +30,19 @@
  */
 package com.mhschmieder.fxacousticscontrols.control;
 
+import com.mhschmieder.fxacousticscontrols.model.CenterFrequencyTable;
+import com.mhschmieder.fxacousticscontrols.model.FrequencyRangeModel;
+import com.mhschmieder.fxacousticscontrols.model.OctaveRange;
 import com.mhschmieder.fxcontrols.control.ListViewUtilities;
 import com.mhschmieder.fxcontrols.control.XComboBox;
 import com.mhschmieder.jacoustics.FrequencyRange;
-import com.mhschmieder.jacoustics.FrequencySignalUtilities;
 import com.mhschmieder.jacoustics.RelativeBandwidth;
 import com.mhschmieder.jcommons.util.ClientProperties;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ChangeListener;
 
 import java.text.NumberFormat;
 
@@ -46,8 +53,25 @@ public final class FrequencyRangeControls {
     public OctaveRangeSelector       _octaveRangeSelector;
     public CenterFrequencySelector   _centerFrequencySelector;
 
-    // Number format cache used for locale-specific number formatting.
-    private NumberFormat             _numberFormat;
+    // The toolkit-independent model that the controls bind to.
+    private final FrequencyRangeModel _frequencyRangeModel;
+
+    // Consolidated Frequency Range, which is published at most once per
+    // cascade of updates to the individual controls.
+    private final ReadOnlyObjectWrapper< FrequencyRange > _frequencyRange;
+
+    // Nesting depth of the current batch update, if any, and whether any of
+    // the individual controls changed during the batch.
+    private int                      _updateDepth;
+    private boolean                  _frequencyRangeDirty;
+
+    // Running count of consolidated Frequency Range change events.
+    private long                     _frequencyRangeChangeCount;
+
+    // Last published values, to avoid redundant change events.
+    private RelativeBandwidth        _publishedRelativeBandwidth;
+    private String                   _publishedOctaveRange;
+    private double                   _publishedCenterFrequency;
 
     // Default constructor
     public FrequencyRangeControls( final NumberFormat numberFormat,
@@ -56,7 +80,9 @@ public final class FrequencyRangeControls {
                                    final boolean useExtendedRange,
                                    final int startIndexForOneOctave,
                                    final int startIndexForThirdOctave ) {
-        _numberFormat = numberFormat;
+        _frequencyRangeModel = new FrequencyRangeModel( useExtendedRange,
+                                                        startIndexForOneOctave,
+                                                        startIndexForThirdOctave );
 
         // Make the individual controls.
         final RelativeBandwidth[] supportedValues = new RelativeBandwidth[] {
@@ -64,8 +90,15 @@ public final class FrequencyRangeControls {
                 RelativeBandwidth.THIRD_OCTAVE,
                 RelativeBandwidth.SIXTH_OCTAVE,
                 RelativeBandwidth.TWELTH_OCTAVE,
-                RelativeBandwidth.TWENTYFOURTH_OCTAVE }; //,
-                //RelativeBandwidth.FORTYEIGHTH_OCTAVE };
+                RelativeBandwidth.TWENTYFOURTH_OCTAVE,
+                RelativeBandwidth.FORTYEIGHTH_OCTAVE };
+
+        // Build the shared band tables in the background, so that switching to
+        // even the finest bands usually only swaps in labels that are already
+        // formatted, without formatting them all on the JavaFX Application
+        // Thread during construction.
+        _frequencyRangeModel.prepareCenterFrequencyTablesInBackground( supportedValues );
+
         _relativeBandwidthSelector = ListViewUtilities.makeLabeledSelector(
                 pClientProperties,
                 supportedValues,
@@ -73,36 +106,258 @@ public final class FrequencyRangeControls {
                 RelativeBandwidth.defaultValue() );
         _octaveRangeSelector = new OctaveRangeSelector( pClientProperties,
                                                         applyToolkitCss, 
-                                                        useExtendedRange );
+                                                        _frequencyRangeModel );
         _centerFrequencySelector = new CenterFrequencySelector( pClientProperties, 
                                                                 applyToolkitCss,
-                                                                startIndexForOneOctave,
-                                                                startIndexForThirdOctave );
+                                                                _frequencyRangeModel );
+
+        // Publish the initial Frequency Range, and then track changes to any of
+        // the individual controls, consolidating them when in a batch update.
+        _frequencyRange = new ReadOnlyObjectWrapper<>();
+        _updateDepth = 0;
+        _frequencyRangeDirty = false;
+        publishFrequencyRange();
+        _frequencyRangeChangeCount = 0L;
+
+        // Changes made outside of a batch update are published right away, as
+        // there is nothing to consolidate them with; redundant publications
+        // are already suppressed when the Frequency Range itself is unchanged.
+        // NOTE: This is a change listener rather than an invalidation listener,
+        // so that it runs after the combo box has synced its selection model to
+        // the new value, which it also does from a change listener.
+        final ChangeListener< Object > frequencyRangeListener = ( observable,
+                                                                  oldValue,
+                                                                  newValue ) -> {
+            if ( _updateDepth > 0 ) {
+                _frequencyRangeDirty = true;
+            }
+            else {
+                publishFrequencyRange();
+            }
+        };
+        _relativeBandwidthSelector.valueProperty().addListener( frequencyRangeListener );
+        _octaveRangeSelector.valueProperty().addListener( frequencyRangeListener );
+        _centerFrequencySelector.valueProperty().addListener( frequencyRangeListener );
+    }
+
+    /**
+     * Starts a batch update, during which changes to the individual controls
+     * are consolidated into a single Frequency Range change event that is
+     * published on the matching call to {@link #commit()}.
+     * <p>
+     * Batch updates may be nested; only the outermost commit publishes.
+     * Changes made outside of a batch update, such as by the user, are
+     * published synchronously, as they happen.
+     */
+    public void beginUpdate() {
+        _updateDepth++;
+    }
+
+    /**
+     * Ends a batch update started by {@link #beginUpdate()}, publishing one
+     * consolidated Frequency Range change event if anything changed.
+     */
+    public void commit() {
+        if ( _updateDepth <= 0 ) {
+            return;
+        }
+
+        _updateDepth--;
+        if ( ( _updateDepth == 0 ) && _frequencyRangeDirty ) {
+            _frequencyRangeDirty = false;
+            publishFrequencyRange();
+        }
+    }
+
+    /**
+     * Returns the toolkit-independent model that these controls bind to, which
+     * mirrors the consolidated Frequency Range and may be shared with worker
+     * threads.
+     *
+     * @return The toolkit-independent Frequency Range model
+     */
+    public FrequencyRangeModel getFrequencyRangeModel() {
+        return _frequencyRangeModel;
+    }
+
+    public ReadOnlyObjectProperty< FrequencyRange > frequencyRangeProperty() {
+        return _frequencyRange.getReadOnlyProperty();
+    }
+
+    public FrequencyRange getFrequencyRange() {
+        return _frequencyRange.get();
+    }
+
+    /**
+     * Returns the number of consolidated Frequency Range change events that
+     * have been published since construction.
+     *
+     * @return The number of consolidated Frequency Range change events
+     */
+    public long getFrequencyRangeChangeCount() {
+        return _frequencyRangeChangeCount;
+    }
+
+    // Publish the current Frequency Range, if it differs from the last one.
+    private void publishFrequencyRange() {
+        final RelativeBandwidth relativeBandwidth = getRelativeBandwidth();
+        String sOctaveRange = getOctaveRange();
+        final double centerFrequency = _centerFrequencySelector.getCenterFrequencyValue();
+        if ( ( relativeBandwidth == null ) || ( sOctaveRange == null )
+                || Double.isNaN( centerFrequency ) ) {
+            return;
+        }
+
+        // When picking from the full span, the Octave Range follows the Center
+        // Frequency, so sync it up without triggering another publication.
+        if ( _centerFrequencySelector.isFullSpan() ) {
+            sOctaveRange = _frequencyRangeModel
+                    .resolveOctaveRange( relativeBandwidth, centerFrequency ).label();
+            if ( !sOctaveRange.equals( getOctaveRange() ) ) {
+                _updateDepth++;
+                try {
+                    setOctaveRange( sOctaveRange );
+                }
+                finally {
+                    _updateDepth--;
+                    _frequencyRangeDirty = false;
+                }
+            }
+        }
+
+        if ( relativeBandwidth.equals( _publishedRelativeBandwidth )
+                && sOctaveRange.equals( _publishedOctaveRange )
+                && ( centerFrequency == _publishedCenterFrequency ) ) {
+            return;
+        }
+
+        _publishedRelativeBandwidth = relativeBandwidth;
+        _publishedOctaveRange = sOctaveRange;
+        _publishedCenterFrequency = centerFrequency;
+
+        _frequencyRangeModel.select( relativeBandwidth,
+                                     OctaveRange.fromLabel( sOctaveRange ),
+                                     centerFrequency );
+
+        _frequencyRangeChangeCount++;
+        _frequencyRange.set( new FrequencyRange( relativeBandwidth,
+                                                 sOctaveRange,
+                                                 centerFrequency ) );
     }
 
     public String getCenterFrequency() {
         return _centerFrequencySelector.getCenterFrequency();
     }
 
+    public double getCenterFrequencyValue() {
+        return _centerFrequencySelector.getCenterFrequencyValue();
+    }
+
+    public void setCenterFrequencyValue( final double centerFrequency ) {
+        _centerFrequencySelector.setCenterFrequencyValue( centerFrequency );
+    }
+
+    public int getCenterFrequencyIndex() {
+        return _centerFrequencySelector.getCenterFrequencyIndex();
+    }
+
+    public void setCenterFrequencyIndex( final int centerFrequencyIndex ) {
+        _centerFrequencySelector.setCenterFrequencyIndex( centerFrequencyIndex );
+    }
+
+    public ReadOnlyDoubleProperty centerFrequencyValueProperty() {
+        return _centerFrequencySelector.centerFrequencyValueProperty();
+    }
+
+    public ReadOnlyIntegerProperty centerFrequencyIndexProperty() {
+        return _centerFrequencySelector.centerFrequencyIndexProperty();
+    }
+
     public String getOctaveRange() {
         return _octaveRangeSelector.getOctaveRange();
     }
 
+    public OctaveRange getOctaveRangeValue() {
+        return _octaveRangeSelector.getOctaveRangeValue();
+    }
+
     public RelativeBandwidth getRelativeBandwidth() {
         return _relativeBandwidthSelector.getValue();
     }
 
     public void setCenterFrequency( final String sOctaveRange,
                                     final double centerFrequency ) {
-        final String sCenterFrequency = FrequencySignalUtilities
-                .getFormattedFrequency( centerFrequency, _numberFormat );
-        _centerFrequencySelector.setCenterFrequency( sOctaveRange, sCenterFrequency );
+        setCenterFrequency( OctaveRange.fromLabel( sOctaveRange ), centerFrequency );
+    }
+
+    /**
+     * Selects the band nearest to the given Center Frequency in the given
+     * Octave Range, switching the Octave Range over first if need be, as a
+     * single batch update.
+     *
+     * @param octaveRange
+     *            The Octave Range of the band; ignored for wide bands and in
+     *            full span mode
+     * @param centerFrequency
+     *            The requested Center Frequency
+     */
+    public void setCenterFrequency( final OctaveRange octaveRange,
+                                    final double centerFrequency ) {
+        beginUpdate();
+        try {
+            if ( !isFullSpan() && !CenterFrequencyTable.isWideBand( getRelativeBandwidth() ) ) {
+                setOctaveRange( octaveRange );
+            }
+            _centerFrequencySelector.setCenterFrequency( octaveRange, centerFrequency );
+        }
+        finally {
+            commit();
+        }
+    }
+
+    /**
+     * Sets whether band changes update the drop-lists in place with minimal
+     * changes, rather than replacing the entire lists.
+     *
+     * @param incrementalListUpdates
+     *            Flag for whether to update the drop-lists in place
+     */
+    public void setIncrementalListUpdates( final boolean incrementalListUpdates ) {
+        _octaveRangeSelector.setIncrementalListUpdates( incrementalListUpdates );
+        _centerFrequencySelector.setIncrementalListUpdates( incrementalListUpdates );
+    }
+
+    public boolean isFullSpan() {
+        return _centerFrequencySelector.isFullSpan();
+    }
+
+    /**
+     * Sets whether narrow bands are picked from a single list spanning 10 Hz to
+     * 20 kHz, in which case the Octave Range selector is disabled and simply
+     * tracks the Octave Range that contains the selected Center Frequency.
+     *
+     * @param fullSpan
+     *            Flag for whether to pick narrow bands from a single list
+     */
+    public void setFullSpan( final boolean fullSpan ) {
+        _centerFrequencySelector.setFullSpan( fullSpan );
+        _octaveRangeSelector.setDisable( fullSpan );
+
+        // Re-apply the current Frequency Range, to switch the list over.
+        final FrequencyRange frequencyRange = getFrequencyRange();
+        if ( frequencyRange != null ) {
+            updateFrequencyRange( frequencyRange );
+        }
     }
 
     public void setOctaveRange( final String sOctaveRange ) {
         _octaveRangeSelector.setOctaveRange( sOctaveRange );
     }
 
+    public void setOctaveRange( final OctaveRange octaveRange ) {
+        _octaveRangeSelector.setOctaveRange( octaveRange );
+    }
+
     public void setRelativeBandwidth( final RelativeBandwidth relativeBandwidth ) {
         _relativeBandwidthSelector.setValue( relativeBandwidth );
     }
@@ -117,6 +372,23 @@ public final class FrequencyRangeControls {
                                                                              preserveSelection );
     }
 
+    public void updateCenterFrequencyForBandwidthAndOctave( final RelativeBandwidth relativeBandwidth,
+                                                            final OctaveRange octaveRange,
+                                                            final double centerFrequency,
+                                                            final boolean preserveSelection ) {
+        _centerFrequencySelector.updateCenterFrequencyForBandwidthAndOctave( relativeBandwidth,
+                                                                             octaveRange,
+                                                                             centerFrequency,
+                                                                             preserveSelection );
+    }
+
+    /**
+     * Applies a new Frequency Range as a single batch update, so that
+     * listeners see exactly one consolidated change event for the cascade.
+     *
+     * @param frequencyRange
+     *            The pre-vetted Frequency Range to apply
+     */
     public void updateFrequencyRange( final FrequencyRange frequencyRange ) {
         // Select the new Frequency Range values, which must be pre-vetted as
         // valid. It is otherwise unsafe to set all three values at once.
@@ -124,15 +396,22 @@ public final class FrequencyRangeControls {
         final String sOctaveRange = frequencyRange.getOctaveRange();
         final double centerFrequency = frequencyRange.getCenterFrequency();
 
-        setRelativeBandwidth( relativeBandwidth );
-        updateOctaveRangeForBandwidthAndFrequency( relativeBandwidth,
-                                                   sOctaveRange,
-                                                   centerFrequency );
-        final String sOctaveRangeCorrected = getOctaveRange();
-        updateCenterFrequencyForBandwidthAndOctave( relativeBandwidth,
-                                                    sOctaveRangeCorrected,
-                                                    centerFrequency,
-                                                    false );
+        // Batch the cascade, so that listeners only see the final result.
+        beginUpdate();
+        try {
+            setRelativeBandwidth( relativeBandwidth );
+            updateOctaveRangeForBandwidthAndFrequency( relativeBandwidth,
+                                                       sOctaveRange,
+                                                       centerFrequency );
+            final OctaveRange octaveRangeCorrected = getOctaveRangeValue();
+            updateCenterFrequencyForBandwidthAndOctave( relativeBandwidth,
+                                                        octaveRangeCorrected,
+                                                        centerFrequency,
+                                                        false );
+        }
+        finally {
+            commit();
+        }
     }
 
     public void updateOctaveRangeForBandwidthAndFrequency( final RelativeBandwidth relativeBandwidth,
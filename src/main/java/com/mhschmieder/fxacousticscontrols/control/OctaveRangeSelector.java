@@ -30,14 +30,26 @@
  */
 package com.mhschmieder.fxacousticscontrols.control;
 
+import com.mhschmieder.fxacousticscontrols.model.CenterFrequencyTable;
+import com.mhschmieder.fxacousticscontrols.model.FrequencyRangeModel;
+import com.mhschmieder.fxacousticscontrols.model.OctaveRange;
 import com.mhschmieder.fxcontrols.control.TextSelector;
 import com.mhschmieder.jacoustics.FrequencyRange;
 import com.mhschmieder.jacoustics.RelativeBandwidth;
 import com.mhschmieder.jcommons.util.ClientProperties;
+import javafx.scene.control.ListCell;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * A selector for a switchable enumeration of Octave Ranges.
  * <p>
+ * The items and the selected value are the canonical Octave Range labels, so
+ * that they can be persisted and looked up as is, but the list cells show the
+ * locale-specific presentation of each Octave Range instead.
+ * <p>
  * TODO: Redo as an enum-based XComboBox that provides a List Cell Factory.
  */
 public class OctaveRangeSelector extends TextSelector {
@@ -53,40 +65,53 @@ public class OctaveRangeSelector extends TextSelector {
                                                      new String[] { OCTAVE_RANGE_WIDE_DEFAULT };
 
     // List each narrow Octave Range as a full inclusive range.
-    private static final String[] OCTAVE_RANGES_NARROW        = new String[] {
-                                                                               "20 Hz to 40 Hz",                   //$NON-NLS-1$
-                                                                               "40 Hz to 80 Hz",                   //$NON-NLS-1$
-                                                                               "80 Hz to 160 Hz",                  //$NON-NLS-1$
-                                                                               "160 Hz to 315 Hz",                 //$NON-NLS-1$
-                                                                               "315 Hz to 630 Hz",                 //$NON-NLS-1$
-                                                                               "630 Hz to 1.25 kHz",               //$NON-NLS-1$
-                                                                               "1.25 kHz to 2.5 kHz",              //$NON-NLS-1$
-                                                                               "2.5 kHz to 5 kHz",                 //$NON-NLS-1$
-                                                                               "5 kHz to 10 kHz",                  //$NON-NLS-1$
-                                                                               "10 kHz to 20 kHz"                  //$NON-NLS-1$
-    };
-    private static final String[] OCTAVE_RANGES_NARROW_EXTENDED = new String[] {
-                                                                               "10 Hz to 20 Hz",                   //$NON-NLS-1$
-                                                                               "20 Hz to 40 Hz",                   //$NON-NLS-1$
-                                                                               "40 Hz to 80 Hz",                   //$NON-NLS-1$
-                                                                               "80 Hz to 160 Hz",                  //$NON-NLS-1$
-                                                                               "160 Hz to 315 Hz",                 //$NON-NLS-1$
-                                                                               "315 Hz to 630 Hz",                 //$NON-NLS-1$
-                                                                               "630 Hz to 1.25 kHz",               //$NON-NLS-1$
-                                                                               "1.25 kHz to 2.5 kHz",              //$NON-NLS-1$
-                                                                               "2.5 kHz to 5 kHz",                 //$NON-NLS-1$
-                                                                               "5 kHz to 10 kHz",                  //$NON-NLS-1$
-                                                                               "10 kHz to 20 kHz"                  //$NON-NLS-1$
-    };
+    private static final String[] OCTAVE_RANGES_NARROW          = toLabels( OctaveRange
+            .narrowBandValues( false ) );
+    private static final String[] OCTAVE_RANGES_NARROW_EXTENDED = toLabels( OctaveRange
+            .narrowBandValues( true ) );
+
+    // The same Octave Ranges as lists, for in place updates of the drop-list.
+    private static final List< String > OCTAVE_RANGE_LIST_WIDE            = Arrays
+            .asList( OCTAVE_RANGES_WIDE );
+    private static final List< String > OCTAVE_RANGE_LIST_NARROW          = Arrays
+            .asList( OCTAVE_RANGES_NARROW );
+    private static final List< String > OCTAVE_RANGE_LIST_NARROW_EXTENDED = Arrays
+            .asList( OCTAVE_RANGES_NARROW_EXTENDED );
+
+    private static String[] toLabels( final List< OctaveRange > octaveRanges ) {
+        final String[] labels = new String[ octaveRanges.size() ];
+        for ( int i = 0; i < labels.length; i++ ) {
+            labels[ i ] = octaveRanges.get( i ).label();
+        }
+        return labels;
+    }
     
     // Flag for whether to use the low frequency extended range, which goes
     // below the normal human hearing range but might be useful for scientific
     // applications as well as entertainment oriented sound effects.
     protected final boolean _useExtendedRange;
 
+    // The toolkit-independent model that resolves the band selections.
+    private final FrequencyRangeModel _frequencyRangeModel;
+
+    // Flag for whether to update the drop-list in place with minimal changes,
+    // rather than replacing the entire list.
+    private boolean                   _incrementalListUpdates;
+
+    // The locale that the Octave Ranges are presented in.
+    private Locale                    _presentationLocale;
+
     public OctaveRangeSelector( final ClientProperties pClientProperties,
                                 final boolean applyToolkitCss,
                                 final boolean useExtendedRange ) {
+        this( pClientProperties,
+              applyToolkitCss,
+              new FrequencyRangeModel( useExtendedRange ) );
+    }
+
+    public OctaveRangeSelector( final ClientProperties pClientProperties,
+                                final boolean applyToolkitCss,
+                                final FrequencyRangeModel frequencyRangeModel ) {
         // Always call the superclass constructor first!
         super( pClientProperties,
                "Octave Range", //$NON-NLS-1$
@@ -95,40 +120,117 @@ public class OctaveRangeSelector extends TextSelector {
                false,
                12,
                OCTAVE_RANGE_NARROW_DEFAULT,
-               useExtendedRange
+               frequencyRangeModel.isUseExtendedRange()
                    ? OCTAVE_RANGES_NARROW_EXTENDED
                    : OCTAVE_RANGES_NARROW );
         
-        _useExtendedRange = useExtendedRange;
+        _useExtendedRange = frequencyRangeModel.isUseExtendedRange();
+        _frequencyRangeModel = frequencyRangeModel;
+        _incrementalListUpdates = false;
+
+        setPresentationLocale( Locale.getDefault( Locale.Category.FORMAT ) );
+    }
+
+    public final boolean isIncrementalListUpdates() {
+        return _incrementalListUpdates;
+    }
+
+    /**
+     * Sets whether band changes update the drop-list in place with the minimal
+     * changes to match the new Octave Ranges, so that re-selecting the current
+     * list leaves the list cells untouched.
+     *
+     * @param incrementalListUpdates
+     *            Flag for whether to update the drop-list in place
+     */
+    public final void setIncrementalListUpdates( final boolean incrementalListUpdates ) {
+        _incrementalListUpdates = incrementalListUpdates;
+    }
+
+    public final Locale getPresentationLocale() {
+        return _presentationLocale;
+    }
+
+    /**
+     * Sets the locale that the Octave Ranges are shown in, which only changes
+     * the list cells, as the items remain the canonical labels.
+     *
+     * @param presentationLocale
+     *            The locale to present the Octave Ranges in
+     */
+    public final void setPresentationLocale( final Locale presentationLocale ) {
+        _presentationLocale = presentationLocale;
+
+        // Replace the cells, so that they all pick up the new locale.
+        setButtonCell( new OctaveRangeListCell() );
+        setCellFactory( listView -> new OctaveRangeListCell() );
+    }
+
+    // Return the presentation string for a canonical Octave Range label,
+    // passing through anything that is not a canonical label as is.
+    private String toPresentationString( final String sOctaveRange ) {
+        return OctaveRange.isLabel( sOctaveRange )
+            ? OctaveRange.fromLabel( sOctaveRange ).toPresentationString( _presentationLocale )
+            : sOctaveRange;
+    }
+
+    // A list cell that shows the presentation string of the canonical label.
+    private final class OctaveRangeListCell extends ListCell< String > {
+        @Override
+        protected void updateItem( final String sOctaveRange, final boolean empty ) {
+            super.updateItem( sOctaveRange, empty );
+            setText( ( empty || ( sOctaveRange == null ) )
+                ? null
+                : toPresentationString( sOctaveRange ) );
+        }
     }
 
     public final String getOctaveRange() {
         return getTextValue();
     }
 
+    public final OctaveRange getOctaveRangeValue() {
+        return OctaveRange.fromLabel( getTextValue() );
+    }
+
     public final void setOctaveRange( final String sOctaveRange ) {
         setTextValue( sOctaveRange );
     }
 
+    public final void setOctaveRange( final OctaveRange octaveRange ) {
+        setTextValue( octaveRange.label() );
+    }
+
     // Set the drop-list of Octave Ranges based on Relative Bandwidth.
     public final void updateOctaveRangeForBandwidthAndFrequency( final RelativeBandwidth relativeBandwidth,
                                                                  final double centerFrequency ) {
         // Determine and set the correct Octave Ranges to use.
-        final String[] octaveRanges = ( RelativeBandwidth.ONE_OCTAVE.equals( relativeBandwidth )
-                || RelativeBandwidth.THIRD_OCTAVE.equals( relativeBandwidth ) )
-                    ? OCTAVE_RANGES_WIDE
-                    : _useExtendedRange
-                        ? OCTAVE_RANGES_NARROW_EXTENDED
-                        : OCTAVE_RANGES_NARROW;
+        final boolean wideBand = CenterFrequencyTable.isWideBand( relativeBandwidth );
+        final String[] octaveRanges = wideBand
+            ? OCTAVE_RANGES_WIDE
+            : _useExtendedRange
+                ? OCTAVE_RANGES_NARROW_EXTENDED
+                : OCTAVE_RANGES_NARROW;
 
         // Determine which Octave Range contains the current Center Frequency.
-        final String defaultOctaveRange = ( RelativeBandwidth.ONE_OCTAVE.equals( relativeBandwidth )
-                || RelativeBandwidth.THIRD_OCTAVE.equals( relativeBandwidth ) )
-                    ? OCTAVE_RANGE_WIDE_DEFAULT
-                    : FrequencyRange
-                            .getNominalOctaveRangeDefaultForCenterFrequency( centerFrequency );
-
-        // Replace the entire list, and re-assert or default the selection.
-        updateValues( octaveRanges, defaultOctaveRange, true );
+        final OctaveRange defaultOctaveRange = _frequencyRangeModel
+                .resolveOctaveRange( relativeBandwidth, centerFrequency );
+
+        // Either update the list in place with minimal changes, or replace the
+        // entire list, and then re-assert or default the selection.
+        if ( _incrementalListUpdates ) {
+            final List< String > octaveRangeList = wideBand
+                ? OCTAVE_RANGE_LIST_WIDE
+                : _useExtendedRange
+                    ? OCTAVE_RANGE_LIST_NARROW_EXTENDED
+                    : OCTAVE_RANGE_LIST_NARROW;
+            SelectorListUtilities.updateItemsIncrementally( this,
+                                                            octaveRangeList,
+                                                            defaultOctaveRange.label(),
+                                                            true );
+        }
+        else {
+            updateValues( octaveRanges, defaultOctaveRange.label(), true );
+        }
     }
 }
\ No newline at end of file
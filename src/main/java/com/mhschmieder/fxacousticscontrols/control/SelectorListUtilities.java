@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.control;
+
+import javafx.collections.ObservableList;
+import javafx.scene.control.ComboBox;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This is a utility class for updating the drop-lists of selectors in place,
+ * applying only the minimal changes needed to match a new list, so that the
+ * list cells are updated rather than torn down and rebuilt.
+ */
+final class SelectorListUtilities {
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private SelectorListUtilities() {}
+
+    /**
+     * Updates the items of a selector in place to match the new items, and
+     * then re-asserts the current selection or sets the default value.
+     *
+     * @param selector
+     *            The selector whose items to update
+     * @param newItems
+     *            The new items, in display order
+     * @param defaultValue
+     *            The value to select if the current value is not preserved
+     * @param preserveSelection
+     *            Flag for whether to keep the current value if still present
+     * @param <T>
+     *            The type of the selector's items
+     */
+    static < T > void updateItemsIncrementally( final ComboBox< T > selector,
+                                                final List< ? extends T > newItems,
+                                                final T defaultValue,
+                                                final boolean preserveSelection ) {
+        final T currentValue = selector.getValue();
+        final boolean itemsChanged = applyMinimalDiff( selector.getItems(), newItems );
+
+        // Only search for the current value if the list actually changed, as
+        // it is otherwise known to still be present.
+        final boolean currentValuePresent = ( currentValue != null )
+                && ( !itemsChanged || newItems.contains( currentValue ) );
+        final T value = ( preserveSelection && currentValuePresent )
+            ? currentValue
+            : defaultValue;
+        if ( !Objects.equals( selector.getValue(), value ) ) {
+            selector.setValue( value );
+        }
+    }
+
+    /**
+     * Applies the minimal changes to a list to make it match the new items,
+     * leaving the common leading and trailing items untouched, replacing the
+     * differing items in place where the sizes overlap, and only adding or
+     * removing the surplus.
+     * <p>
+     * Each item replaced in place fires its own change event, so when most of
+     * the new items differ, the whole list is replaced in a single change
+     * instead, such as when switching between band tables that share only a
+     * few labels.
+     *
+     * @param items
+     *            The observable list to update in place
+     * @param newItems
+     *            The new items, in order
+     * @param <T>
+     *            The type of the list items
+     * @return {@code true} if the list was modified
+     */
+    static < T > boolean applyMinimalDiff( final ObservableList< T > items,
+                                           final List< ? extends T > newItems ) {
+        final int oldSize = items.size();
+        final int newSize = newItems.size();
+        final int minimumSize = Math.min( oldSize, newSize );
+
+        // Skip the common leading items.
+        int prefixLength = 0;
+        while ( ( prefixLength < minimumSize )
+                && Objects.equals( items.get( prefixLength ), newItems.get( prefixLength ) ) ) {
+            prefixLength++;
+        }
+        if ( ( prefixLength == oldSize ) && ( prefixLength == newSize ) ) {
+            return false;
+        }
+
+        // Skip the common trailing items, without overlapping the prefix.
+        int suffixLength = 0;
+        while ( ( suffixLength < ( minimumSize - prefixLength ) )
+                && Objects.equals( items.get( oldSize - 1 - suffixLength ),
+                                   newItems.get( newSize - 1 - suffixLength ) ) ) {
+            suffixLength++;
+        }
+
+        // Count the items that would change, and replace the whole list in a
+        // single change if that is most of it.
+        final int oldEnd = oldSize - suffixLength;
+        final int newEnd = newSize - suffixLength;
+        final int replaceEnd = Math.min( oldEnd, newEnd );
+        int changedCount = Math.abs( oldEnd - newEnd );
+        for ( int i = prefixLength; i < replaceEnd; i++ ) {
+            if ( !Objects.equals( items.get( i ), newItems.get( i ) ) ) {
+                changedCount++;
+            }
+        }
+        if ( ( 2 * changedCount ) > newSize ) {
+            items.setAll( newItems );
+            return true;
+        }
+
+        // Replace the overlapping part of the differing items in place.
+        for ( int i = prefixLength; i < replaceEnd; i++ ) {
+            final T newItem = newItems.get( i );
+            if ( !Objects.equals( items.get( i ), newItem ) ) {
+                items.set( i, newItem );
+            }
+        }
+
+        // Remove or insert the surplus as a single range.
+        if ( oldEnd > newEnd ) {
+            items.remove( replaceEnd, oldEnd );
+        }
+        else if ( newEnd > oldEnd ) {
+            items.addAll( replaceEnd, newItems.subList( replaceEnd, newEnd ) );
+        }
+
+        return true;
+    }
+}
@@ -31,6 +31,8 @@
 package com.mhschmieder.fxacousticscontrols.control;
 
 import com.mhschmieder.fxacousticscontrols.action.AcousticsLabeledActionFactory;
+import com.mhschmieder.fxacousticscontrols.action.ChoiceGroupDescriptor;
+import com.mhschmieder.fxacousticscontrols.analysis.FractionalOctaveKernel;
 import com.mhschmieder.fxcontrols.action.ActionFactory;
 import com.mhschmieder.fxcontrols.action.XAction;
 import com.mhschmieder.fxcontrols.action.XActionGroup;
@@ -40,6 +42,8 @@ import org.controlsfx.control.action.Action;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * This is a struct-like container for Smoothing choices.
@@ -48,6 +52,12 @@ import java.util.Collection;
  */
 public final class SmoothingChoices {
 
+    // The Smoothing of each Smoothing choice, in choice order.
+    private static final List< Smoothing > SMOOTHINGS = Collections
+            .unmodifiableList( Arrays.asList( Smoothing.NARROW_BAND,
+                                              Smoothing.SIXTH_OCTAVE_BAND,
+                                              Smoothing.THIRD_OCTAVE_BAND ) );
+
     // Declare all of the Smoothing choices.
     public XAction      _smoothingNarrowChoice;
     public XAction      _smoothingSixthOctaveChoice;
@@ -56,6 +66,9 @@ public final class SmoothingChoices {
     // Cache the associated choice group, for ease of overall enablement.
     public XActionGroup _smoothingChoiceGroup;
 
+    // Track the selected choice, so that queries are just a field read.
+    private final ChoiceGroupDescriptor< Smoothing > _smoothingDescriptor;
+
     // Default constructor
     @SuppressWarnings("nls")
     public SmoothingChoices( final ClientProperties clientProperties ) {
@@ -66,10 +79,15 @@ public final class SmoothingChoices {
         _smoothingThirdOctaveChoice = AcousticsLabeledActionFactory
                 .getSmoothingThirdOctaveChoice( clientProperties );
 
-        final Collection< Action > smoothingChoiceCollection = Arrays
-                .asList( _smoothingNarrowChoice,
-                         _smoothingSixthOctaveChoice,
-                         _smoothingThirdOctaveChoice );
+        final List< XAction > smoothingChoices = Arrays.asList( _smoothingNarrowChoice,
+                                                                _smoothingSixthOctaveChoice,
+                                                                _smoothingThirdOctaveChoice );
+        final Collection< Action > smoothingChoiceCollection = Collections
+                .unmodifiableList( smoothingChoices );
+
+        _smoothingDescriptor = new ChoiceGroupDescriptor<>( smoothingChoices,
+                                                            SMOOTHINGS,
+                                                            Smoothing.defaultValue() );
 
         _smoothingChoiceGroup = ActionFactory
                 .makeChoiceGroup( clientProperties,
@@ -81,18 +99,7 @@ public final class SmoothingChoices {
     }
 
     public Smoothing getSmoothing() {
-        if ( _smoothingNarrowChoice.isSelected() ) {
-            return Smoothing.NARROW_BAND;
-        }
-        else if ( _smoothingSixthOctaveChoice.isSelected() ) {
-            return Smoothing.SIXTH_OCTAVE_BAND;
-        }
-        else if ( _smoothingThirdOctaveChoice.isSelected() ) {
-            return Smoothing.THIRD_OCTAVE_BAND;
-        }
-        else {
-            return Smoothing.defaultValue();
-        }
+        return _smoothingDescriptor.getSelectedValue();
     }
 
     public XActionGroup getSmoothingChoiceGroup() {
@@ -105,26 +112,28 @@ public final class SmoothingChoices {
         return smoothingOctaveDivider;
     }
 
+    /**
+     * Returns the shared smoothing kernel for the selected Smoothing, for the
+     * frequency bins of the given FFT size and sample rate.
+     *
+     * @param fftSize
+     *            The size of the FFT that the frequency bins come from
+     * @param sampleRate
+     *            The sample rate, in Hertz
+     * @return The shared smoothing kernel
+     */
+    public FractionalOctaveKernel getSmoothingKernel( final int fftSize, final double sampleRate ) {
+        return FractionalOctaveKernel
+                .getInstance( fftSize, sampleRate, getSmoothingOctaveDivider() );
+    }
+
     public void setDisabled( final boolean disabled ) {
         _smoothingChoiceGroup.setDisabled( disabled );
     }
 
     public void setSmoothing( final Smoothing smoothing ) {
         // Sync up the choices with the current Smoothing value.
-        switch ( smoothing ) {
-        case NARROW_BAND:
-            _smoothingNarrowChoice.setSelected( true );
-            break;
-        case SIXTH_OCTAVE_BAND:
-            _smoothingSixthOctaveChoice.setSelected( true );
-            break;
-        case THIRD_OCTAVE_BAND:
-            _smoothingThirdOctaveChoice.setSelected( true );
-            break;
-        default:
-            // NOTE: Theoretically impossible case.
-            break;
-        }
+        _smoothingDescriptor.setSelectedValue( smoothing );
     }
 
     public void setSmoothingOctaveDivider( final int octaveDivider ) {
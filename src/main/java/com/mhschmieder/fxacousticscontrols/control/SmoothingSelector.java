@@ -30,6 +30,7 @@
  */
 package com.mhschmieder.fxacousticscontrols.control;
 
+import com.mhschmieder.fxacousticscontrols.analysis.FractionalOctaveKernel;
 import com.mhschmieder.fxcontrols.control.XComboBox;
 import com.mhschmieder.jacoustics.Smoothing;
 import com.mhschmieder.jcommons.util.ClientProperties;
@@ -60,6 +61,21 @@ public final class SmoothingSelector extends XComboBox< Smoothing > {
         return octaveDivider;
     }
 
+    /**
+     * Returns the shared smoothing kernel for the selected Smoothing, for the
+     * frequency bins of the given FFT size and sample rate.
+     *
+     * @param fftSize
+     *            The size of the FFT that the frequency bins come from
+     * @param sampleRate
+     *            The sample rate, in Hertz
+     * @return The shared smoothing kernel
+     */
+    public FractionalOctaveKernel getSmoothingKernel( final int fftSize, final double sampleRate ) {
+        return FractionalOctaveKernel
+                .getInstance( fftSize, sampleRate, getSmoothingOctaveDivider() );
+    }
+
     public void setSmoothing( final Smoothing smoothing ) {
         setValue( smoothing );
     }
@@ -0,0 +1,295 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.image;
+
+import com.mhschmieder.fxacousticscontrols.control.AcousticsControlFactory;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+/**
+ * The streaming auto-range engine behind the Auto-Range SPL setting, which
+ * keeps a histogram of the SPL values of a coverage map as its grid chunks
+ * arrive, and derives the SPL Range from percentiles of that histogram.
+ * <p>
+ * Chunks can be added and removed incrementally, such as when part of a grid
+ * is recomputed, so that each refresh of the auto-range costs a pass over the
+ * histogram bins rather than over all of the grid cells. Values are binned at
+ * a fixed resolution, with values beyond the histogram limits counted in the
+ * first or last bin, and values that are not a number ignored.
+ * <p>
+ * All methods are synchronized, so chunks can arrive from prediction threads
+ * while the JavaFX Application Thread queries the range.
+ */
+public final class SplAutoRanger {
+
+    /**
+     * The default lower percentile for the auto-range, which ignores the
+     * quietest outliers.
+     */
+    public static final double LOWER_PERCENTILE_DEFAULT = 1.0d;
+
+    /**
+     * The default upper percentile for the auto-range, which ignores the
+     * loudest outliers, such as cells right at a source.
+     */
+    public static final double UPPER_PERCENTILE_DEFAULT = 99.0d;
+
+    /**
+     * The default lowest SPL of the histogram, in dB.
+     */
+    public static final double MINIMUM_SPL_DB_DEFAULT = -20.0d;
+
+    /**
+     * The default highest SPL of the histogram, in dB.
+     */
+    public static final double MAXIMUM_SPL_DB_DEFAULT = 180.0d;
+
+    /**
+     * The default width of each histogram bin, in dB.
+     */
+    public static final double BIN_WIDTH_DB_DEFAULT = 0.1d;
+
+    // The lowest SPL of the histogram, and the number of bins per dB.
+    private final double _minimumSplDb;
+    private final double _binsPerDb;
+
+    // The number of values in each bin, and in all bins together.
+    private final long[] _binCounts;
+    private long         _totalCount;
+
+    // Default constructor
+    public SplAutoRanger() {
+        this( MINIMUM_SPL_DB_DEFAULT, MAXIMUM_SPL_DB_DEFAULT, BIN_WIDTH_DB_DEFAULT );
+    }
+
+    public SplAutoRanger( final double minimumSplDb,
+                          final double maximumSplDb,
+                          final double binWidthDb ) {
+        if ( !( maximumSplDb > minimumSplDb ) || !( binWidthDb > 0.0d ) ) {
+            throw new IllegalArgumentException( "Invalid SPL histogram: " + minimumSplDb //$NON-NLS-1$
+                    + " to " + maximumSplDb + " dB by " + binWidthDb + " dB" ); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+
+        _minimumSplDb = minimumSplDb;
+        _binsPerDb = 1.0d / binWidthDb;
+        _binCounts = new long[ ( int ) Math.ceil( ( maximumSplDb - minimumSplDb ) * _binsPerDb ) ];
+        _totalCount = 0L;
+    }
+
+    // Get the bin for an SPL value, clamped to the first and last bins.
+    private int getBin( final float splDb ) {
+        final double binOffset = ( splDb - _minimumSplDb ) * _binsPerDb;
+        final int lastBin = _binCounts.length - 1;
+        return ( binOffset <= 0.0d )
+            ? 0
+            : ( binOffset >= lastBin ) ? lastBin : ( int ) binOffset;
+    }
+
+    // Add the values to the histogram, or remove them for a negative delta.
+    private void accumulate( final float[] splValues,
+                             final int offset,
+                             final int length,
+                             final int delta ) {
+        long count = 0L;
+        for ( int i = offset, end = offset + length; i < end; i++ ) {
+            final float splDb = splValues[ i ];
+            if ( splDb == splDb ) {
+                _binCounts[ getBin( splDb ) ] += delta;
+                count++;
+            }
+        }
+        _totalCount += delta * count;
+    }
+
+    // Add the values to the histogram, or remove them for a negative delta.
+    private void accumulate( final FloatBuffer splValues, final int delta ) {
+        long count = 0L;
+        for ( int i = splValues.position(), end = splValues.limit(); i < end; i++ ) {
+            final float splDb = splValues.get( i );
+            if ( splDb == splDb ) {
+                _binCounts[ getBin( splDb ) ] += delta;
+                count++;
+            }
+        }
+        _totalCount += delta * count;
+    }
+
+    public synchronized void addChunk( final float[] splValues ) {
+        accumulate( splValues, 0, splValues.length, 1 );
+    }
+
+    public synchronized void addChunk( final float[] splValues,
+                                       final int offset,
+                                       final int length ) {
+        accumulate( splValues, offset, length, 1 );
+    }
+
+    /**
+     * Adds the values from the position to the limit of the buffer, which are
+     * read with absolute gets so that the buffer itself is left untouched.
+     *
+     * @param splValues
+     *            The chunk of SPL values to add, in dB
+     */
+    public synchronized void addChunk( final FloatBuffer splValues ) {
+        accumulate( splValues, 1 );
+    }
+
+    /**
+     * Removes a chunk of values that was added before, such as when that part
+     * of the grid is being recomputed. The values must be the same as when
+     * they were added, or the histogram no longer matches the grid.
+     *
+     * @param splValues
+     *            The chunk of SPL values to remove, in dB
+     */
+    public synchronized void removeChunk( final float[] splValues ) {
+        accumulate( splValues, 0, splValues.length, -1 );
+    }
+
+    public synchronized void removeChunk( final float[] splValues,
+                                          final int offset,
+                                          final int length ) {
+        accumulate( splValues, offset, length, -1 );
+    }
+
+    public synchronized void removeChunk( final FloatBuffer splValues ) {
+        accumulate( splValues, -1 );
+    }
+
+    /**
+     * Removes all values, such as when starting on a new grid.
+     */
+    public synchronized void clear() {
+        Arrays.fill( _binCounts, 0L );
+        _totalCount = 0L;
+    }
+
+    public synchronized long getCount() {
+        return _totalCount;
+    }
+
+    /**
+     * Returns the SPL value at the given percentile of all values, to the
+     * resolution of the histogram bins.
+     *
+     * @param percentile
+     *            The percentile, from 0 to 100
+     * @return The SPL value at the percentile in dB, or NaN if there are no
+     *         values
+     */
+    public synchronized double getPercentile( final double percentile ) {
+        if ( _totalCount <= 0L ) {
+            return Double.NaN;
+        }
+
+        // Find the first bin whose cumulative count reaches the rank, and
+        // interpolate within that bin.
+        final double rank = Math.max( 0.0d, Math.min( 100.0d, percentile ) ) * 0.01d
+                * _totalCount;
+        long cumulativeCount = 0L;
+        for ( int bin = 0; bin < _binCounts.length; bin++ ) {
+            final long binCount = _binCounts[ bin ];
+            if ( ( binCount > 0L ) && ( ( cumulativeCount + binCount ) >= rank ) ) {
+                final double binFraction = ( rank - cumulativeCount ) / binCount;
+                return _minimumSplDb + ( ( bin + binFraction ) / _binsPerDb );
+            }
+            cumulativeCount += binCount;
+        }
+
+        return _minimumSplDb + ( _binCounts.length / _binsPerDb );
+    }
+
+    /**
+     * Returns the maximum SPL for the auto-range, which is the upper
+     * percentile rounded up to a whole dB.
+     *
+     * @param upperPercentile
+     *            The upper percentile, from 0 to 100
+     * @return The maximum SPL in dB, or NaN if there are no values
+     */
+    public double getMaximumSplDb( final double upperPercentile ) {
+        return Math.ceil( getPercentile( upperPercentile ) );
+    }
+
+    /**
+     * Returns the SPL Range for the auto-range, which spans the lower to the
+     * upper percentile, snapped up to the increments of the SPL Range spinner
+     * and clamped to its limits.
+     *
+     * @param lowerPercentile
+     *            The lower percentile, from 0 to 100
+     * @param upperPercentile
+     *            The upper percentile, from 0 to 100
+     * @param useExtendedRange
+     *            Flag for whether the SPL Range spinner uses its extended
+     *            range
+     * @return The SPL Range in dB, or the default SPL Range if there are no
+     *         values
+     */
+    public synchronized int getSplRangeDb( final double lowerPercentile,
+                                           final double upperPercentile,
+                                           final boolean useExtendedRange ) {
+        if ( _totalCount <= 0L ) {
+            return AcousticsControlFactory.SPL_RANGE_DB_DEFAULT;
+        }
+
+        final double maximumSplDb = getMaximumSplDb( upperPercentile );
+        final double minimumSplDb = getPercentile( lowerPercentile );
+        final int splRangeIncrementDb = AcousticsControlFactory.SPL_RANGE_DB_INCREMENT;
+        final int splRangeDb = ( int ) Math.ceil( ( maximumSplDb - minimumSplDb )
+                / splRangeIncrementDb ) * splRangeIncrementDb;
+
+        final int minimumSplRangeDb = useExtendedRange
+            ? AcousticsControlFactory.SPL_RANGE_DB_MINIMUM_EXTENDED
+            : AcousticsControlFactory.SPL_RANGE_DB_MINIMUM;
+        final int maximumSplRangeDb = useExtendedRange
+            ? AcousticsControlFactory.SPL_RANGE_DB_MAXIMUM_EXTENDED
+            : AcousticsControlFactory.SPL_RANGE_DB_MAXIMUM;
+        return Math.max( minimumSplRangeDb, Math.min( maximumSplRangeDb, splRangeDb ) );
+    }
+
+    /**
+     * Returns the SPL Range for the auto-range between the default
+     * percentiles.
+     *
+     * @param useExtendedRange
+     *            Flag for whether the SPL Range spinner uses its extended
+     *            range
+     * @return The SPL Range in dB
+     */
+    public int getSplRangeDb( final boolean useExtendedRange ) {
+        return getSplRangeDb( LOWER_PERCENTILE_DEFAULT,
+                              UPPER_PERCENTILE_DEFAULT,
+                              useExtendedRange );
+    }
+}
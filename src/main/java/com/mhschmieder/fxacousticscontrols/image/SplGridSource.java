@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.image;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Random access to a row-major SPL grid, so that the conversion loops are
+ * shared by arrays and buffers.
+ */
+interface SplGridSource {
+
+    float get( final int index );
+
+    int size();
+
+    static SplGridSource of( final float[] splGrid ) {
+        return new SplGridSource() {
+            @Override
+            public float get( final int index ) {
+                return splGrid[ index ];
+            }
+
+            @Override
+            public int size() {
+                return splGrid.length;
+            }
+        };
+    }
+
+    /**
+     * Returns a source for the values from the current position to the limit
+     * of the buffer, which is how the sound fields write their SPL values, so
+     * that index zero of the source is the position of the buffer.
+     * <p>
+     * The window is captured up front, so later changes to the position or the
+     * limit of the buffer do not affect the source.
+     *
+     * @param splGrid
+     *            The buffer whose remaining values are the row-major grid
+     * @return The source for the remaining values of the buffer
+     */
+    static SplGridSource of( final FloatBuffer splGrid ) {
+        final int offset = splGrid.position();
+        final int size = splGrid.remaining();
+        return new SplGridSource() {
+            @Override
+            public float get( final int index ) {
+                // NOTE: Absolute gets do not touch the buffer position, so they
+                // are safe to share between parallel tasks.
+                return splGrid.get( offset + index );
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
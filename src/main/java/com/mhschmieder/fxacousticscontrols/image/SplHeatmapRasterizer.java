@@ -0,0 +1,417 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.image;
+
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A bulk rasterizer for SPL coverage maps, which converts a grid of SPL values
+ * to packed ARGB pixels through an SPL palette lookup table, and writes them
+ * to an image in a single call to its pixel writer.
+ * <p>
+ * The grid is row-major with the first row at the top of the image. Rows are
+ * converted in parallel on a fork-join pool, into a pixel buffer that is
+ * reused from one render pass to the next. Cells that are not a number are
+ * left transparent.
+ * <p>
+ * Each rasterizer owns its pixel buffer, so an instance must only be used by
+ * one render thread at a time, which normally is the JavaFX Application
+ * Thread.
+ */
+public final class SplHeatmapRasterizer {
+
+    // Minimum number of cells per parallel task, below which the cost of
+    // splitting outweighs the gain.
+    private static final int MINIMUM_CELLS_PER_TASK = 16384;
+
+    // NOTE: The palette colors are either opaque or fully transparent zero,
+    // so they are the same in premultiplied form, which the graphics pipeline
+    // takes without conversion.
+    private static final PixelFormat< IntBuffer > PIXEL_FORMAT =
+            PixelFormat.getIntArgbPreInstance();
+
+    // The fork-join pool to convert rows on.
+    private final ForkJoinPool _forkJoinPool;
+
+    // The reusable pixel buffer, grown as needed, and its buffer view.
+    private int[]              _pixels;
+    private IntBuffer          _pixelBuffer;
+
+    // Default constructor
+    public SplHeatmapRasterizer() {
+        this( ForkJoinPool.commonPool() );
+    }
+
+    public SplHeatmapRasterizer( final ForkJoinPool forkJoinPool ) {
+        _forkJoinPool = forkJoinPool;
+        _pixels = new int[ 0 ];
+        _pixelBuffer = IntBuffer.wrap( _pixels );
+    }
+
+    /**
+     * Rasterizes a grid of SPL values to the top left corner of the image.
+     *
+     * @param splGrid
+     *            The row-major grid of SPL values in dB
+     * @param gridWidth
+     *            The number of columns in the grid
+     * @param gridHeight
+     *            The number of rows in the grid
+     * @param splPaletteLookupTable
+     *            The palette lookup table for the SPL Range
+     * @param maximumSplDb
+     *            The maximum SPL in dB, at the top of the SPL Range
+     * @param image
+     *            The image to write the pixels to, which must be at least as
+     *            large as the grid
+     */
+    public void rasterize( final float[] splGrid,
+                           final int gridWidth,
+                           final int gridHeight,
+                           final SplPaletteLookupTable splPaletteLookupTable,
+                           final double maximumSplDb,
+                           final WritableImage image ) {
+        rasterize( SplGridSource.of( splGrid ),
+                   gridWidth,
+                   gridHeight,
+                   0,
+                   splPaletteLookupTable,
+                   maximumSplDb,
+                   image );
+    }
+
+    /**
+     * Rasterizes a grid of SPL values to the top left corner of the image.
+     * <p>
+     * The grid is the values from the position to the limit of the buffer,
+     * which are read with absolute gets so that the buffer itself is left
+     * untouched.
+     *
+     * @param splGrid
+     *            The row-major grid of SPL values in dB
+     * @param gridWidth
+     *            The number of columns in the grid
+     * @param gridHeight
+     *            The number of rows in the grid
+     * @param splPaletteLookupTable
+     *            The palette lookup table for the SPL Range
+     * @param maximumSplDb
+     *            The maximum SPL in dB, at the top of the SPL Range
+     * @param image
+     *            The image to write the pixels to, which must be at least as
+     *            large as the grid
+     */
+    public void rasterize( final FloatBuffer splGrid,
+                           final int gridWidth,
+                           final int gridHeight,
+                           final SplPaletteLookupTable splPaletteLookupTable,
+                           final double maximumSplDb,
+                           final WritableImage image ) {
+        rasterize( SplGridSource.of( splGrid ),
+                   gridWidth,
+                   gridHeight,
+                   0,
+                   splPaletteLookupTable,
+                   maximumSplDb,
+                   image );
+    }
+
+    /**
+     * Rasterizes a grid of SPL values at a reduced resolution to the top left
+     * corner of the image, sampling the top left cell of each square block of
+     * cells, for quick previews of large grids.
+     * <p>
+     * The grid is the values from the position to the limit of the buffer,
+     * which are read with absolute gets so that the buffer itself is left
+     * untouched.
+     *
+     * @param splGrid
+     *            The row-major grid of SPL values in dB
+     * @param gridWidth
+     *            The number of columns in the grid
+     * @param gridHeight
+     *            The number of rows in the grid
+     * @param zoomLevel
+     *            The zoom level, where each level halves the resolution along
+     *            each axis, so that level two is a 1/16 resolution preview
+     * @param splPaletteLookupTable
+     *            The palette lookup table for the SPL Range
+     * @param maximumSplDb
+     *            The maximum SPL in dB, at the top of the SPL Range
+     * @param image
+     *            The image to write the pixels to, which must be at least as
+     *            large as the grid at the zoom level
+     * @see SplTileCache#getZoomedDimension(int, int)
+     */
+    public void rasterize( final FloatBuffer splGrid,
+                           final int gridWidth,
+                           final int gridHeight,
+                           final int zoomLevel,
+                           final SplPaletteLookupTable splPaletteLookupTable,
+                           final double maximumSplDb,
+                           final WritableImage image ) {
+        rasterize( SplGridSource.of( splGrid ),
+                   gridWidth,
+                   gridHeight,
+                   zoomLevel,
+                   splPaletteLookupTable,
+                   maximumSplDb,
+                   image );
+    }
+
+    void rasterize( final SplGridSource gridSource,
+                    final int gridWidth,
+                    final int gridHeight,
+                    final int zoomLevel,
+                    final SplPaletteLookupTable splPaletteLookupTable,
+                    final double maximumSplDb,
+                    final WritableImage image ) {
+        rasterize( gridSource,
+                   gridWidth,
+                   gridHeight,
+                   zoomLevel,
+                   splPaletteLookupTable,
+                   maximumSplDb,
+                   image,
+                   null );
+    }
+
+    // Rasterize unless cancelled, which is checked before each band of rows,
+    // and leave the image untouched if it was.
+    boolean rasterize( final SplGridSource gridSource,
+                       final int gridWidth,
+                       final int gridHeight,
+                       final int zoomLevel,
+                       final SplPaletteLookupTable splPaletteLookupTable,
+                       final double maximumSplDb,
+                       final WritableImage image,
+                       final BooleanSupplier cancelled ) {
+        checkGridSize( gridSource.size(), gridWidth, gridHeight );
+        final int zoomedWidth = SplTileCache.getZoomedDimension( gridWidth, zoomLevel );
+        final int zoomedHeight = SplTileCache.getZoomedDimension( gridHeight, zoomLevel );
+        final int[] pixels = convert( gridSource,
+                                      gridWidth,
+                                      zoomedWidth,
+                                      zoomedHeight,
+                                      zoomLevel,
+                                      splPaletteLookupTable,
+                                      maximumSplDb,
+                                      cancelled );
+        if ( ( cancelled != null ) && cancelled.getAsBoolean() ) {
+            return false;
+        }
+
+        writePixels( pixels, zoomedWidth, zoomedHeight, image );
+        return true;
+    }
+
+    // Make sure the grid holds at least as many cells as its dimensions.
+    static void checkGridSize( final int gridSize,
+                               final int gridWidth,
+                               final int gridHeight ) {
+        if ( ( gridWidth < 0 ) || ( gridHeight < 0 )
+                || ( ( ( long ) gridWidth * gridHeight ) > gridSize ) ) {
+            throw new IllegalArgumentException( "SPL grid of " + gridSize //$NON-NLS-1$
+                    + " cells is too small for " + gridWidth + " x " //$NON-NLS-1$ //$NON-NLS-2$
+                    + gridHeight );
+        }
+    }
+
+    // Convert the grid to packed ARGB pixels in the reusable pixel buffer.
+    private int[] convert( final SplGridSource gridSource,
+                           final int gridWidth,
+                           final int zoomedWidth,
+                           final int zoomedHeight,
+                           final int zoomLevel,
+                           final SplPaletteLookupTable splPaletteLookupTable,
+                           final double maximumSplDb,
+                           final BooleanSupplier cancelled ) {
+        final int cellCount = zoomedWidth * zoomedHeight;
+        if ( _pixels.length < cellCount ) {
+            _pixels = new int[ cellCount ];
+            _pixelBuffer = IntBuffer.wrap( _pixels );
+        }
+
+        final int rowsPerTask = Math.max( 1, MINIMUM_CELLS_PER_TASK / Math.max( 1, zoomedWidth ) );
+        final RowConversionTask rowConversionTask = new RowConversionTask( gridSource,
+                                                                           _pixels,
+                                                                           gridWidth,
+                                                                           zoomedWidth,
+                                                                           zoomLevel,
+                                                                           splPaletteLookupTable,
+                                                                           maximumSplDb,
+                                                                           cancelled,
+                                                                           rowsPerTask,
+                                                                           0,
+                                                                           zoomedHeight );
+        if ( zoomedHeight <= rowsPerTask ) {
+            rowConversionTask.compute();
+        }
+        else {
+            _forkJoinPool.invoke( rowConversionTask );
+        }
+
+        return _pixels;
+    }
+
+    // Write the converted pixels to the image in a single bulk call.
+    private void writePixels( final int[] pixels,
+                              final int gridWidth,
+                              final int gridHeight,
+                              final WritableImage image ) {
+        if ( ( gridWidth == 0 ) || ( gridHeight == 0 ) ) {
+            return;
+        }
+
+        _pixelBuffer.clear();
+        final PixelWriter pixelWriter = image.getPixelWriter();
+        pixelWriter.setPixels( 0, 0, gridWidth, gridHeight, PIXEL_FORMAT, _pixelBuffer, gridWidth );
+    }
+
+    /**
+     * Converts a range of rows at the zoom level to packed ARGB pixels,
+     * splitting the range in half until it is small enough to convert
+     * directly.
+     */
+    private static final class RowConversionTask extends RecursiveAction {
+
+        private static final long           serialVersionUID = 1L;
+
+        private final SplGridSource         _gridSource;
+        private final int[]                 _pixels;
+        private final int                   _gridWidth;
+        private final int                   _zoomedWidth;
+        private final int                   _zoomLevel;
+        private final SplPaletteLookupTable _splPaletteLookupTable;
+        private final double                _maximumSplDb;
+        private final BooleanSupplier       _cancelled;
+        private final int                   _rowsPerTask;
+        private final int                   _fromRow;
+        private final int                   _toRow;
+
+        RowConversionTask( final SplGridSource gridSource,
+                           final int[] pixels,
+                           final int gridWidth,
+                           final int zoomedWidth,
+                           final int zoomLevel,
+                           final SplPaletteLookupTable splPaletteLookupTable,
+                           final double maximumSplDb,
+                           final BooleanSupplier cancelled,
+                           final int rowsPerTask,
+                           final int fromRow,
+                           final int toRow ) {
+            _gridSource = gridSource;
+            _pixels = pixels;
+            _gridWidth = gridWidth;
+            _zoomedWidth = zoomedWidth;
+            _zoomLevel = zoomLevel;
+            _splPaletteLookupTable = splPaletteLookupTable;
+            _maximumSplDb = maximumSplDb;
+            _cancelled = cancelled;
+            _rowsPerTask = rowsPerTask;
+            _fromRow = fromRow;
+            _toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            if ( ( _toRow - _fromRow ) <= _rowsPerTask ) {
+                if ( ( _cancelled == null ) || !_cancelled.getAsBoolean() ) {
+                    convertRows();
+                }
+                return;
+            }
+
+            final int middleRow = ( _fromRow + _toRow ) >>> 1;
+            invokeAll( new RowConversionTask( _gridSource,
+                                              _pixels,
+                                              _gridWidth,
+                                              _zoomedWidth,
+                                              _zoomLevel,
+                                              _splPaletteLookupTable,
+                                              _maximumSplDb,
+                                              _cancelled,
+                                              _rowsPerTask,
+                                              _fromRow,
+                                              middleRow ),
+                       new RowConversionTask( _gridSource,
+                                              _pixels,
+                                              _gridWidth,
+                                              _zoomedWidth,
+                                              _zoomLevel,
+                                              _splPaletteLookupTable,
+                                              _maximumSplDb,
+                                              _cancelled,
+                                              _rowsPerTask,
+                                              middleRow,
+                                              _toRow ) );
+        }
+
+        private void convertRows() {
+            // Hoist the lookup table internals out of the loop, so that each
+            // cell is a multiply, a clamp and an array index.
+            final int[] colors = _splPaletteLookupTable._colors;
+            final double colorsPerDb = _splPaletteLookupTable._colorsPerDb;
+            final double minimumSplDb = _maximumSplDb - _splPaletteLookupTable.getSplRangeDb();
+            final int lastIndex = colors.length - 1;
+
+            // At reduced resolution, each pixel samples the top left cell of
+            // its block of grid cells.
+            for ( int row = _fromRow; row < _toRow; row++ ) {
+                final int rowIndex = ( row << _zoomLevel ) * _gridWidth;
+                final int pixelRowIndex = row * _zoomedWidth;
+                for ( int column = 0; column < _zoomedWidth; column++ ) {
+                    final float splDb = _gridSource.get( rowIndex + ( column << _zoomLevel ) );
+                    final int i = pixelRowIndex + column;
+                    if ( splDb != splDb ) {
+                        // NaN cells are left transparent.
+                        _pixels[ i ] = SplPaletteLookupTable.ARGB_TRANSPARENT;
+                        continue;
+                    }
+
+                    final double colorOffset = ( splDb - minimumSplDb ) * colorsPerDb;
+                    final int colorIndex = ( colorOffset <= 0.0d )
+                        ? 0
+                        : ( colorOffset >= lastIndex ) ? lastIndex : ( int ) colorOffset;
+                    _pixels[ i ] = colors[ colorIndex ];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.image;
+
+import com.mhschmieder.fxacousticscontrols.control.AcousticsControlFactory;
+import com.mhschmieder.jacoustics.SplPaletteResolution;
+
+/**
+ * The SPL palette engine that tracks the current SPL Palette Resolution and SPL
+ * Range, and keeps the matching lookup table at hand for the renderers.
+ * <p>
+ * The lookup table is only swapped when the resolution or the range actually
+ * changes, and then from the shared cache, so renderers can fetch it for every
+ * frame. Setters are synchronized, while the lookup table is published through
+ * a volatile field so that render threads never block.
+ */
+public final class SplPaletteEngine {
+
+    /**
+     * The default SPL Palette Resolution, matching the fallback choice of the
+     * SPL Palette choices.
+     */
+    public static final SplPaletteResolution SPL_PALETTE_RESOLUTION_DEFAULT =
+            SplPaletteResolution.RES_64;
+
+    // The current SPL Palette Resolution.
+    private SplPaletteResolution           _splPaletteResolution;
+
+    // The current SPL Range in dB.
+    private int                            _splRangeDb;
+
+    // The lookup table for the current resolution and range.
+    private volatile SplPaletteLookupTable _splPaletteLookupTable;
+
+    // Default constructor
+    public SplPaletteEngine() {
+        this( SPL_PALETTE_RESOLUTION_DEFAULT, AcousticsControlFactory.SPL_RANGE_DB_DEFAULT );
+    }
+
+    public SplPaletteEngine( final SplPaletteResolution splPaletteResolution,
+                             final int splRangeDb ) {
+        _splPaletteResolution = splPaletteResolution;
+        _splRangeDb = splRangeDb;
+        _splPaletteLookupTable = SplPaletteLookupTable.getInstance( splPaletteResolution,
+                                                                    splRangeDb );
+    }
+
+    public synchronized SplPaletteResolution getSplPaletteResolution() {
+        return _splPaletteResolution;
+    }
+
+    public synchronized int getSplRangeDb() {
+        return _splRangeDb;
+    }
+
+    /**
+     * Sets the SPL Palette Resolution, swapping in the matching lookup table
+     * only if the resolution changed.
+     *
+     * @param splPaletteResolution
+     *            The new SPL Palette Resolution
+     * @return {@code true} if the lookup table changed
+     */
+    public synchronized boolean setSplPaletteResolution( final SplPaletteResolution splPaletteResolution ) {
+        return setPalette( splPaletteResolution, _splRangeDb );
+    }
+
+    /**
+     * Sets the SPL Range, swapping in the matching lookup table only if the
+     * range changed.
+     *
+     * @param splRangeDb
+     *            The new SPL Range in dB
+     * @return {@code true} if the lookup table changed
+     */
+    public synchronized boolean setSplRangeDb( final int splRangeDb ) {
+        return setPalette( _splPaletteResolution, splRangeDb );
+    }
+
+    /**
+     * Sets the SPL Palette Resolution and the SPL Range together, swapping in
+     * the matching lookup table only if either one changed.
+     *
+     * @param splPaletteResolution
+     *            The new SPL Palette Resolution
+     * @param splRangeDb
+     *            The new SPL Range in dB
+     * @return {@code true} if the lookup table changed
+     */
+    public synchronized boolean setPalette( final SplPaletteResolution splPaletteResolution,
+                                            final int splRangeDb ) {
+        if ( ( splPaletteResolution == _splPaletteResolution ) && ( splRangeDb == _splRangeDb ) ) {
+            return false;
+        }
+
+        // Look up the new table before changing any state, so that an invalid
+        // SPL Range leaves the engine as is.
+        final SplPaletteLookupTable splPaletteLookupTable = SplPaletteLookupTable
+                .getInstance( splPaletteResolution, splRangeDb );
+        _splPaletteResolution = splPaletteResolution;
+        _splRangeDb = splRangeDb;
+        _splPaletteLookupTable = splPaletteLookupTable;
+
+        return true;
+    }
+
+    /**
+     * Returns the lookup table for the current SPL Palette Resolution and SPL
+     * Range. Callers should hold on to it for the duration of a render pass,
+     * so that the whole pass uses the same colors.
+     *
+     * @return The current shared lookup table
+     */
+    public SplPaletteLookupTable getLookupTable() {
+        return _splPaletteLookupTable;
+    }
+
+    /**
+     * Returns the packed ARGB color for the given SPL value, relative to the
+     * maximum SPL at the top of the SPL Range, without allocating.
+     *
+     * @param splDb
+     *            The SPL value in dB
+     * @param maximumSplDb
+     *            The maximum SPL in dB, at the top of the SPL Range
+     * @return The packed ARGB color, or transparent if the SPL value is not a
+     *         number
+     */
+    public int getArgb( final double splDb, final double maximumSplDb ) {
+        return _splPaletteLookupTable.getArgb( splDb, maximumSplDb );
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.image;
+
+import com.mhschmieder.jacoustics.SplPaletteResolution;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable lookup table of packed ARGB colors for one SPL Palette
+ * Resolution and SPL Range, using the Jet colormap from blue at the bottom of
+ * the SPL Range to red at the top.
+ * <p>
+ * Tables are built lazily on first request and then shared by all clients, so
+ * that mapping a dB value to a color is one array index with no allocation.
+ */
+public final class SplPaletteLookupTable {
+
+    /**
+     * The packed ARGB value for cells that have no SPL value, which is fully
+     * transparent.
+     */
+    public static final int ARGB_TRANSPARENT = 0x00000000;
+
+    // Shared cache of tables, keyed by SPL Range in dB. The outer map is never
+    // modified after class initialization, so only the inner maps need to be
+    // concurrent.
+    private static final Map< SplPaletteResolution, ConcurrentMap< Integer, SplPaletteLookupTable > > TABLE_CACHE =
+            makeTableCache();
+
+    private static Map< SplPaletteResolution, ConcurrentMap< Integer, SplPaletteLookupTable > > makeTableCache() {
+        final Map< SplPaletteResolution, ConcurrentMap< Integer, SplPaletteLookupTable > > tableCache =
+                new EnumMap<>( SplPaletteResolution.class );
+        for ( final SplPaletteResolution splPaletteResolution : SplPaletteResolution.values() ) {
+            tableCache.put( splPaletteResolution, new ConcurrentHashMap<>() );
+        }
+        return tableCache;
+    }
+
+    /**
+     * Returns the shared table for the given SPL Palette Resolution and SPL
+     * Range, building it the first time it is requested.
+     *
+     * @param splPaletteResolution
+     *            The SPL Palette Resolution, as a number of colors or as a
+     *            number of dB per color
+     * @param splRangeDb
+     *            The SPL Range in dB, as set by the SPL Range spinner
+     * @return The shared immutable table of packed ARGB colors
+     * @throws IllegalArgumentException
+     *             if the SPL Range is not positive
+     */
+    public static SplPaletteLookupTable getInstance( final SplPaletteResolution splPaletteResolution,
+                                                     final int splRangeDb ) {
+        if ( splRangeDb <= 0 ) {
+            throw new IllegalArgumentException( "SPL Range must be positive: " //$NON-NLS-1$
+                    + splRangeDb );
+        }
+
+        // NOTE: The SPL Ranges of the spinner are served from the Integer
+        // cache, so the lookup of an existing table does not allocate.
+        final ConcurrentMap< Integer, SplPaletteLookupTable > tables = TABLE_CACHE
+                .get( splPaletteResolution );
+        final Integer key = Integer.valueOf( splRangeDb );
+        final SplPaletteLookupTable table = tables.get( key );
+        if ( table != null ) {
+            return table;
+        }
+
+        return tables.computeIfAbsent( key,
+                                       k -> new SplPaletteLookupTable( splPaletteResolution,
+                                                                       splRangeDb ) );
+    }
+
+    // Get the number of dB per color for the decibel-based resolutions, or
+    // zero for the resolutions that are based on a fixed number of colors.
+    private static int getDbPerColor( final SplPaletteResolution splPaletteResolution ) {
+        switch ( splPaletteResolution ) {
+        case RES_1DB:
+            return 1;
+        case RES_2DB:
+            return 2;
+        case RES_3DB:
+            return 3;
+        case RES_256:
+        case RES_64:
+        default:
+            return 0;
+        }
+    }
+
+    // Get the number of colors for the color-count based resolutions.
+    private static int getColorCount( final SplPaletteResolution splPaletteResolution,
+                                      final int splRangeDb ) {
+        switch ( splPaletteResolution ) {
+        case RES_256:
+            return 256;
+        case RES_64:
+            return 64;
+        case RES_1DB:
+        case RES_2DB:
+        case RES_3DB:
+        default:
+            final int dbPerColor = getDbPerColor( splPaletteResolution );
+            return ( splRangeDb + dbPerColor - 1 ) / dbPerColor;
+        }
+    }
+
+    /**
+     * Returns the packed opaque ARGB color of the Jet colormap at the given
+     * normalized position, from blue at zero through cyan, yellow and red at
+     * one.
+     *
+     * @param position
+     *            The normalized position in the colormap, from zero to one
+     * @return The packed ARGB color
+     */
+    public static int getJetArgb( final double position ) {
+        final double fourPosition = 4.0d * position;
+        final int red = toColorComponent( 1.5d - Math.abs( fourPosition - 3.0d ) );
+        final int green = toColorComponent( 1.5d - Math.abs( fourPosition - 2.0d ) );
+        final int blue = toColorComponent( 1.5d - Math.abs( fourPosition - 1.0d ) );
+        return 0xFF000000 | ( red << 16 ) | ( green << 8 ) | blue;
+    }
+
+    // Clamp a unit color component and scale it to eight bits.
+    private static int toColorComponent( final double component ) {
+        final double clampedComponent = Math.max( 0.0d, Math.min( 1.0d, component ) );
+        return ( int ) Math.round( clampedComponent * 255.0d );
+    }
+
+    // The SPL Palette Resolution that this table was built for.
+    private final SplPaletteResolution _splPaletteResolution;
+
+    // The SPL Range in dB that the colors span.
+    private final int                  _splRangeDb;
+
+    // The packed ARGB colors, from the bottom to the top of the SPL Range.
+    final int[]                        _colors;
+
+    // The number of colors per dB, for converting dB offsets to indices.
+    final double                       _colorsPerDb;
+
+    private SplPaletteLookupTable( final SplPaletteResolution splPaletteResolution,
+                                   final int splRangeDb ) {
+        _splPaletteResolution = splPaletteResolution;
+        _splRangeDb = splRangeDb;
+
+        // Each color covers an equal share of the SPL Range, or a fixed number
+        // of dB for the decibel-based resolutions.
+        final int colorCount = getColorCount( splPaletteResolution, splRangeDb );
+        final int dbPerColor = getDbPerColor( splPaletteResolution );
+        _colorsPerDb = ( dbPerColor > 0 )
+            ? 1.0d / dbPerColor
+            : ( double ) colorCount / splRangeDb;
+
+        _colors = new int[ colorCount ];
+        for ( int i = 0; i < colorCount; i++ ) {
+            final double position = ( colorCount > 1 ) ? ( double ) i / ( colorCount - 1 ) : 1.0d;
+            _colors[ i ] = getJetArgb( position );
+        }
+    }
+
+    public SplPaletteResolution getSplPaletteResolution() {
+        return _splPaletteResolution;
+    }
+
+    public int getSplRangeDb() {
+        return _splRangeDb;
+    }
+
+    public int getColorCount() {
+        return _colors.length;
+    }
+
+    public int getArgb( final int index ) {
+        return _colors[ index ];
+    }
+
+    /**
+     * Returns a copy of the packed ARGB colors, from the bottom to the top of
+     * the SPL Range.
+     *
+     * @return A copy of the packed ARGB colors
+     */
+    public int[] toArray() {
+        return _colors.clone();
+    }
+
+    /**
+     * Returns the index of the color for the given SPL value, relative to the
+     * maximum SPL at the top of the SPL Range. Values beyond the SPL Range are
+     * clamped to the first or last color.
+     *
+     * @param splDb
+     *            The SPL value in dB
+     * @param maximumSplDb
+     *            The maximum SPL in dB, at the top of the SPL Range
+     * @return The index of the color, or -1 if the SPL value is not a number
+     */
+    public int getIndex( final double splDb, final double maximumSplDb ) {
+        if ( Double.isNaN( splDb ) ) {
+            return -1;
+        }
+
+        final double colorOffset = ( ( splDb - maximumSplDb ) + _splRangeDb ) * _colorsPerDb;
+        final int lastIndex = _colors.length - 1;
+        return ( colorOffset <= 0.0d )
+            ? 0
+            : ( colorOffset >= lastIndex ) ? lastIndex : ( int ) colorOffset;
+    }
+
+    /**
+     * Returns the packed ARGB color for the given SPL value, relative to the
+     * maximum SPL at the top of the SPL Range, without allocating.
+     *
+     * @param splDb
+     *            The SPL value in dB
+     * @param maximumSplDb
+     *            The maximum SPL in dB, at the top of the SPL Range
+     * @return The packed ARGB color, or {@link #ARGB_TRANSPARENT} if the SPL
+     *         value is not a number
+     */
+    public int getArgb( final double splDb, final double maximumSplDb ) {
+        final int index = getIndex( splDb, maximumSplDb );
+        return ( index >= 0 ) ? _colors[ index ] : ARGB_TRANSPARENT;
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.image;
+
+import com.mhschmieder.fxacousticscontrols.action.SplPaletteChoices;
+import com.mhschmieder.fxcontrols.action.XAction;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.scene.control.Spinner;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.controlsfx.control.action.Action;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A progressive renderer for SPL coverage maps, which shows a 1/16 resolution
+ * preview as soon as the first 1/16 of the grid has been predicted, and then
+ * refines it to 1/4 and to full resolution as the rest of the grid arrives.
+ * <p>
+ * The grid is filled in coarse-first by a level source, such as a sound field
+ * prediction that predicts a strided subset of the receivers at each level, so
+ * the first image only waits for a fraction of the prediction, while the
+ * whole grid still costs the same as predicting it in one go.
+ * <p>
+ * Each render pass runs on a background thread, with the rows of each level
+ * converted in parallel, and hands each finished level to the listener on the
+ * JavaFX Application Thread. Starting a new pass, or any change to the SPL
+ * Palette, the SPL Range or the A-weighting once they are registered as
+ * cancellation triggers, cancels the pass in progress, which stops it within a
+ * band of rows or a tile of receivers, so that stale levels are never shown.
+ */
+public final class SplProgressiveRenderer {
+
+    /**
+     * The zoom levels to render, from the 1/16 resolution preview to full
+     * resolution.
+     */
+    public static final int[] ZOOM_LEVELS = new int[] { 2, 1, 0 };
+
+    /**
+     * Fills in an SPL grid coarse-first, one zoom level at a time, on the
+     * render thread.
+     */
+    @FunctionalInterface
+    public interface LevelSource {
+
+        /**
+         * Fills in the cells of the grid whose row and column are both
+         * multiples of two to the power of the zoom level, which are the cells
+         * that the rasterizer samples at that level. Cells that were already
+         * filled in at the coarser level need not be filled in again.
+         *
+         * @param zoomLevel
+         *            The zoom level to fill in
+         * @param coarserZoomLevel
+         *            The zoom level that was already filled in, or -1 if none
+         * @param cancelled
+         *            Reports whether the render pass has been cancelled, which
+         *            should be checked regularly
+         * @return {@code true} if the level was filled in, or {@code false} if
+         *         it was cancelled part way
+         */
+        boolean fillLevel( final int zoomLevel,
+                           final int coarserZoomLevel,
+                           final BooleanSupplier cancelled );
+    }
+
+    /**
+     * Receives each level of a progressive render pass, on the JavaFX
+     * Application Thread.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Shows the next level of a progressive render pass, which should be
+         * scaled to the full map size, as the image is smaller than the grid
+         * at the coarser levels.
+         *
+         * @param image
+         *            The image of the SPL coverage map at this level
+         * @param zoomLevel
+         *            The zoom level, where each level halves the resolution
+         * @param complete
+         *            {@code true} if this is the full resolution image
+         */
+        void levelRendered( final Image image, final int zoomLevel, final boolean complete );
+    }
+
+    // The generation of the current render pass; passes of any older
+    // generation have been cancelled.
+    private final AtomicLong           _generation;
+
+    // The rasterizer is only used from the render thread.
+    private final SplHeatmapRasterizer _splHeatmapRasterizer;
+
+    // The single render thread, so that passes never overlap.
+    private final ExecutorService      _renderExecutor;
+
+    // The listener for the cancellation triggers, and the triggers that it is
+    // registered with, so that it can be removed again.
+    private final InvalidationListener _cancellationListener;
+    private final List< Observable >   _cancellationTriggers;
+
+    // Default constructor
+    public SplProgressiveRenderer() {
+        _generation = new AtomicLong( 0L );
+        _splHeatmapRasterizer = new SplHeatmapRasterizer();
+        _renderExecutor = Executors.newSingleThreadExecutor( runnable -> {
+            final Thread thread = new Thread( runnable, "SPL Progressive Renderer" ); //$NON-NLS-1$
+            thread.setDaemon( true );
+            return thread;
+        } );
+        _cancellationListener = observable -> cancel();
+        _cancellationTriggers = new ArrayList<>();
+    }
+
+    /**
+     * Cancels the render pass in progress, if any. Levels that have already
+     * been handed to the listener stay as they are.
+     */
+    public void cancel() {
+        _generation.incrementAndGet();
+    }
+
+    /**
+     * Cancels the render pass in progress whenever any of the given values
+     * change, until they are removed as cancellation triggers again.
+     *
+     * @param observables
+     *            The values that invalidate a render pass in progress
+     */
+    public void addCancellationTriggers( final Observable... observables ) {
+        for ( final Observable observable : observables ) {
+            observable.addListener( _cancellationListener );
+            _cancellationTriggers.add( observable );
+        }
+    }
+
+    /**
+     * Cancels the render pass in progress whenever the SPL Palette choice, the
+     * SPL Range or the A-weighting changes mid-render.
+     *
+     * @param splPaletteChoices
+     *            The SPL Palette choices
+     * @param splRangeSpinner
+     *            The SPL Range spinner
+     * @param showAWeightedSplValuesCheck
+     *            The A-weighting check, or null if there is none
+     */
+    public void addCancellationTriggers( final SplPaletteChoices splPaletteChoices,
+                                         final Spinner< Integer > splRangeSpinner,
+                                         final XAction showAWeightedSplValuesCheck ) {
+        for ( final Action splPaletteChoice : splPaletteChoices.getSplPaletteChoiceCollection() ) {
+            addCancellationTriggers( splPaletteChoice.selectedProperty() );
+        }
+        addCancellationTriggers( splRangeSpinner.valueProperty() );
+        if ( showAWeightedSplValuesCheck != null ) {
+            addCancellationTriggers( showAWeightedSplValuesCheck.selectedProperty() );
+        }
+    }
+
+    /**
+     * Stops the given values from cancelling render passes.
+     *
+     * @param observables
+     *            The values to remove as cancellation triggers
+     */
+    public void removeCancellationTriggers( final Observable... observables ) {
+        for ( final Observable observable : observables ) {
+            observable.removeListener( _cancellationListener );
+            _cancellationTriggers.remove( observable );
+        }
+    }
+
+    /**
+     * Removes all of the cancellation triggers, so that the values that they
+     * were registered with no longer hold on to this renderer.
+     */
+    public void removeAllCancellationTriggers() {
+        for ( final Observable observable : _cancellationTriggers ) {
+            observable.removeListener( _cancellationListener );
+        }
+        _cancellationTriggers.clear();
+    }
+
+    /**
+     * Starts a progressive render pass of an SPL grid that is filled in
+     * coarse-first by the level source, cancelling any pass in progress.
+     * <p>
+     * The grid must not be modified other than by the level source until the
+     * pass completes or is cancelled.
+     *
+     * @param splGrid
+     *            The row-major grid of SPL values in dB, at full resolution,
+     *            from the position to the limit of the buffer
+     * @param gridWidth
+     *            The number of columns in the grid
+     * @param gridHeight
+     *            The number of rows in the grid
+     * @param levelSource
+     *            The source that fills in the grid, one level at a time
+     * @param splPaletteLookupTable
+     *            The palette lookup table for the SPL Range
+     * @param maximumSplDb
+     *            The maximum SPL in dB, at the top of the SPL Range
+     * @param listener
+     *            The listener to hand each level to
+     */
+    public void render( final FloatBuffer splGrid,
+                        final int gridWidth,
+                        final int gridHeight,
+                        final LevelSource levelSource,
+                        final SplPaletteLookupTable splPaletteLookupTable,
+                        final double maximumSplDb,
+                        final Listener listener ) {
+        final SplGridSource gridSource = SplGridSource.of( splGrid );
+        SplHeatmapRasterizer.checkGridSize( gridSource.size(), gridWidth, gridHeight );
+        if ( ( gridWidth == 0 ) || ( gridHeight == 0 ) ) {
+            return;
+        }
+
+        final long generation = _generation.incrementAndGet();
+        final BooleanSupplier cancelled = () -> _generation.get() != generation;
+        _renderExecutor.execute( () -> {
+            int coarserZoomLevel = -1;
+            for ( final int zoomLevel : ZOOM_LEVELS ) {
+                if ( !levelSource.fillLevel( zoomLevel, coarserZoomLevel, cancelled )
+                        || cancelled.getAsBoolean() ) {
+                    return;
+                }
+                coarserZoomLevel = zoomLevel;
+
+                // NOTE: Each level writes to a new image that is not yet shown,
+                // so it is safe to write it off the JavaFX Application Thread.
+                final WritableImage image = new WritableImage(
+                        SplTileCache.getZoomedDimension( gridWidth, zoomLevel ),
+                        SplTileCache.getZoomedDimension( gridHeight, zoomLevel ) );
+                if ( !_splHeatmapRasterizer.rasterize( gridSource,
+                                                       gridWidth,
+                                                       gridHeight,
+                                                       zoomLevel,
+                                                       splPaletteLookupTable,
+                                                       maximumSplDb,
+                                                       image,
+                                                       cancelled ) ) {
+                    return;
+                }
+
+                // Check again once on the JavaFX Application Thread, as the
+                // pass may have been cancelled while this level was queued.
+                Platform.runLater( () -> {
+                    if ( !cancelled.getAsBoolean() ) {
+                        listener.levelRendered( image, zoomLevel, zoomLevel == 0 );
+                    }
+                } );
+            }
+        } );
+    }
+
+    /**
+     * Cancels any render pass in progress, removes all of the cancellation
+     * triggers and stops the render thread, after which this renderer can no
+     * longer be used.
+     */
+    public void shutdown() {
+        cancel();
+        removeAllCancellationTriggers();
+        _renderExecutor.shutdown();
+    }
+}
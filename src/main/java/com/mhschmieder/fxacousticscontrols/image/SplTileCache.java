@@ -0,0 +1,505 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.image;
+
+import com.mhschmieder.fxacousticscontrols.cache.WeightedLruCache;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A tiled, cached renderer for SPL coverage maps, so that panning and zooming
+ * only renders the tiles that are newly exposed.
+ * <p>
+ * The map is divided into fixed-size square tiles of packed ARGB pixels, at a
+ * number of zoom levels where each level halves the resolution of the one
+ * below it, down from the full SPL grid at level zero. Tiles are kept in a
+ * least-recently-used cache with a memory budget, keyed by everything that
+ * affects their colors: the grid version, the SPL Palette Resolution, the SPL
+ * Range and maximum SPL, the zoom level, and the tile position.
+ * <p>
+ * Changing the palette or the SPL Range therefore misses the cache, while the
+ * tiles for the previous palette age out; bumping the grid version does the
+ * same for new SPL values, and superseded versions can also be purged right
+ * away.
+ */
+public final class SplTileCache {
+
+    /**
+     * The default tile size, in pixels along each side.
+     */
+    public static final int  TILE_SIZE_DEFAULT     = 256;
+
+    /**
+     * The default memory budget for the cached tiles, in bytes.
+     */
+    public static final long MAXIMUM_BYTES_DEFAULT = 64L * 1024L * 1024L;
+
+    // NOTE: The palette colors are either opaque or fully transparent zero,
+    // so they are the same in premultiplied form.
+    private static final PixelFormat< IntBuffer > PIXEL_FORMAT =
+            PixelFormat.getIntArgbPreInstance();
+
+    // The tile size, in pixels along each side.
+    private final int                                  _tileSize;
+
+    // The cached tiles, weighed by their size in bytes.
+    private final WeightedLruCache< SplTileKey, int[] > _tiles;
+
+    // The fork-join pool to render missing tiles on.
+    private final ForkJoinPool                         _forkJoinPool;
+
+    // Default constructor
+    public SplTileCache() {
+        this( TILE_SIZE_DEFAULT, MAXIMUM_BYTES_DEFAULT );
+    }
+
+    public SplTileCache( final int tileSize, final long maximumBytes ) {
+        this( tileSize, maximumBytes, ForkJoinPool.commonPool() );
+    }
+
+    public SplTileCache( final int tileSize,
+                         final long maximumBytes,
+                         final ForkJoinPool forkJoinPool ) {
+        if ( tileSize <= 0 ) {
+            throw new IllegalArgumentException( "Tile size must be positive: " //$NON-NLS-1$
+                    + tileSize );
+        }
+
+        _tileSize = tileSize;
+        _tiles = new WeightedLruCache<>( maximumBytes, tile -> 4L * tile.length );
+        _forkJoinPool = forkJoinPool;
+    }
+
+    public int getTileSize() {
+        return _tileSize;
+    }
+
+    /**
+     * Returns the width or height of the map at the given zoom level, in
+     * pixels, for a grid dimension at full resolution.
+     *
+     * @param gridDimension
+     *            The number of grid columns or rows
+     * @param zoomLevel
+     *            The zoom level, where each level halves the resolution
+     * @return The number of pixels along that dimension at the zoom level
+     */
+    public static int getZoomedDimension( final int gridDimension, final int zoomLevel ) {
+        final int decimation = 1 << zoomLevel;
+        return ( gridDimension + decimation - 1 ) >> zoomLevel;
+    }
+
+    /**
+     * Draws a viewport of the SPL coverage map to the top left corner of the
+     * image, rendering only those tiles that are not already cached.
+     *
+     * @param splGrid
+     *            The row-major grid of SPL values in dB, at full resolution
+     * @param gridWidth
+     *            The number of columns in the grid
+     * @param gridHeight
+     *            The number of rows in the grid
+     * @param gridVersion
+     *            The version of the SPL grid, which the caller bumps whenever
+     *            the SPL values change
+     * @param splPaletteLookupTable
+     *            The palette lookup table for the SPL Range
+     * @param maximumSplDb
+     *            The maximum SPL in dB, at the top of the SPL Range
+     * @param zoomLevel
+     *            The zoom level, where each level halves the resolution
+     * @param viewportX
+     *            The left edge of the viewport, in pixels at the zoom level
+     * @param viewportY
+     *            The top edge of the viewport, in pixels at the zoom level
+     * @param viewportWidth
+     *            The width of the viewport, in pixels
+     * @param viewportHeight
+     *            The height of the viewport, in pixels
+     * @param image
+     *            The image to draw to, which must be at least as large as the
+     *            viewport
+     */
+    public void drawViewport( final float[] splGrid,
+                              final int gridWidth,
+                              final int gridHeight,
+                              final long gridVersion,
+                              final SplPaletteLookupTable splPaletteLookupTable,
+                              final double maximumSplDb,
+                              final int zoomLevel,
+                              final int viewportX,
+                              final int viewportY,
+                              final int viewportWidth,
+                              final int viewportHeight,
+                              final WritableImage image ) {
+        drawViewport( SplGridSource.of( splGrid ),
+                      gridWidth,
+                      gridHeight,
+                      gridVersion,
+                      splPaletteLookupTable,
+                      maximumSplDb,
+                      zoomLevel,
+                      viewportX,
+                      viewportY,
+                      viewportWidth,
+                      viewportHeight,
+                      image );
+    }
+
+    /**
+     * Draws a viewport of the SPL coverage map to the top left corner of the
+     * image, rendering only those tiles that are not already cached.
+     * <p>
+     * The grid is the values from the position to the limit of the buffer,
+     * which are read with absolute gets so that the buffer itself is left
+     * untouched.
+     *
+     * @param splGrid
+     *            The row-major grid of SPL values in dB, at full resolution
+     * @param gridWidth
+     *            The number of columns in the grid
+     * @param gridHeight
+     *            The number of rows in the grid
+     * @param gridVersion
+     *            The version of the SPL grid, which the caller bumps whenever
+     *            the SPL values change
+     * @param splPaletteLookupTable
+     *            The palette lookup table for the SPL Range
+     * @param maximumSplDb
+     *            The maximum SPL in dB, at the top of the SPL Range
+     * @param zoomLevel
+     *            The zoom level, where each level halves the resolution
+     * @param viewportX
+     *            The left edge of the viewport, in pixels at the zoom level
+     * @param viewportY
+     *            The top edge of the viewport, in pixels at the zoom level
+     * @param viewportWidth
+     *            The width of the viewport, in pixels
+     * @param viewportHeight
+     *            The height of the viewport, in pixels
+     * @param image
+     *            The image to draw to, which must be at least as large as the
+     *            viewport
+     */
+    public void drawViewport( final FloatBuffer splGrid,
+                              final int gridWidth,
+                              final int gridHeight,
+                              final long gridVersion,
+                              final SplPaletteLookupTable splPaletteLookupTable,
+                              final double maximumSplDb,
+                              final int zoomLevel,
+                              final int viewportX,
+                              final int viewportY,
+                              final int viewportWidth,
+                              final int viewportHeight,
+                              final WritableImage image ) {
+        drawViewport( SplGridSource.of( splGrid ),
+                      gridWidth,
+                      gridHeight,
+                      gridVersion,
+                      splPaletteLookupTable,
+                      maximumSplDb,
+                      zoomLevel,
+                      viewportX,
+                      viewportY,
+                      viewportWidth,
+                      viewportHeight,
+                      image );
+    }
+
+    private void drawViewport( final SplGridSource gridSource,
+                               final int gridWidth,
+                               final int gridHeight,
+                               final long gridVersion,
+                               final SplPaletteLookupTable splPaletteLookupTable,
+                               final double maximumSplDb,
+                               final int zoomLevel,
+                               final int viewportX,
+                               final int viewportY,
+                               final int viewportWidth,
+                               final int viewportHeight,
+                               final WritableImage image ) {
+        SplHeatmapRasterizer.checkGridSize( gridSource.size(), gridWidth, gridHeight );
+        if ( ( viewportWidth <= 0 ) || ( viewportHeight <= 0 ) ) {
+            return;
+        }
+
+        // Find the tiles that overlap the viewport, and render the missing
+        // ones in parallel before drawing any of them.
+        final int firstTileX = Math.floorDiv( viewportX, _tileSize );
+        final int firstTileY = Math.floorDiv( viewportY, _tileSize );
+        final int lastTileX = Math.floorDiv( viewportX + viewportWidth - 1, _tileSize );
+        final int lastTileY = Math.floorDiv( viewportY + viewportHeight - 1, _tileSize );
+        final int tileColumns = ( lastTileX - firstTileX ) + 1;
+        final int tileRows = ( lastTileY - firstTileY ) + 1;
+
+        final SplTileKey[] tileKeys = new SplTileKey[ tileColumns * tileRows ];
+        final int[][] tiles = new int[ tileKeys.length ][];
+        final List< Integer > missingTiles = new ArrayList<>();
+        for ( int row = 0; row < tileRows; row++ ) {
+            for ( int column = 0; column < tileColumns; column++ ) {
+                final int tileIndex = ( row * tileColumns ) + column;
+                tileKeys[ tileIndex ] = new SplTileKey( gridVersion,
+                                                        splPaletteLookupTable
+                                                                .getSplPaletteResolution(),
+                                                        splPaletteLookupTable.getSplRangeDb(),
+                                                        maximumSplDb,
+                                                        zoomLevel,
+                                                        firstTileX + column,
+                                                        firstTileY + row );
+                tiles[ tileIndex ] = _tiles.get( tileKeys[ tileIndex ] );
+                if ( tiles[ tileIndex ] == null ) {
+                    missingTiles.add( Integer.valueOf( tileIndex ) );
+                }
+            }
+        }
+
+        if ( !missingTiles.isEmpty() ) {
+            final TileRenderTask tileRenderTask = new TileRenderTask( gridSource,
+                                                                      gridWidth,
+                                                                      gridHeight,
+                                                                      splPaletteLookupTable,
+                                                                      maximumSplDb,
+                                                                      tileKeys,
+                                                                      tiles,
+                                                                      missingTiles,
+                                                                      0,
+                                                                      missingTiles.size() );
+            if ( missingTiles.size() == 1 ) {
+                tileRenderTask.compute();
+            }
+            else {
+                _forkJoinPool.invoke( tileRenderTask );
+            }
+            for ( final Integer tileIndex : missingTiles ) {
+                _tiles.put( tileKeys[ tileIndex ], tiles[ tileIndex ] );
+            }
+        }
+
+        // Copy the visible part of each tile to the image.
+        final PixelWriter pixelWriter = image.getPixelWriter();
+        for ( int tileIndex = 0; tileIndex < tileKeys.length; tileIndex++ ) {
+            final int tileLeft = tileKeys[ tileIndex ].getTileX() * _tileSize;
+            final int tileTop = tileKeys[ tileIndex ].getTileY() * _tileSize;
+            final int left = Math.max( tileLeft, viewportX );
+            final int top = Math.max( tileTop, viewportY );
+            final int right = Math.min( tileLeft + _tileSize, viewportX + viewportWidth );
+            final int bottom = Math.min( tileTop + _tileSize, viewportY + viewportHeight );
+            final int offset = ( ( top - tileTop ) * _tileSize ) + ( left - tileLeft );
+            pixelWriter.setPixels( left - viewportX,
+                                   top - viewportY,
+                                   right - left,
+                                   bottom - top,
+                                   PIXEL_FORMAT,
+                                   tiles[ tileIndex ],
+                                   offset,
+                                   _tileSize );
+        }
+    }
+
+    // Render one tile from the grid, sampling every cell at full resolution,
+    // or the top left cell of each block of cells at coarser zoom levels.
+    // Pixels outside the grid are left transparent.
+    private static int[] renderTile( final SplGridSource gridSource,
+                                     final int gridWidth,
+                                     final int gridHeight,
+                                     final SplPaletteLookupTable splPaletteLookupTable,
+                                     final double maximumSplDb,
+                                     final int tileSize,
+                                     final SplTileKey tileKey ) {
+        final int[] tile = new int[ tileSize * tileSize ];
+        final int zoomLevel = tileKey.getZoomLevel();
+        final int zoomedWidth = getZoomedDimension( gridWidth, zoomLevel );
+        final int zoomedHeight = getZoomedDimension( gridHeight, zoomLevel );
+        final int tileLeft = tileKey.getTileX() * tileSize;
+        final int tileTop = tileKey.getTileY() * tileSize;
+
+        for ( int y = 0; y < tileSize; y++ ) {
+            final int zoomedY = tileTop + y;
+            if ( ( zoomedY < 0 ) || ( zoomedY >= zoomedHeight ) ) {
+                continue;
+            }
+
+            final int rowIndex = ( zoomedY << zoomLevel ) * gridWidth;
+            for ( int x = 0; x < tileSize; x++ ) {
+                final int zoomedX = tileLeft + x;
+                if ( ( zoomedX < 0 ) || ( zoomedX >= zoomedWidth ) ) {
+                    continue;
+                }
+
+                final float splDb = gridSource.get( rowIndex + ( zoomedX << zoomLevel ) );
+                tile[ ( y * tileSize ) + x ] = splPaletteLookupTable.getArgb( splDb,
+                                                                              maximumSplDb );
+            }
+        }
+
+        return tile;
+    }
+
+    /**
+     * Removes the tiles of all grid versions before the given one, to free
+     * their memory right away rather than letting them age out.
+     *
+     * @param gridVersion
+     *            The oldest grid version to keep
+     */
+    public void removeGridVersionsBefore( final long gridVersion ) {
+        _tiles.removeIf( tileKey -> tileKey.getGridVersion() < gridVersion );
+    }
+
+    /**
+     * Removes all cached tiles.
+     */
+    public void clear() {
+        _tiles.clear();
+    }
+
+    public long getMaximumBytes() {
+        return _tiles.getMaximumWeight();
+    }
+
+    public void setMaximumBytes( final long maximumBytes ) {
+        _tiles.setMaximumWeight( maximumBytes );
+    }
+
+    public long getCachedBytes() {
+        return _tiles.getWeight();
+    }
+
+    public int getCachedTileCount() {
+        return _tiles.size();
+    }
+
+    public long getHitCount() {
+        return _tiles.getHitCount();
+    }
+
+    public long getMissCount() {
+        return _tiles.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return _tiles.getEvictionCount();
+    }
+
+    public void resetCounts() {
+        _tiles.resetCounts();
+    }
+
+    /**
+     * Renders a range of the missing tiles, splitting the range in half until
+     * a single tile is left.
+     */
+    private final class TileRenderTask extends RecursiveAction {
+
+        private static final long           serialVersionUID = 1L;
+
+        private final SplGridSource         _gridSource;
+        private final int                   _gridWidth;
+        private final int                   _gridHeight;
+        private final SplPaletteLookupTable _splPaletteLookupTable;
+        private final double                _maximumSplDb;
+        private final SplTileKey[]          _tileKeys;
+        private final int[][]               _renderedTiles;
+        private final List< Integer >       _missingTiles;
+        private final int                   _fromIndex;
+        private final int                   _toIndex;
+
+        TileRenderTask( final SplGridSource gridSource,
+                        final int gridWidth,
+                        final int gridHeight,
+                        final SplPaletteLookupTable splPaletteLookupTable,
+                        final double maximumSplDb,
+                        final SplTileKey[] tileKeys,
+                        final int[][] renderedTiles,
+                        final List< Integer > missingTiles,
+                        final int fromIndex,
+                        final int toIndex ) {
+            _gridSource = gridSource;
+            _gridWidth = gridWidth;
+            _gridHeight = gridHeight;
+            _splPaletteLookupTable = splPaletteLookupTable;
+            _maximumSplDb = maximumSplDb;
+            _tileKeys = tileKeys;
+            _renderedTiles = renderedTiles;
+            _missingTiles = missingTiles;
+            _fromIndex = fromIndex;
+            _toIndex = toIndex;
+        }
+
+        @Override
+        protected void compute() {
+            if ( ( _toIndex - _fromIndex ) <= 1 ) {
+                for ( int i = _fromIndex; i < _toIndex; i++ ) {
+                    final int tileIndex = _missingTiles.get( i );
+                    _renderedTiles[ tileIndex ] = renderTile( _gridSource,
+                                                              _gridWidth,
+                                                              _gridHeight,
+                                                              _splPaletteLookupTable,
+                                                              _maximumSplDb,
+                                                              _tileSize,
+                                                              _tileKeys[ tileIndex ] );
+                }
+                return;
+            }
+
+            final int middleIndex = ( _fromIndex + _toIndex ) >>> 1;
+            invokeAll( new TileRenderTask( _gridSource,
+                                           _gridWidth,
+                                           _gridHeight,
+                                           _splPaletteLookupTable,
+                                           _maximumSplDb,
+                                           _tileKeys,
+                                           _renderedTiles,
+                                           _missingTiles,
+                                           _fromIndex,
+                                           middleIndex ),
+                       new TileRenderTask( _gridSource,
+                                           _gridWidth,
+                                           _gridHeight,
+                                           _splPaletteLookupTable,
+                                           _maximumSplDb,
+                                           _tileKeys,
+                                           _renderedTiles,
+                                           _missingTiles,
+                                           middleIndex,
+                                           _toIndex ) );
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.image;
+
+import com.mhschmieder.jacoustics.SplPaletteResolution;
+
+/**
+ * An immutable key for one cached tile of a rendered SPL coverage map, which
+ * captures everything that affects the colors of its pixels.
+ */
+public final class SplTileKey {
+
+    private final long                 _gridVersion;
+    private final SplPaletteResolution _splPaletteResolution;
+    private final int                  _splRangeDb;
+    private final double               _maximumSplDb;
+    private final int                  _zoomLevel;
+    private final int                  _tileX;
+    private final int                  _tileY;
+    private final int                  _hashCode;
+
+    /**
+     * Constructs a tile key.
+     *
+     * @param gridVersion
+     *            The version of the SPL grid, which the caller bumps whenever
+     *            the SPL values change
+     * @param splPaletteResolution
+     *            The SPL Palette Resolution
+     * @param splRangeDb
+     *            The SPL Range in dB
+     * @param maximumSplDb
+     *            The maximum SPL in dB, at the top of the SPL Range
+     * @param zoomLevel
+     *            The zoom level, where each level halves the resolution
+     * @param tileX
+     *            The column of the tile at this zoom level
+     * @param tileY
+     *            The row of the tile at this zoom level
+     */
+    public SplTileKey( final long gridVersion,
+                       final SplPaletteResolution splPaletteResolution,
+                       final int splRangeDb,
+                       final double maximumSplDb,
+                       final int zoomLevel,
+                       final int tileX,
+                       final int tileY ) {
+        _gridVersion = gridVersion;
+        _splPaletteResolution = splPaletteResolution;
+        _splRangeDb = splRangeDb;
+        _maximumSplDb = maximumSplDb;
+        _zoomLevel = zoomLevel;
+        _tileX = tileX;
+        _tileY = tileY;
+
+        // Tile keys are hashed on every lookup, so compute the hash just once.
+        int hashCode = Long.hashCode( gridVersion );
+        hashCode = ( 31 * hashCode ) + splPaletteResolution.hashCode();
+        hashCode = ( 31 * hashCode ) + splRangeDb;
+        hashCode = ( 31 * hashCode ) + Double.hashCode( maximumSplDb );
+        hashCode = ( 31 * hashCode ) + zoomLevel;
+        hashCode = ( 31 * hashCode ) + tileX;
+        hashCode = ( 31 * hashCode ) + tileY;
+        _hashCode = hashCode;
+    }
+
+    public long getGridVersion() {
+        return _gridVersion;
+    }
+
+    public SplPaletteResolution getSplPaletteResolution() {
+        return _splPaletteResolution;
+    }
+
+    public int getSplRangeDb() {
+        return _splRangeDb;
+    }
+
+    public double getMaximumSplDb() {
+        return _maximumSplDb;
+    }
+
+    public int getZoomLevel() {
+        return _zoomLevel;
+    }
+
+    public int getTileX() {
+        return _tileX;
+    }
+
+    public int getTileY() {
+        return _tileY;
+    }
+
+    @Override
+    public boolean equals( final Object other ) {
+        if ( this == other ) {
+            return true;
+        }
+        if ( !( other instanceof SplTileKey ) ) {
+            return false;
+        }
+
+        final SplTileKey otherKey = ( SplTileKey ) other;
+        return ( _gridVersion == otherKey._gridVersion )
+                && ( _splPaletteResolution == otherKey._splPaletteResolution )
+                && ( _splRangeDb == otherKey._splRangeDb )
+                && ( Double.compare( _maximumSplDb, otherKey._maximumSplDb ) == 0 )
+                && ( _zoomLevel == otherKey._zoomLevel ) && ( _tileX == otherKey._tileX )
+                && ( _tileY == otherKey._tileY );
+    }
+
+    @Override
+    public int hashCode() {
+        return _hashCode;
+    }
+}
@@ -0,0 +1,491 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.model;
+
+import com.mhschmieder.jacoustics.CenterFrequencies;
+import com.mhschmieder.jacoustics.FrequencySignalUtilities;
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable table of the nominal Center Frequencies for one Relative
+ * Bandwidth and Octave Range, along with their pre-formatted labels.
+ * <p>
+ * Tables are built lazily on first request and then shared by all clients, so
+ * that switching selectors is a lookup rather than a rebuild of the list.
+ */
+public final class CenterFrequencyTable {
+
+    // Exclusive stop indices into the nominal wide band frequency tables,
+    // matching the valid operating range of the Center Frequency selectors.
+    private static final int STOP_INDEX_ONE_OCTAVE   = 15;
+    private static final int STOP_INDEX_THIRD_OCTAVE = 43;
+
+    // Shared cache of tables, keyed by start index for wide band tables, and
+    // by Octave Range for narrow band tables. The outer map is never modified
+    // after class initialization, so only the inner maps need to be
+    // concurrent.
+    private static final Map< RelativeBandwidth, ConcurrentMap< Object, CenterFrequencyTable > > TABLE_CACHE =
+            makeTableCache();
+
+    // Shared cache of full span narrow band tables, from 10 Hz to 20 kHz.
+    private static final ConcurrentMap< RelativeBandwidth, CenterFrequencyTable > FULL_SPAN_TABLE_CACHE =
+            new ConcurrentHashMap<>();
+
+    private static Map< RelativeBandwidth, ConcurrentMap< Object, CenterFrequencyTable > > makeTableCache() {
+        final Map< RelativeBandwidth, ConcurrentMap< Object, CenterFrequencyTable > > tableCache =
+                new EnumMap<>( RelativeBandwidth.class );
+        for ( final RelativeBandwidth relativeBandwidth : RelativeBandwidth.values() ) {
+            tableCache.put( relativeBandwidth, new ConcurrentHashMap<>() );
+        }
+        return tableCache;
+    }
+
+    /**
+     * Returns the shared table for the given Relative Bandwidth and Octave
+     * Range, building it the first time it is requested.
+     *
+     * @param relativeBandwidth
+     *            The Relative Bandwidth of the bands
+     * @param octaveRange
+     *            The Octave Range; ignored for wide band Relative Bandwidths
+     * @param startIndex
+     *            The start index into the nominal wide band frequencies;
+     *            ignored for narrow band Relative Bandwidths
+     * @return The shared immutable table of Center Frequencies
+     */
+    public static CenterFrequencyTable getInstance( final RelativeBandwidth relativeBandwidth,
+                                                    final OctaveRange octaveRange,
+                                                    final int startIndex ) {
+        // NOTE: Small start indices are served from the Integer cache, so the
+        // lookup of an existing table does not allocate.
+        final ConcurrentMap< Object, CenterFrequencyTable > tables = TABLE_CACHE
+                .get( relativeBandwidth );
+        final boolean wideBand = isWideBand( relativeBandwidth );
+
+        // Narrow bands cannot span the wide Octave Range, which can happen
+        // transiently while the Octave Range list is being switched over.
+        final OctaveRange bandOctaveRange = wideBand
+            ? OctaveRange.WIDE
+            : ( ( octaveRange == null ) || octaveRange.isWide() )
+                ? OctaveRange.defaultValue()
+                : octaveRange;
+        final Object key = wideBand ? Integer.valueOf( startIndex ) : bandOctaveRange;
+        final CenterFrequencyTable table = tables.get( key );
+        if ( table != null ) {
+            return table;
+        }
+
+        return tables.computeIfAbsent( key,
+                                       k -> new CenterFrequencyTable( relativeBandwidth,
+                                                                      bandOctaveRange,
+                                                                      startIndex ) );
+    }
+
+    /**
+     * Returns the shared table of all narrow bands from 10 Hz to 20 kHz for
+     * the given Relative Bandwidth, building it the first time it is requested.
+     * <p>
+     * Wide band Relative Bandwidths already span the full range in one table,
+     * so they return the same table as for their default start index.
+     *
+     * @param relativeBandwidth
+     *            The Relative Bandwidth of the bands
+     * @param startIndex
+     *            The start index into the nominal wide band frequencies;
+     *            ignored for narrow band Relative Bandwidths
+     * @return The shared immutable table of Center Frequencies
+     */
+    public static CenterFrequencyTable getFullSpanInstance( final RelativeBandwidth relativeBandwidth,
+                                                            final int startIndex ) {
+        if ( isWideBand( relativeBandwidth ) ) {
+            return getInstance( relativeBandwidth, OctaveRange.WIDE, startIndex );
+        }
+
+        final CenterFrequencyTable table = FULL_SPAN_TABLE_CACHE.get( relativeBandwidth );
+        if ( table != null ) {
+            return table;
+        }
+
+        return FULL_SPAN_TABLE_CACHE
+                .computeIfAbsent( relativeBandwidth,
+                                  k -> new CenterFrequencyTable( relativeBandwidth,
+                                                                 OctaveRange.WIDE,
+                                                                 makeFullSpanCenterFrequencies( relativeBandwidth ) ) );
+    }
+
+    public static boolean isWideBand( final RelativeBandwidth relativeBandwidth ) {
+        return RelativeBandwidth.ONE_OCTAVE.equals( relativeBandwidth )
+                || RelativeBandwidth.THIRD_OCTAVE.equals( relativeBandwidth );
+    }
+
+    private final RelativeBandwidth _relativeBandwidth;
+    private final OctaveRange       _octaveRange;
+    private final double[]          _centerFrequencies;
+    private final String[]          _labels;
+    private final List< String >    _labelList;
+    private final double            _lowerBandEdge;
+    private final double            _upperBandEdge;
+
+    // Type-ahead index of the labels in lexical order, built on first use.
+    // NOTE: Racing threads at worst build identical indices, and the index is
+    // immutable once published.
+    private volatile TypeAheadIndex _typeAheadIndex;
+
+    private CenterFrequencyTable( final RelativeBandwidth relativeBandwidth,
+                                  final OctaveRange octaveRange,
+                                  final int startIndex ) {
+        this( relativeBandwidth,
+              octaveRange,
+              makeCenterFrequencies( relativeBandwidth, octaveRange, startIndex ) );
+    }
+
+    private CenterFrequencyTable( final RelativeBandwidth relativeBandwidth,
+                                  final OctaveRange octaveRange,
+                                  final double[] centerFrequencies ) {
+        _relativeBandwidth = relativeBandwidth;
+        _octaveRange = octaveRange;
+        _centerFrequencies = centerFrequencies;
+
+        // Band edges are half a band beyond the outermost Center Frequencies.
+        final double halfBandRatio = FastMath
+                .pow( 2.0d, 0.5d / relativeBandwidth.toOctaveDivider() );
+        _lowerBandEdge = ( _centerFrequencies.length > 0 )
+            ? _centerFrequencies[ 0 ] / halfBandRatio
+            : Double.NaN;
+        _upperBandEdge = ( _centerFrequencies.length > 0 )
+            ? _centerFrequencies[ _centerFrequencies.length - 1 ] * halfBandRatio
+            : Double.NaN;
+
+        // NOTE: We force US locale for now, to match the formatting of the
+        // Center Frequency selectors. Nominal labels are shared and interned.
+        final FrequencyLabelFormatter frequencyLabelFormatter = FrequencyLabelFormatter
+                .getInstance( Locale.US );
+
+        _labels = new String[ _centerFrequencies.length ];
+        for ( int i = 0; i < _centerFrequencies.length; i++ ) {
+            _labels[ i ] = frequencyLabelFormatter.format( _centerFrequencies[ i ] );
+        }
+        _labelList = Collections.unmodifiableList( Arrays.asList( _labels ) );
+    }
+
+    // Generate the sorted, de-duplicated nominal Center Frequencies.
+    private static double[] makeCenterFrequencies( final RelativeBandwidth relativeBandwidth,
+                                                   final OctaveRange octaveRange,
+                                                   final int startIndex ) {
+        double[] centerFrequencies;
+        switch ( relativeBandwidth ) {
+        case ONE_OCTAVE:
+            // Match full octave bandwidth, using only the valid operating
+            // range.
+            centerFrequencies = Arrays
+                    .copyOfRange( CenterFrequencies.NOMINAL_FULL_OCTAVE_CENTER_FREQUENCIES,
+                                  startIndex,
+                                  STOP_INDEX_ONE_OCTAVE );
+            break;
+        case THIRD_OCTAVE:
+            // Match third octave bandwidth, using only the valid operating
+            // range.
+            centerFrequencies = Arrays
+                    .copyOfRange( CenterFrequencies.NOMINAL_THIRD_OCTAVE_CENTER_FREQUENCIES,
+                                  startIndex,
+                                  STOP_INDEX_THIRD_OCTAVE );
+            break;
+        case SIXTH_OCTAVE:
+        case TWELTH_OCTAVE:
+        case TWENTYFOURTH_OCTAVE:
+        case FORTYEIGHTH_OCTAVE:
+            final int octaveDivider = relativeBandwidth.toOctaveDivider();
+            final int startIndexAt10Hz = 10 * ( int ) FastMath.ceil( octaveDivider / 3.0d );
+
+            final int octaveOffsetFrom10Hz = octaveRange.getOctaveOffsetFrom10Hz();
+
+            final int narrowBandStartIndex = startIndexAt10Hz
+                    + ( octaveOffsetFrom10Hz * octaveDivider );
+
+            // Insert the specific 1 kHz frequencies between 10 kHz and 20 kHz
+            // after the algorithmically generated ones, as the sort below
+            // puts everything in order and removes duplicates.
+            final boolean includeKilohertzSteps =
+                                                OctaveRange.RANGE_10KHZ_TO_20KHZ == octaveRange;
+            centerFrequencies = new double[ octaveDivider + ( includeKilohertzSteps ? 11 : 0 ) ];
+            for ( int i = 0; i < octaveDivider; i++ ) {
+                centerFrequencies[ i ] = FrequencySignalUtilities
+                        .getCenterFrequencyByBandNumber( narrowBandStartIndex + i, octaveDivider );
+            }
+            if ( includeKilohertzSteps ) {
+                for ( int j = 0; j <= 10; j++ ) {
+                    centerFrequencies[ octaveDivider + j ] = 10000d + ( j * 1000d );
+                }
+            }
+            break;
+        default:
+            centerFrequencies = new double[ 0 ];
+            break;
+        }
+
+        return sortAndRemoveDuplicates( centerFrequencies );
+    }
+
+    // Generate the narrow band Center Frequencies of every narrow Octave
+    // Range, including the low frequency extended range.
+    private static double[] makeFullSpanCenterFrequencies( final RelativeBandwidth relativeBandwidth ) {
+        final List< OctaveRange > octaveRanges = OctaveRange.narrowBandValues( true );
+        final double[][] octaveCenterFrequencies = new double[ octaveRanges.size() ][];
+        int numberOfBands = 0;
+        for ( int i = 0; i < octaveCenterFrequencies.length; i++ ) {
+            octaveCenterFrequencies[ i ] = makeCenterFrequencies( relativeBandwidth,
+                                                                  octaveRanges.get( i ),
+                                                                  0 );
+            numberOfBands += octaveCenterFrequencies[ i ].length;
+        }
+
+        final double[] centerFrequencies = new double[ numberOfBands ];
+        int offset = 0;
+        for ( final double[] octave : octaveCenterFrequencies ) {
+            System.arraycopy( octave, 0, centerFrequencies, offset, octave.length );
+            offset += octave.length;
+        }
+
+        return sortAndRemoveDuplicates( centerFrequencies );
+    }
+
+    private static double[] sortAndRemoveDuplicates( final double[] values ) {
+        Arrays.sort( values );
+
+        int uniqueCount = 0;
+        for ( int i = 0; i < values.length; i++ ) {
+            if ( ( uniqueCount == 0 ) || ( values[ i ] != values[ uniqueCount - 1 ] ) ) {
+                values[ uniqueCount++ ] = values[ i ];
+            }
+        }
+
+        return ( uniqueCount == values.length ) ? values : Arrays.copyOf( values, uniqueCount );
+    }
+
+    public RelativeBandwidth getRelativeBandwidth() {
+        return _relativeBandwidth;
+    }
+
+    public OctaveRange getOctaveRange() {
+        return _octaveRange;
+    }
+
+    public boolean isNarrowBand() {
+        return !isWideBand( _relativeBandwidth );
+    }
+
+    public int size() {
+        return _centerFrequencies.length;
+    }
+
+    public double getCenterFrequency( final int index ) {
+        return _centerFrequencies[ index ];
+    }
+
+    public String getLabel( final int index ) {
+        return _labels[ index ];
+    }
+
+    /**
+     * Returns the pre-formatted labels, in ascending frequency order.
+     *
+     * @return An unmodifiable view of the pre-formatted labels
+     */
+    public List< String > getLabels() {
+        return _labelList;
+    }
+
+    /**
+     * Returns a copy of the Center Frequencies, in ascending order.
+     *
+     * @return A copy of the Center Frequencies
+     */
+    public double[] toArray() {
+        return _centerFrequencies.clone();
+    }
+
+    /**
+     * Returns whether the given frequency falls within the bands of this table,
+     * which extend half a band beyond the lowest and highest Center Frequency.
+     *
+     * @param frequency
+     *            The frequency to check
+     * @return {@code true} if the frequency falls within the bands of this table
+     */
+    public boolean isInRange( final double frequency ) {
+        return ( frequency >= _lowerBandEdge ) && ( frequency <= _upperBandEdge );
+    }
+
+    /**
+     * Returns the index of the first band whose label starts with the typed
+     * prefix in lexical order, such as "3.1" for "3.15 kHz", or else of the
+     * band nearest to the prefix parsed as a frequency in Hertz.
+     * <p>
+     * The lexical index is built on first use, after which each search is a
+     * binary search, so type-ahead costs O(log n) even for the full span of
+     * 1/48 octave bands.
+     *
+     * @param prefix
+     *            The typed prefix
+     * @return The index of the matching band, or -1 if there is no match
+     */
+    public int findIndexByPrefix( final String prefix ) {
+        if ( ( prefix == null ) || prefix.isEmpty() ) {
+            return -1;
+        }
+
+        final int labelIndex = getTypeAheadIndex().find( prefix );
+        if ( labelIndex >= 0 ) {
+            return labelIndex;
+        }
+
+        try {
+            return getNearestIndex( Double.parseDouble( prefix ) );
+        }
+        catch ( final NumberFormatException nfe ) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the index of the band with exactly the given label, without
+     * scanning the labels.
+     *
+     * @param label
+     *            The label to search for
+     * @return The index of the band with the label, or -1 if there is none
+     */
+    public int indexOfLabel( final String label ) {
+        return ( label == null ) ? -1 : getTypeAheadIndex().findExact( label );
+    }
+
+    // Get the lexical index of the labels, building it on first use.
+    // NOTE: Racing threads may each build an index, but they are equivalent.
+    private TypeAheadIndex getTypeAheadIndex() {
+        TypeAheadIndex typeAheadIndex = _typeAheadIndex;
+        if ( typeAheadIndex == null ) {
+            typeAheadIndex = new TypeAheadIndex( _labels );
+            _typeAheadIndex = typeAheadIndex;
+        }
+        return typeAheadIndex;
+    }
+
+    /**
+     * Returns the index of the exact Center Frequency, or a negative number if
+     * it is not present in this table.
+     *
+     * @param centerFrequency
+     *            The Center Frequency to search for
+     * @return The index of the Center Frequency, or a negative number if absent
+     */
+    public int indexOf( final double centerFrequency ) {
+        return Arrays.binarySearch( _centerFrequencies, centerFrequency );
+    }
+
+    /**
+     * Returns the index of the band nearest to the given frequency, on a
+     * logarithmic frequency scale.
+     *
+     * @param frequency
+     *            The frequency to resolve to its nearest band
+     * @return The index of the nearest band, or -1 if this table is empty or
+     *         the frequency is not a number
+     * @see NearestBandResolver
+     */
+    public int getNearestIndex( final double frequency ) {
+        return NearestBandResolver.resolveNearestBandIndex( _centerFrequencies, frequency );
+    }
+
+    /**
+     * Returns the nominal Center Frequency of the band nearest to the given
+     * frequency, on a logarithmic frequency scale.
+     *
+     * @param frequency
+     *            The frequency to resolve to its nearest band
+     * @return The nominal Center Frequency of the nearest band, or NaN if this
+     *         table is empty or the frequency is not a number
+     * @see NearestBandResolver
+     */
+    public double getNearestCenterFrequency( final double frequency ) {
+        return NearestBandResolver.resolveNearestBandFrequency( _centerFrequencies, frequency );
+    }
+
+    /**
+     * A lexically sorted copy of the labels, with the mapping back to the
+     * band indices, for prefix searches.
+     */
+    private static final class TypeAheadIndex {
+
+        private final String[] _sortedLabels;
+        private final int[]    _bandIndices;
+
+        TypeAheadIndex( final String[] labels ) {
+            final Integer[] order = new Integer[ labels.length ];
+            for ( int i = 0; i < labels.length; i++ ) {
+                order[ i ] = Integer.valueOf( i );
+            }
+            Arrays.sort( order, ( i, j ) -> labels[ i ].compareTo( labels[ j ] ) );
+
+            _sortedLabels = new String[ labels.length ];
+            _bandIndices = new int[ labels.length ];
+            for ( int i = 0; i < labels.length; i++ ) {
+                _sortedLabels[ i ] = labels[ order[ i ] ];
+                _bandIndices[ i ] = order[ i ];
+            }
+        }
+
+        int find( final String prefix ) {
+            // The first label not less than the prefix is the only candidate,
+            // as all labels that start with the prefix sort together.
+            final int searchIndex = Arrays.binarySearch( _sortedLabels, prefix );
+            final int candidateIndex = ( searchIndex >= 0 ) ? searchIndex : -searchIndex - 1;
+            return ( ( candidateIndex < _sortedLabels.length )
+                    && _sortedLabels[ candidateIndex ].startsWith( prefix ) )
+                        ? _bandIndices[ candidateIndex ]
+                        : -1;
+        }
+
+        int findExact( final String label ) {
+            final int searchIndex = Arrays.binarySearch( _sortedLabels, label );
+            return ( searchIndex >= 0 ) ? _bandIndices[ searchIndex ] : -1;
+        }
+    }
+}
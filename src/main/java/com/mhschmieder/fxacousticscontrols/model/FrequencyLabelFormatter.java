@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.model;
+
+import com.mhschmieder.jacoustics.CenterFrequencies;
+import com.mhschmieder.jacoustics.FrequencySignalUtilities;
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+import org.apache.commons.math3.util.FastMath;
+
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread-safe, locale-aware formatter for frequency labels, such as "4 kHz"
+ * or "31.5 Hz".
+ * <p>
+ * The labels of all standard nominal ISO/ANSI Center Frequencies, from full
+ * octave down to 1/48 octave, are formatted once per locale and interned, so
+ * that label generation for the band selectors is an allocation-free lookup.
+ * Any other frequency falls back to a shared number format under a lock.
+ */
+public final class FrequencyLabelFormatter {
+
+    // Number of octaves from 10 Hz to 20 kHz, rounded up.
+    private static final int OCTAVE_COUNT = 11;
+
+    // Narrow band octave dividers whose nominal bands are pre-formatted.
+    private static final RelativeBandwidth[] NARROW_BANDWIDTHS = new RelativeBandwidth[] {
+            RelativeBandwidth.SIXTH_OCTAVE,
+            RelativeBandwidth.TWELTH_OCTAVE,
+            RelativeBandwidth.TWENTYFOURTH_OCTAVE,
+            RelativeBandwidth.FORTYEIGHTH_OCTAVE };
+
+    // The sorted, de-duplicated nominal Center Frequencies, which are the same
+    // for every locale.
+    private static final double[] NOMINAL_CENTER_FREQUENCIES = makeNominalCenterFrequencies();
+
+    // Shared formatters, one per locale.
+    private static final ConcurrentMap< Locale, FrequencyLabelFormatter > FORMATTER_CACHE =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared formatter for the given locale, building it the first
+     * time it is requested.
+     *
+     * @param locale
+     *            The locale to format frequencies for
+     * @return The shared formatter for the locale
+     */
+    public static FrequencyLabelFormatter getInstance( final Locale locale ) {
+        final FrequencyLabelFormatter formatter = FORMATTER_CACHE.get( locale );
+        if ( formatter != null ) {
+            return formatter;
+        }
+
+        return FORMATTER_CACHE.computeIfAbsent( locale, FrequencyLabelFormatter::new );
+    }
+
+    // Generate the union of all the standard nominal Center Frequencies.
+    private static double[] makeNominalCenterFrequencies() {
+        int count = CenterFrequencies.NOMINAL_FULL_OCTAVE_CENTER_FREQUENCIES.length
+                + CenterFrequencies.NOMINAL_THIRD_OCTAVE_CENTER_FREQUENCIES.length
+                + OCTAVE_COUNT;
+        for ( final RelativeBandwidth relativeBandwidth : NARROW_BANDWIDTHS ) {
+            count += ( OCTAVE_COUNT * relativeBandwidth.toOctaveDivider() ) + 1;
+        }
+
+        final double[] centerFrequencies = new double[ count ];
+        int index = 0;
+        for ( final double centerFrequency : CenterFrequencies.NOMINAL_FULL_OCTAVE_CENTER_FREQUENCIES ) {
+            centerFrequencies[ index++ ] = centerFrequency;
+        }
+        for ( final double centerFrequency : CenterFrequencies.NOMINAL_THIRD_OCTAVE_CENTER_FREQUENCIES ) {
+            centerFrequencies[ index++ ] = centerFrequency;
+        }
+
+        // Match the narrow band generation of the band tables, including the
+        // 1 kHz steps between 10 kHz and 20 kHz.
+        for ( final RelativeBandwidth relativeBandwidth : NARROW_BANDWIDTHS ) {
+            final int octaveDivider = relativeBandwidth.toOctaveDivider();
+            final int startIndexAt10Hz = 10 * ( int ) FastMath.ceil( octaveDivider / 3.0d );
+            for ( int i = 0; i <= ( OCTAVE_COUNT * octaveDivider ); i++ ) {
+                centerFrequencies[ index++ ] = FrequencySignalUtilities
+                        .getCenterFrequencyByBandNumber( startIndexAt10Hz + i, octaveDivider );
+            }
+        }
+        for ( int j = 0; j < OCTAVE_COUNT; j++ ) {
+            centerFrequencies[ index++ ] = 10000d + ( j * 1000d );
+        }
+
+        Arrays.sort( centerFrequencies );
+        int uniqueCount = 0;
+        for ( int i = 0; i < centerFrequencies.length; i++ ) {
+            if ( ( uniqueCount == 0 )
+                    || ( centerFrequencies[ i ] != centerFrequencies[ uniqueCount - 1 ] ) ) {
+                centerFrequencies[ uniqueCount++ ] = centerFrequencies[ i ];
+            }
+        }
+
+        return Arrays.copyOf( centerFrequencies, uniqueCount );
+    }
+
+    // The locale that the labels are formatted for.
+    private final Locale       _locale;
+
+    // Number format for frequencies that are not nominal; guarded by itself,
+    // as number formats are not thread-safe.
+    private final NumberFormat _numberFormat;
+
+    // Interned labels, parallel to the shared nominal Center Frequencies.
+    private final String[]     _nominalLabels;
+
+    private FrequencyLabelFormatter( final Locale locale ) {
+        _locale = locale;
+
+        // NOTE: Groupings are turned off, to match the pattern-matching of the
+        // Center Frequency selectors.
+        _numberFormat = NumberFormat.getNumberInstance( locale );
+        _numberFormat.setMinimumFractionDigits( 0 );
+        _numberFormat.setMaximumFractionDigits( 3 );
+        _numberFormat.setGroupingUsed( false );
+
+        _nominalLabels = new String[ NOMINAL_CENTER_FREQUENCIES.length ];
+        for ( int i = 0; i < NOMINAL_CENTER_FREQUENCIES.length; i++ ) {
+            _nominalLabels[ i ] = FrequencySignalUtilities
+                    .getFormattedFrequency( NOMINAL_CENTER_FREQUENCIES[ i ], _numberFormat )
+                    .intern();
+        }
+    }
+
+    public Locale getLocale() {
+        return _locale;
+    }
+
+    /**
+     * Returns whether the given frequency is a standard nominal Center
+     * Frequency, whose label is therefore a lookup.
+     *
+     * @param frequency
+     *            The frequency to check, in Hz
+     * @return {@code true} if the frequency has a pre-formatted label
+     */
+    public boolean isNominal( final double frequency ) {
+        return Arrays.binarySearch( NOMINAL_CENTER_FREQUENCIES, frequency ) >= 0;
+    }
+
+    /**
+     * Returns the label for the given frequency, in Hz or kHz as appropriate.
+     * <p>
+     * Nominal Center Frequencies return their shared interned label without
+     * allocating; any other frequency is formatted on demand.
+     *
+     * @param frequency
+     *            The frequency to format, in Hz
+     * @return The formatted label for the frequency
+     */
+    public String format( final double frequency ) {
+        final int nominalIndex = Arrays.binarySearch( NOMINAL_CENTER_FREQUENCIES, frequency );
+        if ( nominalIndex >= 0 ) {
+            return _nominalLabels[ nominalIndex ];
+        }
+
+        synchronized ( _numberFormat ) {
+            return FrequencySignalUtilities.getFormattedFrequency( frequency, _numberFormat );
+        }
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.model;
+
+import com.mhschmieder.jacoustics.FrequencyRange;
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * A toolkit-independent model of the Frequency Range band selection logic,
+ * cascading from Relative Bandwidth to Octave Range to Center Frequency.
+ * <p>
+ * The resolution methods are stateless and work entirely off of the shared
+ * immutable band tables, so they may be called concurrently from any number
+ * of worker threads without a GUI toolkit. The current selection is guarded
+ * by this model's lock, so that the controls that bind to it can share it.
+ */
+public final class FrequencyRangeModel {
+
+    // Default start index into the nominal wide band frequencies, which shows
+    // the full nominal tables.
+    public static final int                  START_INDEX_DEFAULT      = 0;
+
+    // Default Center Frequency, for best "out of box" experience.
+    public static final double               CENTER_FREQUENCY_DEFAULT = 4000.0d;
+
+    // Single wide Octave Range for full frequency spectrum.
+    private static final List< OctaveRange > OCTAVE_RANGES_WIDE       = Collections
+            .singletonList( OctaveRange.WIDE );
+
+    // Flag for whether to use the low frequency extended range.
+    private final boolean        _useExtendedRange;
+
+    // Start indices into the nominal wide band frequencies, which limit the
+    // Center Frequencies to the valid operating range.
+    private final int            _startIndexForOneOctave;
+    private final int            _startIndexForThirdOctave;
+
+    // Current selection, guarded by this model's lock.
+    private RelativeBandwidth    _relativeBandwidth;
+    private OctaveRange          _octaveRange;
+    private CenterFrequencyTable _centerFrequencyTable;
+    private double               _centerFrequency;
+
+    /**
+     * Constructs a model that uses the full nominal wide band tables.
+     *
+     * @param useExtendedRange
+     *            Flag for whether to use the low frequency extended range
+     */
+    public FrequencyRangeModel( final boolean useExtendedRange ) {
+        this( useExtendedRange, START_INDEX_DEFAULT, START_INDEX_DEFAULT );
+    }
+
+    /**
+     * Constructs a model whose wide band tables are limited to the valid
+     * operating range, starting from the given indices.
+     *
+     * @param useExtendedRange
+     *            Flag for whether to use the low frequency extended range
+     * @param startIndexForOneOctave
+     *            The start index into the nominal full octave frequencies
+     * @param startIndexForThirdOctave
+     *            The start index into the nominal third octave frequencies
+     */
+    public FrequencyRangeModel( final boolean useExtendedRange,
+                                final int startIndexForOneOctave,
+                                final int startIndexForThirdOctave ) {
+        _useExtendedRange = useExtendedRange;
+        _startIndexForOneOctave = startIndexForOneOctave;
+        _startIndexForThirdOctave = startIndexForThirdOctave;
+
+        select( RelativeBandwidth.defaultValue(), OctaveRange.WIDE, CENTER_FREQUENCY_DEFAULT );
+    }
+
+    public boolean isUseExtendedRange() {
+        return _useExtendedRange;
+    }
+
+    /**
+     * Returns the Octave Ranges that are valid for the given Relative
+     * Bandwidth.
+     *
+     * @param relativeBandwidth
+     *            The Relative Bandwidth to get the valid Octave Ranges for
+     * @return An unmodifiable list of the valid Octave Ranges, in ascending
+     *         order
+     */
+    public List< OctaveRange > getOctaveRanges( final RelativeBandwidth relativeBandwidth ) {
+        return CenterFrequencyTable.isWideBand( relativeBandwidth )
+            ? OCTAVE_RANGES_WIDE
+            : OctaveRange.narrowBandValues( _useExtendedRange );
+    }
+
+    /**
+     * Returns the shared band table for the given Relative Bandwidth and Octave
+     * Range, limited to the valid operating range of this model.
+     *
+     * @param relativeBandwidth
+     *            The Relative Bandwidth of the bands
+     * @param octaveRange
+     *            The Octave Range of the bands
+     * @return The shared immutable band table
+     */
+    public CenterFrequencyTable getCenterFrequencyTable( final RelativeBandwidth relativeBandwidth,
+                                                         final OctaveRange octaveRange ) {
+        return CenterFrequencyTable.getInstance( relativeBandwidth,
+                                                 octaveRange,
+                                                 RelativeBandwidth.ONE_OCTAVE
+                                                         .equals( relativeBandwidth )
+                                                             ? _startIndexForOneOctave
+                                                             : _startIndexForThirdOctave );
+    }
+
+    /**
+     * Returns the shared band table of all bands from 10 Hz to 20 kHz for the
+     * given Relative Bandwidth, for selecting narrow bands in a single step.
+     *
+     * @param relativeBandwidth
+     *            The Relative Bandwidth of the bands
+     * @return The shared immutable full span band table
+     */
+    public CenterFrequencyTable getFullSpanCenterFrequencyTable( final RelativeBandwidth relativeBandwidth ) {
+        return CenterFrequencyTable.getFullSpanInstance( relativeBandwidth,
+                                                         RelativeBandwidth.ONE_OCTAVE
+                                                                 .equals( relativeBandwidth )
+                                                                     ? _startIndexForOneOctave
+                                                                     : _startIndexForThirdOctave );
+    }
+
+    /**
+     * Builds all of the shared band tables for the given Relative Bandwidth
+     * ahead of time, so that the first switch to it costs no more than any
+     * later switch, even for the finest bands.
+     *
+     * @param relativeBandwidth
+     *            The Relative Bandwidth to build the band tables for
+     */
+    public void prepareCenterFrequencyTables( final RelativeBandwidth relativeBandwidth ) {
+        for ( final OctaveRange octaveRange : getOctaveRanges( relativeBandwidth ) ) {
+            getCenterFrequencyTable( relativeBandwidth, octaveRange );
+        }
+        getFullSpanCenterFrequencyTable( relativeBandwidth );
+    }
+
+    /**
+     * Builds all of the shared band tables for the given Relative Bandwidths on
+     * a background thread, so that the finest bands, with hundreds of labels
+     * to format, do not hold up the JavaFX Application Thread.
+     * <p>
+     * A table that is needed before this finishes is simply built on demand,
+     * as the shared cache builds each table only once, and preparing tables
+     * that are already built costs no more than looking them up.
+     *
+     * @param relativeBandwidths
+     *            The Relative Bandwidths to build the band tables for
+     * @return The background task, which may be waited on if need be
+     */
+    public ForkJoinTask< ? > prepareCenterFrequencyTablesInBackground( final RelativeBandwidth... relativeBandwidths ) {
+        return ForkJoinPool.commonPool().submit( () -> {
+            for ( final RelativeBandwidth relativeBandwidth : relativeBandwidths ) {
+                prepareCenterFrequencyTables( relativeBandwidth );
+            }
+        } );
+    }
+
+    /**
+     * Returns the valid Octave Range that contains the given Center Frequency.
+     *
+     * @param relativeBandwidth
+     *            The Relative Bandwidth to resolve the Octave Range for
+     * @param centerFrequency
+     *            The Center Frequency to resolve the Octave Range for
+     * @return The valid Octave Range that contains the Center Frequency
+     */
+    public OctaveRange resolveOctaveRange( final RelativeBandwidth relativeBandwidth,
+                                           final double centerFrequency ) {
+        if ( CenterFrequencyTable.isWideBand( relativeBandwidth ) ) {
+            return OctaveRange.WIDE;
+        }
+
+        // Clamp to the lowest available Octave Range if the default one is
+        // only available in the extended range.
+        final OctaveRange octaveRange = OctaveRange.fromCenterFrequency( centerFrequency );
+        final List< OctaveRange > octaveRanges = getOctaveRanges( relativeBandwidth );
+        return octaveRanges.contains( octaveRange ) ? octaveRange : octaveRanges.get( 0 );
+    }
+
+    /**
+     * Returns the index of the nominal Center Frequency in the given band table
+     * that is nearest to the requested Center Frequency, or of the default for
+     * the Octave Range if the requested Center Frequency is out of range.
+     * <p>
+     * Tables that span the wide Octave Range cover the whole bandwidth, so the
+     * requested Center Frequency always snaps to their nearest band, even if
+     * it lies beyond the valid operating range that the table starts at. Only
+     * narrow band tables for a single Octave Range fall back to the default.
+     *
+     * @param centerFrequencyTable
+     *            The band table to resolve the Center Frequency in
+     * @param centerFrequency
+     *            The requested Center Frequency
+     * @return The index of the resolved Center Frequency, or -1 if the default
+     *         for the Octave Range is not in the band table
+     */
+    public static int resolveCenterFrequencyIndex( final CenterFrequencyTable centerFrequencyTable,
+                                                   final double centerFrequency ) {
+        if ( centerFrequencyTable.getOctaveRange().isWide()
+                || centerFrequencyTable.isInRange( centerFrequency ) ) {
+            final int nearestIndex = centerFrequencyTable.getNearestIndex( centerFrequency );
+            if ( nearestIndex >= 0 ) {
+                return nearestIndex;
+            }
+        }
+
+        return centerFrequencyTable.indexOf( getCenterFrequencyDefault( centerFrequencyTable ) );
+    }
+
+    /**
+     * Returns the nominal Center Frequency in the given band table that is
+     * nearest to the requested Center Frequency, or the default for the Octave
+     * Range if the requested Center Frequency is out of range of a narrow band
+     * table.
+     *
+     * @param centerFrequencyTable
+     *            The band table to resolve the Center Frequency in
+     * @param centerFrequency
+     *            The requested Center Frequency
+     * @return The resolved nominal Center Frequency
+     */
+    public static double resolveCenterFrequency( final CenterFrequencyTable centerFrequencyTable,
+                                                  final double centerFrequency ) {
+        final int centerFrequencyIndex = resolveCenterFrequencyIndex( centerFrequencyTable,
+                                                                      centerFrequency );
+        return ( centerFrequencyIndex >= 0 )
+            ? centerFrequencyTable.getCenterFrequency( centerFrequencyIndex )
+            : getCenterFrequencyDefault( centerFrequencyTable );
+    }
+
+    private static double getCenterFrequencyDefault( final CenterFrequencyTable centerFrequencyTable ) {
+        return centerFrequencyTable.getOctaveRange()
+                .getCenterFrequencyDefault( centerFrequencyTable.isNarrowBand() );
+    }
+
+    /**
+     * Resolves the full cascade from Relative Bandwidth and a requested Center
+     * Frequency to a valid Frequency Range, without changing the selection.
+     *
+     * @param relativeBandwidth
+     *            The Relative Bandwidth to resolve
+     * @param centerFrequency
+     *            The requested Center Frequency
+     * @return A new valid Frequency Range
+     */
+    public FrequencyRange resolve( final RelativeBandwidth relativeBandwidth,
+                                   final double centerFrequency ) {
+        final OctaveRange octaveRange = resolveOctaveRange( relativeBandwidth, centerFrequency );
+        final CenterFrequencyTable centerFrequencyTable = getCenterFrequencyTable( relativeBandwidth,
+                                                                                   octaveRange );
+        final double resolvedCenterFrequency = resolveCenterFrequency( centerFrequencyTable,
+                                                                       centerFrequency );
+        return new FrequencyRange( relativeBandwidth,
+                                   octaveRange.label(),
+                                   resolvedCenterFrequency );
+    }
+
+    /**
+     * Returns whether the Frequency Range is already a valid band selection,
+     * with a supported Octave Range and a nominal Center Frequency.
+     *
+     * @param frequencyRange
+     *            The Frequency Range to validate
+     * @return {@code true} if the Frequency Range is a valid band selection
+     */
+    public boolean isValid( final FrequencyRange frequencyRange ) {
+        final RelativeBandwidth relativeBandwidth = frequencyRange.getRelativeBandwidth();
+        if ( relativeBandwidth == null ) {
+            return false;
+        }
+
+        final OctaveRange octaveRange = OctaveRange.fromLabel( frequencyRange.getOctaveRange() );
+        if ( !octaveRange.label().equals( frequencyRange.getOctaveRange() )
+                || !getOctaveRanges( relativeBandwidth ).contains( octaveRange ) ) {
+            return false;
+        }
+
+        return getCenterFrequencyTable( relativeBandwidth, octaveRange )
+                .indexOf( frequencyRange.getCenterFrequency() ) >= 0;
+    }
+
+    /**
+     * Selects the given band, resolving the Octave Range and Center Frequency
+     * to valid values for the Relative Bandwidth.
+     *
+     * @param relativeBandwidth
+     *            The Relative Bandwidth to select
+     * @param octaveRange
+     *            The preferred Octave Range, which is replaced if it does not
+     *            contain the requested Center Frequency
+     * @param centerFrequency
+     *            The requested Center Frequency
+     */
+    public synchronized void select( final RelativeBandwidth relativeBandwidth,
+                                     final OctaveRange octaveRange,
+                                     final double centerFrequency ) {
+        // Keep the preferred Octave Range if it is valid and contains the
+        // requested Center Frequency, as the band edges overlap the defaults.
+        CenterFrequencyTable centerFrequencyTable = getCenterFrequencyTable( relativeBandwidth,
+                                                                             octaveRange );
+        if ( !getOctaveRanges( relativeBandwidth ).contains( centerFrequencyTable.getOctaveRange() )
+                || !centerFrequencyTable.isInRange( centerFrequency ) ) {
+            centerFrequencyTable = getCenterFrequencyTable( relativeBandwidth,
+                                                            resolveOctaveRange( relativeBandwidth,
+                                                                                centerFrequency ) );
+        }
+
+        _relativeBandwidth = relativeBandwidth;
+        _octaveRange = centerFrequencyTable.getOctaveRange();
+        _centerFrequencyTable = centerFrequencyTable;
+        _centerFrequency = resolveCenterFrequency( centerFrequencyTable, centerFrequency );
+    }
+
+    public synchronized RelativeBandwidth getRelativeBandwidth() {
+        return _relativeBandwidth;
+    }
+
+    public synchronized OctaveRange getOctaveRange() {
+        return _octaveRange;
+    }
+
+    public synchronized CenterFrequencyTable getCenterFrequencyTable() {
+        return _centerFrequencyTable;
+    }
+
+    public synchronized double getCenterFrequency() {
+        return _centerFrequency;
+    }
+
+    public synchronized FrequencyRange getFrequencyRange() {
+        return new FrequencyRange( _relativeBandwidth, _octaveRange.label(), _centerFrequency );
+    }
+}
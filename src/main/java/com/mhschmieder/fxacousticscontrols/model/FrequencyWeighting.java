@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.model;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * An enumeration of the standard frequency weightings for SPL, with the
+ * corrections of IEC 61672-1, normalized to zero dB at 1 kHz.
+ * <p>
+ * These formulas are only meant for building tables once per band table; use
+ * {@link FrequencyWeightingTable} to apply the corrections to levels.
+ */
+public enum FrequencyWeighting {
+    /**
+     * A-weighting, which approximates the loudness of quiet sounds.
+     */
+    A,
+    /**
+     * C-weighting, which approximates the loudness of loud sounds.
+     */
+    C,
+    /**
+     * Z-weighting, which is flat, for unweighted levels.
+     */
+    Z;
+
+    // The pole frequencies of IEC 61672-1, in Hertz.
+    private static final double POLE_1 = 20.598997d;
+    private static final double POLE_2 = 107.65265d;
+    private static final double POLE_3 = 737.86223d;
+    private static final double POLE_4 = 12194.217d;
+
+    // The reference frequency that the corrections are normalized to.
+    private static final double REFERENCE_FREQUENCY = 1000.0d;
+
+    public static FrequencyWeighting defaultValue() {
+        return Z;
+    }
+
+    /**
+     * Returns the weighting that matches the A-weighted display setting, such
+     * as of the Show A-Weighted SPL Values check.
+     *
+     * @param aWeighted
+     *            Flag for whether SPL is shown A-weighted
+     * @return A-weighting if set, or else Z-weighting
+     */
+    public static FrequencyWeighting fromAWeighted( final boolean aWeighted ) {
+        return aWeighted ? A : Z;
+    }
+
+    /**
+     * Returns the correction of this weighting at the given frequency.
+     *
+     * @param frequency
+     *            The frequency, in Hertz
+     * @return The correction to add to an unweighted level, in dB
+     */
+    public double getCorrectionDb( final double frequency ) {
+        switch ( this ) {
+        case A:
+            return 20.0d * FastMath.log10( getResponseA( frequency )
+                    / getResponseA( REFERENCE_FREQUENCY ) );
+        case C:
+            return 20.0d * FastMath.log10( getResponseC( frequency )
+                    / getResponseC( REFERENCE_FREQUENCY ) );
+        case Z:
+        default:
+            return 0.0d;
+        }
+    }
+
+    // Get the unnormalized magnitude response of A-weighting.
+    private static double getResponseA( final double frequency ) {
+        final double f2 = frequency * frequency;
+        return ( POLE_4 * POLE_4 * f2 * f2 ) / ( ( f2 + ( POLE_1 * POLE_1 ) )
+                * FastMath.sqrt( ( f2 + ( POLE_2 * POLE_2 ) ) * ( f2 + ( POLE_3 * POLE_3 ) ) )
+                * ( f2 + ( POLE_4 * POLE_4 ) ) );
+    }
+
+    // Get the unnormalized magnitude response of C-weighting.
+    private static double getResponseC( final double frequency ) {
+        final double f2 = frequency * frequency;
+        return ( POLE_4 * POLE_4 * f2 )
+                / ( ( f2 + ( POLE_1 * POLE_1 ) ) * ( f2 + ( POLE_4 * POLE_4 ) ) );
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.model;
+
+import org.apache.commons.math3.util.FastMath;
+
+import java.nio.FloatBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Precomputed frequency weighting corrections for every band of a band table,
+ * both in dB and as power gains, so that weighting a set of band levels or a
+ * whole SPL grid is a plain linear pass with no transcendental math.
+ * <p>
+ * Tables are shared, one per band table, and are immutable once built. Band
+ * tables are themselves shared, so they key the cache by identity.
+ */
+public final class FrequencyWeightingTable {
+
+    // Shared weighting tables, one per band table.
+    private static final ConcurrentMap< CenterFrequencyTable, FrequencyWeightingTable > TABLE_CACHE =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared weighting table for the given band table, building
+     * it the first time it is requested.
+     *
+     * @param centerFrequencyTable
+     *            The band table, such as the one behind the Center Frequency
+     *            selector
+     * @return The shared weighting table for the band table
+     */
+    public static FrequencyWeightingTable getInstance( final CenterFrequencyTable centerFrequencyTable ) {
+        final FrequencyWeightingTable weightingTable = TABLE_CACHE.get( centerFrequencyTable );
+        if ( weightingTable != null ) {
+            return weightingTable;
+        }
+
+        return TABLE_CACHE.computeIfAbsent( centerFrequencyTable, FrequencyWeightingTable::new );
+    }
+
+    // The band table that the corrections are for.
+    private final CenterFrequencyTable                _centerFrequencyTable;
+
+    // The corrections of each band, in dB, per weighting.
+    private final Map< FrequencyWeighting, float[] >  _correctionsDb;
+
+    // The corrections of each band, as power gains, per weighting.
+    private final Map< FrequencyWeighting, double[] > _powerGains;
+
+    private FrequencyWeightingTable( final CenterFrequencyTable centerFrequencyTable ) {
+        _centerFrequencyTable = centerFrequencyTable;
+        _correctionsDb = new EnumMap<>( FrequencyWeighting.class );
+        _powerGains = new EnumMap<>( FrequencyWeighting.class );
+
+        final int bandCount = centerFrequencyTable.size();
+        for ( final FrequencyWeighting weighting : FrequencyWeighting.values() ) {
+            final float[] correctionsDb = new float[ bandCount ];
+            final double[] powerGains = new double[ bandCount ];
+            for ( int bandIndex = 0; bandIndex < bandCount; bandIndex++ ) {
+                final double correctionDb = weighting
+                        .getCorrectionDb( centerFrequencyTable.getCenterFrequency( bandIndex ) );
+                correctionsDb[ bandIndex ] = ( float ) correctionDb;
+                powerGains[ bandIndex ] = FastMath.pow( 10.0d, 0.1d * correctionDb );
+            }
+            _correctionsDb.put( weighting, correctionsDb );
+            _powerGains.put( weighting, powerGains );
+        }
+    }
+
+    public CenterFrequencyTable getCenterFrequencyTable() {
+        return _centerFrequencyTable;
+    }
+
+    public int size() {
+        return _centerFrequencyTable.size();
+    }
+
+    public float getCorrectionDb( final FrequencyWeighting weighting, final int bandIndex ) {
+        return _correctionsDb.get( weighting )[ bandIndex ];
+    }
+
+    public double getPowerGain( final FrequencyWeighting weighting, final int bandIndex ) {
+        return _powerGains.get( weighting )[ bandIndex ];
+    }
+
+    /**
+     * Returns the offset that changes a level of one band from one weighting
+     * to another, such as when toggling the A-weighted display.
+     *
+     * @param bandIndex
+     *            The index of the band in the band table
+     * @param fromWeighting
+     *            The weighting that the level currently has
+     * @param toWeighting
+     *            The weighting that the level should have
+     * @return The offset to add to the level, in dB
+     */
+    public float getCorrectionDb( final int bandIndex,
+                                  final FrequencyWeighting fromWeighting,
+                                  final FrequencyWeighting toWeighting ) {
+        return getCorrectionDb( toWeighting, bandIndex )
+                - getCorrectionDb( fromWeighting, bandIndex );
+    }
+
+    /**
+     * Applies a weighting to unweighted band levels, in place.
+     *
+     * @param bandLevels
+     *            The level of each band of the band table, in dB
+     * @param weighting
+     *            The weighting to apply
+     */
+    public void apply( final float[] bandLevels, final FrequencyWeighting weighting ) {
+        checkBandCount( bandLevels.length );
+
+        final float[] correctionsDb = _correctionsDb.get( weighting );
+        for ( int bandIndex = 0; bandIndex < correctionsDb.length; bandIndex++ ) {
+            bandLevels[ bandIndex ] += correctionsDb[ bandIndex ];
+        }
+    }
+
+    /**
+     * Changes a grid of SPL values for one band from one weighting to another,
+     * in place, from its position to its limit, which is a single pass that
+     * adds the same offset to every cell.
+     *
+     * @param splDb
+     *            The grid of SPL values of the band, in dB
+     * @param bandIndex
+     *            The index of the band in the band table
+     * @param fromWeighting
+     *            The weighting that the grid currently has
+     * @param toWeighting
+     *            The weighting that the grid should have
+     */
+    public void reweight( final FloatBuffer splDb,
+                          final int bandIndex,
+                          final FrequencyWeighting fromWeighting,
+                          final FrequencyWeighting toWeighting ) {
+        final float correctionDb = getCorrectionDb( bandIndex, fromWeighting, toWeighting );
+        if ( correctionDb == 0.0f ) {
+            return;
+        }
+
+        for ( int i = splDb.position(); i < splDb.limit(); i++ ) {
+            splDb.put( i, splDb.get( i ) + correctionDb );
+        }
+    }
+
+    /**
+     * Returns the weighted overall power of a set of unweighted band powers,
+     * which needs no transcendental math at all.
+     * <p>
+     * Keep the bands as powers for as long as possible, as the sound fields
+     * do, and only convert the total to dB, which takes a single logarithm
+     * rather than an exponential per band to undo the dB of each band first.
+     *
+     * @param bandPowers
+     *            The power (or mean square pressure) of each band of the band
+     *            table
+     * @param weighting
+     *            The weighting to apply, such as A-weighting for dBA
+     * @return The weighted overall power
+     */
+    public double getOverallPower( final double[] bandPowers,
+                                   final FrequencyWeighting weighting ) {
+        checkBandCount( bandPowers.length );
+
+        final double[] powerGains = _powerGains.get( weighting );
+        double power = 0.0d;
+        for ( int bandIndex = 0; bandIndex < powerGains.length; bandIndex++ ) {
+            power += powerGains[ bandIndex ] * bandPowers[ bandIndex ];
+        }
+
+        return power;
+    }
+
+    private void checkBandCount( final int bandCount ) {
+        if ( bandCount != size() ) {
+            throw new IllegalArgumentException( "Band count " + bandCount //$NON-NLS-1$
+                    + " does not match the band table size " + size() ); //$NON-NLS-1$
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.model;
+
+import java.util.Arrays;
+
+/**
+ * This is a utility class for resolving the nominal band that is nearest to an
+ * arbitrary frequency, using a binary search over sorted band frequencies.
+ * <p>
+ * Nearness is judged on a logarithmic frequency scale, as is appropriate for
+ * fractional octave bands, so the boundary between two adjacent bands is their
+ * geometric mean rather than their arithmetic mean.
+ */
+public final class NearestBandResolver {
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private NearestBandResolver() {}
+
+    /**
+     * Returns the index of the band that is nearest to the given frequency on
+     * a logarithmic scale, in O(log n) time.
+     *
+     * @param bandFrequencies
+     *            The band frequencies, sorted in ascending order
+     * @param frequency
+     *            The frequency to resolve to its nearest band
+     * @return The index of the nearest band, or -1 if there are no bands or
+     *         the frequency is not a number
+     */
+    public static int resolveNearestBandIndex( final double[] bandFrequencies,
+                                               final double frequency ) {
+        return resolveNearestBandIndex( bandFrequencies, 0, bandFrequencies.length, frequency );
+    }
+
+    /**
+     * Returns the index of the band that is nearest to the given frequency on
+     * a logarithmic scale, in O(log n) time, searching only the given range.
+     *
+     * @param bandFrequencies
+     *            The band frequencies, sorted in ascending order
+     * @param fromIndex
+     *            The index of the first band to search (inclusive)
+     * @param toIndex
+     *            The index of the last band to search (exclusive)
+     * @param frequency
+     *            The frequency to resolve to its nearest band
+     * @return The index of the nearest band, or -1 if the range is empty or
+     *         the frequency is not a number
+     */
+    public static int resolveNearestBandIndex( final double[] bandFrequencies,
+                                               final int fromIndex,
+                                               final int toIndex,
+                                               final double frequency ) {
+        if ( ( toIndex <= fromIndex ) || Double.isNaN( frequency ) ) {
+            return -1;
+        }
+
+        final int searchIndex = Arrays
+                .binarySearch( bandFrequencies, fromIndex, toIndex, frequency );
+        if ( searchIndex >= 0 ) {
+            return searchIndex;
+        }
+
+        // Clamp to the end bands if outside the overall range.
+        final int insertionIndex = -searchIndex - 1;
+        if ( insertionIndex <= fromIndex ) {
+            return fromIndex;
+        }
+        if ( insertionIndex >= toIndex ) {
+            return toIndex - 1;
+        }
+
+        // Compare against the geometric mean of the bracketing bands, which is
+        // the midpoint in log-frequency, without taking any logarithms.
+        final double lowerFrequency = bandFrequencies[ insertionIndex - 1 ];
+        final double upperFrequency = bandFrequencies[ insertionIndex ];
+        return ( ( frequency * frequency ) < ( lowerFrequency * upperFrequency ) )
+            ? insertionIndex - 1
+            : insertionIndex;
+    }
+
+    /**
+     * Returns the nominal frequency of the band that is nearest to the given
+     * frequency on a logarithmic scale, in O(log n) time.
+     *
+     * @param bandFrequencies
+     *            The band frequencies, sorted in ascending order
+     * @param frequency
+     *            The frequency to resolve to its nearest band
+     * @return The nominal frequency of the nearest band, or NaN if there are
+     *         no bands or the frequency is not a number
+     */
+    public static double resolveNearestBandFrequency( final double[] bandFrequencies,
+                                                      final double frequency ) {
+        final int nearestBandIndex = resolveNearestBandIndex( bandFrequencies, frequency );
+        return ( nearestBandIndex >= 0 ) ? bandFrequencies[ nearestBandIndex ] : Double.NaN;
+    }
+}
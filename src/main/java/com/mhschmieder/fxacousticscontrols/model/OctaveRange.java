@@ -0,0 +1,279 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.model;
+
+import com.mhschmieder.jacoustics.FrequencyRange;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An enumeration of the supported Octave Ranges, with their nominal bounds and
+ * octave offsets precomputed so that band selection never has to parse or
+ * compare the display strings.
+ * <p>
+ * The labels are the canonical strings used by {@link FrequencyRange}, as
+ * those are what gets persisted, so the string accessors here are just thin
+ * adapters via a hashed lookup. They are not meant for display; use
+ * {@link #toPresentationString(Locale)} for that instead.
+ */
+public enum OctaveRange {
+    WIDE( FrequencyRange.OCTAVE_RANGE_WIDE_DEFAULT, 10.0d, 20000.0d, -1 ),
+    RANGE_10HZ_TO_20HZ( "10 Hz to 20 Hz", 10.0d, 20.0d, 0 ), //$NON-NLS-1$
+    RANGE_20HZ_TO_40HZ( "20 Hz to 40 Hz", 20.0d, 40.0d, 1 ), //$NON-NLS-1$
+    RANGE_40HZ_TO_80HZ( "40 Hz to 80 Hz", 40.0d, 80.0d, 2 ), //$NON-NLS-1$
+    RANGE_80HZ_TO_160HZ( "80 Hz to 160 Hz", 80.0d, 160.0d, 3 ), //$NON-NLS-1$
+    RANGE_160HZ_TO_315HZ( "160 Hz to 315 Hz", 160.0d, 315.0d, 4 ), //$NON-NLS-1$
+    RANGE_315HZ_TO_630HZ( "315 Hz to 630 Hz", 315.0d, 630.0d, 5 ), //$NON-NLS-1$
+    RANGE_630HZ_TO_1250HZ( "630 Hz to 1.25 kHz", 630.0d, 1250.0d, 6 ), //$NON-NLS-1$
+    RANGE_1250HZ_TO_2500HZ( "1.25 kHz to 2.5 kHz", 1250.0d, 2500.0d, 7 ), //$NON-NLS-1$
+    RANGE_2500HZ_TO_5KHZ( "2.5 kHz to 5 kHz", 2500.0d, 5000.0d, 8 ), //$NON-NLS-1$
+    RANGE_5KHZ_TO_10KHZ( "5 kHz to 10 kHz", 5000.0d, 10000.0d, 9 ), //$NON-NLS-1$
+    RANGE_10KHZ_TO_20KHZ( "10 kHz to 20 kHz", 10000.0d, 20000.0d, 10 ); //$NON-NLS-1$
+
+    // Narrow Octave Ranges, in ascending order, with and without the low
+    // frequency extended range.
+    private static final List< OctaveRange >        NARROW_BAND_VALUES          = Collections
+            .unmodifiableList( Arrays.asList( RANGE_20HZ_TO_40HZ,
+                                              RANGE_40HZ_TO_80HZ,
+                                              RANGE_80HZ_TO_160HZ,
+                                              RANGE_160HZ_TO_315HZ,
+                                              RANGE_315HZ_TO_630HZ,
+                                              RANGE_630HZ_TO_1250HZ,
+                                              RANGE_1250HZ_TO_2500HZ,
+                                              RANGE_2500HZ_TO_5KHZ,
+                                              RANGE_5KHZ_TO_10KHZ,
+                                              RANGE_10KHZ_TO_20KHZ ) );
+    private static final List< OctaveRange >        NARROW_BAND_VALUES_EXTENDED = Collections
+            .unmodifiableList( Arrays.asList( RANGE_10HZ_TO_20HZ,
+                                              RANGE_20HZ_TO_40HZ,
+                                              RANGE_40HZ_TO_80HZ,
+                                              RANGE_80HZ_TO_160HZ,
+                                              RANGE_160HZ_TO_315HZ,
+                                              RANGE_315HZ_TO_630HZ,
+                                              RANGE_630HZ_TO_1250HZ,
+                                              RANGE_1250HZ_TO_2500HZ,
+                                              RANGE_2500HZ_TO_5KHZ,
+                                              RANGE_5KHZ_TO_10KHZ,
+                                              RANGE_10KHZ_TO_20KHZ ) );
+
+    // Reverse lookup from canonical label to Octave Range.
+    private static final Map< String, OctaveRange > LABEL_LOOKUP                = new HashMap<>();
+
+    // Default narrow Octave Range, for best "out of box" experience.
+    private static final OctaveRange                NARROW_DEFAULT;
+
+    // Resource bundle and key for the localized presentation pattern, which
+    // takes the formatted lower and upper frequencies as its arguments.
+    private static final String BUNDLE_NAME                  = "properties.AcousticsActionLabels";   //$NON-NLS-1$
+    private static final String PRESENTATION_PATTERN_KEY     = "octaveRange.presentation.pattern";   //$NON-NLS-1$
+    private static final String PRESENTATION_PATTERN_DEFAULT = "{0} to {1}";                         //$NON-NLS-1$
+
+    // Presentation strings, indexed by ordinal, built once per locale.
+    private static final ConcurrentMap< Locale, String[] > PRESENTATION_STRINGS =
+            new ConcurrentHashMap<>();
+
+    static {
+        for ( final OctaveRange octaveRange : values() ) {
+            LABEL_LOOKUP.put( octaveRange._label, octaveRange );
+        }
+
+        final OctaveRange narrowDefault = LABEL_LOOKUP
+                .get( FrequencyRange.OCTAVE_RANGE_NARROW_DEFAULT );
+        NARROW_DEFAULT = ( narrowDefault != null ) ? narrowDefault : RANGE_1250HZ_TO_2500HZ;
+    }
+
+    private final String _label;
+    private final double _lowerFrequency;
+    private final double _upperFrequency;
+    private final int    _octaveOffsetFrom10Hz;
+    private final double _centerFrequencyDefaultWideBand;
+    private final double _centerFrequencyDefaultNarrowBand;
+
+    OctaveRange( final String label,
+                 final double lowerFrequency,
+                 final double upperFrequency,
+                 final int octaveOffsetFrom10Hz ) {
+        _label = label;
+        _lowerFrequency = lowerFrequency;
+        _upperFrequency = upperFrequency;
+        _octaveOffsetFrom10Hz = octaveOffsetFrom10Hz;
+
+        // Cache the default Center Frequencies, so that they are only looked up
+        // by label once for the lifetime of the application.
+        _centerFrequencyDefaultWideBand = FrequencyRange
+                .getNominalCenterFrequencyDefaultForOctaveRange( label, false );
+        _centerFrequencyDefaultNarrowBand = FrequencyRange
+                .getNominalCenterFrequencyDefaultForOctaveRange( label, true );
+    }
+
+    public static OctaveRange defaultValue() {
+        return NARROW_DEFAULT;
+    }
+
+    /**
+     * Returns the Octave Range that matches the canonical label, or the default
+     * narrow Octave Range if the label is not recognized.
+     *
+     * @param label
+     *            The canonical label of the Octave Range
+     * @return The Octave Range that matches the canonical label
+     */
+    public static OctaveRange fromLabel( final String label ) {
+        final OctaveRange octaveRange = ( label != null ) ? LABEL_LOOKUP.get( label ) : null;
+        return ( octaveRange != null ) ? octaveRange : NARROW_DEFAULT;
+    }
+
+    // Format the presentation strings of all Octave Ranges for a locale.
+    private static String[] makePresentationStrings( final Locale locale ) {
+        String pattern;
+        try {
+            pattern = ResourceBundle.getBundle( BUNDLE_NAME, locale )
+                    .getString( PRESENTATION_PATTERN_KEY );
+        }
+        catch ( final MissingResourceException mre ) {
+            pattern = PRESENTATION_PATTERN_DEFAULT;
+        }
+
+        final MessageFormat messageFormat = new MessageFormat( pattern, locale );
+        final FrequencyLabelFormatter frequencyLabelFormatter = FrequencyLabelFormatter
+                .getInstance( locale );
+        final OctaveRange[] octaveRanges = values();
+        final String[] presentationStrings = new String[ octaveRanges.length ];
+        for ( final OctaveRange octaveRange : octaveRanges ) {
+            presentationStrings[ octaveRange.ordinal() ] = messageFormat
+                    .format( new Object[] {
+                            frequencyLabelFormatter.format( octaveRange._lowerFrequency ),
+                            frequencyLabelFormatter.format( octaveRange._upperFrequency ) } );
+        }
+        return presentationStrings;
+    }
+
+    /**
+     * Returns whether the label is the canonical label of an Octave Range,
+     * as {@link #fromLabel(String)} falls back to the default for anything
+     * else.
+     *
+     * @param label
+     *            The label to check
+     * @return {@code true} if the label is the canonical label of an Octave
+     *         Range
+     */
+    public static boolean isLabel( final String label ) {
+        return ( label != null ) && LABEL_LOOKUP.containsKey( label );
+    }
+
+    /**
+     * Returns the narrow Octave Range that is the default for the given Center
+     * Frequency.
+     *
+     * @param centerFrequency
+     *            The Center Frequency to find the default Octave Range for
+     * @return The narrow Octave Range that is the default for the given Center
+     *         Frequency
+     */
+    public static OctaveRange fromCenterFrequency( final double centerFrequency ) {
+        return fromLabel( FrequencyRange
+                .getNominalOctaveRangeDefaultForCenterFrequency( centerFrequency ) );
+    }
+
+    /**
+     * Returns the narrow Octave Ranges in ascending order.
+     *
+     * @param useExtendedRange
+     *            Flag for whether to include the low frequency extended range
+     * @return An unmodifiable list of the narrow Octave Ranges
+     */
+    public static List< OctaveRange > narrowBandValues( final boolean useExtendedRange ) {
+        return useExtendedRange ? NARROW_BAND_VALUES_EXTENDED : NARROW_BAND_VALUES;
+    }
+
+    public String label() {
+        return _label;
+    }
+
+    /**
+     * Returns the Octave Range as it should be shown to the user, with its
+     * bounds formatted for the given locale, such as "1,25 kHz a 2,5 kHz".
+     * <p>
+     * This is for display only; persist and look up the canonical
+     * {@link #label()} instead.
+     *
+     * @param locale
+     *            The locale to present the Octave Range in
+     * @return The presentation string of the Octave Range for the locale
+     */
+    public String toPresentationString( final Locale locale ) {
+        return PRESENTATION_STRINGS
+                .computeIfAbsent( locale, OctaveRange::makePresentationStrings )[ ordinal() ];
+    }
+
+    public double getLowerFrequency() {
+        return _lowerFrequency;
+    }
+
+    public double getUpperFrequency() {
+        return _upperFrequency;
+    }
+
+    /**
+     * Returns the number of octaves between 10 Hz and the bottom of this
+     * Octave Range, or -1 for the wide Octave Range.
+     *
+     * @return The number of octaves between 10 Hz and the bottom of this
+     *         Octave Range
+     */
+    public int getOctaveOffsetFrom10Hz() {
+        return _octaveOffsetFrom10Hz;
+    }
+
+    public boolean isWide() {
+        return this == WIDE;
+    }
+
+    public double getCenterFrequencyDefault( final boolean narrowBand ) {
+        return narrowBand ? _centerFrequencyDefaultNarrowBand : _centerFrequencyDefaultWideBand;
+    }
+
+    @Override
+    public String toString() {
+        return _label;
+    }
+}
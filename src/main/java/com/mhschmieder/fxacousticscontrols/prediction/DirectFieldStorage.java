@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.prediction;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Field storage that keeps each band in a direct byte buffer outside the
+ * heap, in native byte order so that float access needs no byte swapping.
+ * <p>
+ * The memory is released once the storage is no longer referenced, as direct
+ * buffers cannot be freed explicitly; closing just drops the references.
+ */
+public final class DirectFieldStorage implements FieldStorage {
+
+    private final int           _cellCount;
+    private final FloatBuffer[] _bands;
+
+    public DirectFieldStorage( final int bandCount, final int cellCount ) {
+        if ( cellCount > ( Integer.MAX_VALUE / Float.BYTES ) ) {
+            throw new IllegalArgumentException( "Too many cells per band: " + cellCount ); //$NON-NLS-1$
+        }
+
+        _cellCount = cellCount;
+        _bands = new FloatBuffer[ bandCount ];
+        for ( int bandIndex = 0; bandIndex < bandCount; bandIndex++ ) {
+            _bands[ bandIndex ] = ByteBuffer.allocateDirect( cellCount * Float.BYTES )
+                    .order( ByteOrder.nativeOrder() ).asFloatBuffer();
+        }
+    }
+
+    @Override
+    public int getBandCount() {
+        return _bands.length;
+    }
+
+    @Override
+    public int getCellCount() {
+        return _cellCount;
+    }
+
+    @Override
+    public FloatBuffer getBand( final int bandIndex ) {
+        return _bands[ bandIndex ].duplicate();
+    }
+
+    @Override
+    public float get( final int bandIndex, final int cellIndex ) {
+        return _bands[ bandIndex ].get( cellIndex );
+    }
+
+    @Override
+    public void clear() {
+        for ( final FloatBuffer band : _bands ) {
+            for ( int i = 0; i < _cellCount; i++ ) {
+                band.put( i, 0.0f );
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        for ( int bandIndex = 0; bandIndex < _bands.length; bandIndex++ ) {
+            _bands[ bandIndex ] = null;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.prediction;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The Monte Carlo dithering engine for sound sources, which runs many trials
+ * with each source parameter perturbed at random by up to the dithering
+ * amount, and aggregates the statistics of the results of all trials.
+ * <p>
+ * Trials run in parallel on a fork-join pool, each range of trials drawing
+ * from its own random stream that is split off a single seeded stream. The
+ * splits, and the order in which the statistics of each range are merged,
+ * depend only on the number of trials, so a given seed reproduces the same
+ * statistics however many cores the trials run on.
+ */
+public final class DitheringEngine {
+
+    /**
+     * The default seed, for reproducible dithering runs.
+     */
+    public static final long SEED_DEFAULT = 0x2545F4914F6CDD1DL;
+
+    // The number of trials per parallel task, which is fixed rather than
+    // derived from the parallelism, so that the split tree is reproducible.
+    private static final int TRIALS_PER_TASK = 8;
+
+    /**
+     * Evaluates one dithering trial, such as by predicting the SPL at a set of
+     * receivers for the dithered source parameters.
+     * <p>
+     * Trials run concurrently, so evaluators must not share mutable state
+     * between calls, other than through their arguments.
+     */
+    @FunctionalInterface
+    public interface TrialEvaluator {
+
+        /**
+         * Evaluates one trial.
+         *
+         * @param sourceParameters
+         *            The dithered source parameters, which must not be kept
+         *            after the call as the array is reused
+         * @param results
+         *            The array to write the results of the trial to, which is
+         *            likewise reused
+         */
+        void evaluate( final double[] sourceParameters, final double[] results );
+    }
+
+    // The seed of the random stream that all trials draw from.
+    private final long         _seed;
+
+    // The fork-join pool to run the trials on.
+    private final ForkJoinPool _forkJoinPool;
+
+    // Default constructor
+    public DitheringEngine() {
+        this( SEED_DEFAULT );
+    }
+
+    public DitheringEngine( final long seed ) {
+        this( seed, ForkJoinPool.commonPool() );
+    }
+
+    public DitheringEngine( final long seed, final ForkJoinPool forkJoinPool ) {
+        _seed = seed;
+        _forkJoinPool = forkJoinPool;
+    }
+
+    public long getSeed() {
+        return _seed;
+    }
+
+    /**
+     * Runs a dithering experiment.
+     *
+     * @param sourceParameters
+     *            The nominal source parameters, such as the levels, delays
+     *            and positions of all sources in a flattened array
+     * @param ditheringAmount
+     *            The dithering amount as a fraction, as set by the Dithering
+     *            Amount spinner, so that 0.05 perturbs each parameter by up to
+     *            plus or minus 5 percent
+     * @param trialCount
+     *            The number of trials
+     * @param resultCount
+     *            The number of results of each trial
+     * @param trialEvaluator
+     *            The evaluator of each trial
+     * @return The aggregated statistics of the results of all trials
+     */
+    public DitheringStatistics run( final double[] sourceParameters,
+                                    final double ditheringAmount,
+                                    final int trialCount,
+                                    final int resultCount,
+                                    final TrialEvaluator trialEvaluator ) {
+        if ( !( ditheringAmount >= 0.0d ) ) {
+            throw new IllegalArgumentException( "Dithering amount must not be negative: " //$NON-NLS-1$
+                    + ditheringAmount );
+        }
+
+        final DitheringTask ditheringTask = new DitheringTask( sourceParameters,
+                                                               ditheringAmount,
+                                                               resultCount,
+                                                               trialEvaluator,
+                                                               new SplittableRandom( _seed ),
+                                                               0,
+                                                               Math.max( 0, trialCount ) );
+        return ( trialCount <= TRIALS_PER_TASK )
+            ? ditheringTask.compute()
+            : _forkJoinPool.invoke( ditheringTask );
+    }
+
+    /**
+     * Perturbs each source parameter at random by up to the dithering amount,
+     * uniformly distributed.
+     *
+     * @param sourceParameters
+     *            The nominal source parameters
+     * @param ditheringAmount
+     *            The dithering amount as a fraction
+     * @param random
+     *            The random stream to draw from
+     * @param ditheredParameters
+     *            The array to write the dithered source parameters to
+     */
+    public static void dither( final double[] sourceParameters,
+                               final double ditheringAmount,
+                               final SplittableRandom random,
+                               final double[] ditheredParameters ) {
+        for ( int i = 0; i < sourceParameters.length; i++ ) {
+            final double perturbation = ditheringAmount * random.nextDouble( -1.0d, 1.0d );
+            ditheredParameters[ i ] = sourceParameters[ i ] * ( 1.0d + perturbation );
+        }
+    }
+
+    /**
+     * Runs a range of trials, splitting the range and the random stream in
+     * half until the range is small enough to run directly.
+     */
+    private static final class DitheringTask extends RecursiveTask< DitheringStatistics > {
+
+        private static final long      serialVersionUID = 1L;
+
+        private final double[]         _sourceParameters;
+        private final double           _ditheringAmount;
+        private final int              _resultCount;
+        private final TrialEvaluator   _trialEvaluator;
+        private final SplittableRandom _random;
+        private final int              _fromTrial;
+        private final int              _toTrial;
+
+        DitheringTask( final double[] sourceParameters,
+                       final double ditheringAmount,
+                       final int resultCount,
+                       final TrialEvaluator trialEvaluator,
+                       final SplittableRandom random,
+                       final int fromTrial,
+                       final int toTrial ) {
+            _sourceParameters = sourceParameters;
+            _ditheringAmount = ditheringAmount;
+            _resultCount = resultCount;
+            _trialEvaluator = trialEvaluator;
+            _random = random;
+            _fromTrial = fromTrial;
+            _toTrial = toTrial;
+        }
+
+        @Override
+        protected DitheringStatistics compute() {
+            if ( ( _toTrial - _fromTrial ) <= TRIALS_PER_TASK ) {
+                return runTrials();
+            }
+
+            // NOTE: The left half always gets the split-off stream and is
+            // always merged first, so the outcome is independent of which
+            // threads steal which tasks.
+            final int middleTrial = ( _fromTrial + _toTrial ) >>> 1;
+            final DitheringTask leftTask = new DitheringTask( _sourceParameters,
+                                                              _ditheringAmount,
+                                                              _resultCount,
+                                                              _trialEvaluator,
+                                                              _random.split(),
+                                                              _fromTrial,
+                                                              middleTrial );
+            final DitheringTask rightTask = new DitheringTask( _sourceParameters,
+                                                               _ditheringAmount,
+                                                               _resultCount,
+                                                               _trialEvaluator,
+                                                               _random,
+                                                               middleTrial,
+                                                               _toTrial );
+            leftTask.fork();
+            final DitheringStatistics rightStatistics = rightTask.compute();
+            final DitheringStatistics leftStatistics = leftTask.join();
+            leftStatistics.merge( rightStatistics );
+            return leftStatistics;
+        }
+
+        private DitheringStatistics runTrials() {
+            // Allocate the work buffers once for the whole range of trials.
+            final double[] ditheredParameters = new double[ _sourceParameters.length ];
+            final double[] results = new double[ _resultCount ];
+            final DitheringStatistics ditheringStatistics = new DitheringStatistics( _resultCount );
+
+            for ( int trial = _fromTrial; trial < _toTrial; trial++ ) {
+                dither( _sourceParameters, _ditheringAmount, _random, ditheredParameters );
+                _trialEvaluator.evaluate( ditheredParameters, results );
+                ditheringStatistics.add( results );
+            }
+
+            return ditheringStatistics;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.prediction;
+
+import java.util.Arrays;
+
+/**
+ * Streaming statistics of the results of many dithering trials, which keeps
+ * the running mean, variance, minimum and maximum of each result rather than
+ * the results of every trial.
+ * <p>
+ * Trials are added one at a time with Welford's update, and the statistics of
+ * separate sets of trials are merged with Chan's parallel update, so that
+ * trials can be aggregated on any number of threads.
+ * <p>
+ * This class is not thread-safe; each thread aggregates its own instance.
+ */
+public final class DitheringStatistics {
+
+    // The number of trials.
+    private long           _count;
+
+    // The running mean and sum of squared differences from the mean of each
+    // result.
+    private final double[] _mean;
+    private final double[] _sumOfSquares;
+
+    // The extremes of each result.
+    private final double[] _minimum;
+    private final double[] _maximum;
+
+    /**
+     * Constructs empty statistics.
+     *
+     * @param resultCount
+     *            The number of results of each trial
+     */
+    public DitheringStatistics( final int resultCount ) {
+        _count = 0L;
+        _mean = new double[ resultCount ];
+        _sumOfSquares = new double[ resultCount ];
+        _minimum = new double[ resultCount ];
+        _maximum = new double[ resultCount ];
+        Arrays.fill( _minimum, Double.POSITIVE_INFINITY );
+        Arrays.fill( _maximum, Double.NEGATIVE_INFINITY );
+    }
+
+    /**
+     * Adds the results of one trial.
+     *
+     * @param results
+     *            The results of the trial, one per result
+     */
+    public void add( final double[] results ) {
+        _count++;
+        final double countInverse = 1.0d / _count;
+        for ( int i = 0; i < _mean.length; i++ ) {
+            final double result = results[ i ];
+            final double delta = result - _mean[ i ];
+            _mean[ i ] += delta * countInverse;
+            _sumOfSquares[ i ] += delta * ( result - _mean[ i ] );
+            if ( result < _minimum[ i ] ) {
+                _minimum[ i ] = result;
+            }
+            if ( result > _maximum[ i ] ) {
+                _maximum[ i ] = result;
+            }
+        }
+    }
+
+    /**
+     * Merges the statistics of another, separate set of trials into these.
+     *
+     * @param other
+     *            The statistics to merge in, which are left untouched
+     */
+    public void merge( final DitheringStatistics other ) {
+        if ( other._count == 0L ) {
+            return;
+        }
+        if ( _count == 0L ) {
+            _count = other._count;
+            System.arraycopy( other._mean, 0, _mean, 0, _mean.length );
+            System.arraycopy( other._sumOfSquares, 0, _sumOfSquares, 0, _sumOfSquares.length );
+            System.arraycopy( other._minimum, 0, _minimum, 0, _minimum.length );
+            System.arraycopy( other._maximum, 0, _maximum, 0, _maximum.length );
+            return;
+        }
+
+        final long count = _count + other._count;
+        final double otherWeight = ( double ) other._count / count;
+        final double crossWeight = ( ( double ) _count * other._count ) / count;
+        for ( int i = 0; i < _mean.length; i++ ) {
+            final double delta = other._mean[ i ] - _mean[ i ];
+            _mean[ i ] += delta * otherWeight;
+            _sumOfSquares[ i ] += other._sumOfSquares[ i ] + ( delta * delta * crossWeight );
+            _minimum[ i ] = Math.min( _minimum[ i ], other._minimum[ i ] );
+            _maximum[ i ] = Math.max( _maximum[ i ], other._maximum[ i ] );
+        }
+        _count = count;
+    }
+
+    public long getCount() {
+        return _count;
+    }
+
+    public int getResultCount() {
+        return _mean.length;
+    }
+
+    public double getMean( final int resultIndex ) {
+        return ( _count > 0L ) ? _mean[ resultIndex ] : Double.NaN;
+    }
+
+    /**
+     * Returns the sample variance of a result over all trials.
+     *
+     * @param resultIndex
+     *            The index of the result
+     * @return The sample variance, or NaN if there are fewer than two trials
+     */
+    public double getVariance( final int resultIndex ) {
+        return ( _count > 1L ) ? _sumOfSquares[ resultIndex ] / ( _count - 1L ) : Double.NaN;
+    }
+
+    public double getStandardDeviation( final int resultIndex ) {
+        return Math.sqrt( getVariance( resultIndex ) );
+    }
+
+    public double getMinimum( final int resultIndex ) {
+        return ( _count > 0L ) ? _minimum[ resultIndex ] : Double.NaN;
+    }
+
+    public double getMaximum( final int resultIndex ) {
+        return ( _count > 0L ) ? _maximum[ resultIndex ] : Double.NaN;
+    }
+}
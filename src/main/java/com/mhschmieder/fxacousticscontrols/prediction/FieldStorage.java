@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.prediction;
+
+import java.io.Closeable;
+import java.nio.FloatBuffer;
+
+/**
+ * Storage for per-band grids of floats, such as the complex pressure of a
+ * sound field or a grid of SPL values, exposed as float buffer views so that
+ * the SPL rasterizer and the auto-range engine read it without copying.
+ * <p>
+ * Implementations keep the grids on the heap, in direct memory outside the
+ * heap, or in a memory-mapped file that can exceed the available memory.
+ *
+ * @see FieldStorageMode
+ */
+public interface FieldStorage extends Closeable {
+
+    int getBandCount();
+
+    int getCellCount();
+
+    /**
+     * Returns a view of the grid of one band, with its position at zero and
+     * its limit at the number of cells. Each call returns a new view, so its
+     * position and limit can be changed freely; its contents are shared.
+     *
+     * @param bandIndex
+     *            The index of the band
+     * @return A view of the grid of the band
+     */
+    FloatBuffer getBand( final int bandIndex );
+
+    /**
+     * Returns the value of one cell, reading the shared grid of its band
+     * directly rather than through a new view, for random access.
+     *
+     * @param bandIndex
+     *            The index of the band
+     * @param cellIndex
+     *            The index of the cell in the grid of the band
+     * @return The value of the cell
+     */
+    float get( final int bandIndex, final int cellIndex );
+
+    /**
+     * Sets all of the cells of all bands to zero.
+     */
+    void clear();
+
+    /**
+     * Releases the storage, after which none of its views may be used.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.prediction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * An enumeration of where to keep the grids of a field storage.
+ */
+public enum FieldStorageMode {
+    /**
+     * Grids are kept in float arrays on the heap, which suits small grids.
+     */
+    HEAP,
+    /**
+     * Grids are kept in direct memory outside the heap, so that even very
+     * large grids add nothing to garbage collection pauses.
+     */
+    DIRECT,
+    /**
+     * Grids are kept in a temporary memory-mapped file, which the operating
+     * system pages in and out, so that grids can be larger than the available
+     * memory.
+     */
+    MAPPED;
+
+    public static FieldStorageMode defaultValue() {
+        return HEAP;
+    }
+
+    /**
+     * Allocates a new, zeroed field storage in this mode.
+     *
+     * @param bandCount
+     *            The number of bands
+     * @param cellCount
+     *            The number of cells in the grid of each band
+     * @return The new field storage
+     * @throws UncheckedIOException
+     *             if the memory-mapped file cannot be created
+     */
+    public FieldStorage allocate( final int bandCount, final int cellCount ) {
+        switch ( this ) {
+        case DIRECT:
+            return new DirectFieldStorage( bandCount, cellCount );
+        case MAPPED:
+            try {
+                return new MappedFieldStorage( bandCount, cellCount );
+            }
+            catch ( final IOException ioe ) {
+                throw new UncheckedIOException( ioe );
+            }
+        case HEAP:
+        default:
+            return new HeapFieldStorage( bandCount, cellCount );
+        }
+    }
+}
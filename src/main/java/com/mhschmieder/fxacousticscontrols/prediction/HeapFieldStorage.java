@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.prediction;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+/**
+ * Field storage that keeps each band in a float array on the heap.
+ */
+public final class HeapFieldStorage implements FieldStorage {
+
+    private final int       _cellCount;
+    private final float[][] _bands;
+
+    public HeapFieldStorage( final int bandCount, final int cellCount ) {
+        _cellCount = cellCount;
+        _bands = new float[ bandCount ][ cellCount ];
+    }
+
+    @Override
+    public int getBandCount() {
+        return _bands.length;
+    }
+
+    @Override
+    public int getCellCount() {
+        return _cellCount;
+    }
+
+    @Override
+    public FloatBuffer getBand( final int bandIndex ) {
+        return FloatBuffer.wrap( _bands[ bandIndex ] );
+    }
+
+    @Override
+    public float get( final int bandIndex, final int cellIndex ) {
+        return _bands[ bandIndex ][ cellIndex ];
+    }
+
+    @Override
+    public void clear() {
+        for ( final float[] band : _bands ) {
+            Arrays.fill( band, 0.0f );
+        }
+    }
+
+    @Override
+    public void close() {
+        // Heap arrays are reclaimed by the garbage collector.
+    }
+}
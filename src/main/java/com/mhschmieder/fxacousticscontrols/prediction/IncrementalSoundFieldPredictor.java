@@ -0,0 +1,472 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.prediction;
+
+import com.mhschmieder.fxacousticscontrols.cache.WeightedLruCache;
+import com.mhschmieder.fxacousticscontrols.model.CenterFrequencyTable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * An incremental sound field predictor, which keeps the predicted pressure
+ * fields of recently used band tables, and updates them in place when a single
+ * source changes rather than predicting all sources again.
+ * <p>
+ * Changing a source subtracts its previous contribution, recomputed from the
+ * cached parameters it was added with, and adds its new contribution, which
+ * costs one pass over the grid for that source rather than one for every
+ * source. Switching back to a recent band table reuses its cached fields, and
+ * as A-weighting is applied when converting the fields to SPL, toggling it
+ * needs no prediction at all.
+ * <p>
+ * Rounding errors build up with each incremental update. Callers can refresh
+ * the fields in the background, such as once a drag ends, or opt in to a
+ * background refresh after every so many updates. Either way the fields are
+ * predicted from scratch off the lock and then copied in place, so the thread
+ * that changes the sources never waits for a full prediction.
+ * <p>
+ * The predictor owns every field it returns. Evicted fields are closed right
+ * away, which releases memory-mapped storage and its file, so callers must not
+ * close a field, nor hold on to one across requests for other band tables,
+ * which may evict it. A field too large for the memory budget is kept outside
+ * of the cache until a field for another band table is requested.
+ * <p>
+ * All methods are synchronized. The returned fields are updated in place by
+ * later source changes, so renderers should convert them to SPL on the same
+ * thread that changes the sources, or else copy them first.
+ */
+public final class IncrementalSoundFieldPredictor {
+
+    /**
+     * The suggested number of incremental updates between background
+     * refreshes, which clear the build-up of rounding errors.
+     *
+     * @see #setRefreshInterval(int)
+     */
+    public static final int  FULL_REFRESH_INTERVAL = 64;
+
+    /**
+     * The default memory budget for the cached fields, in bytes.
+     */
+    public static final long MAXIMUM_BYTES_DEFAULT = 256L * 1024L * 1024L;
+
+    // The prediction engine.
+    private final SoundFieldPredictionEngine                           _soundFieldPredictionEngine;
+
+    // The sources, exactly as their contributions were added to the fields.
+    private final SoundSourceArray                                     _soundSources;
+
+    // The receivers and summation mode of all of the fields.
+    private final ReceiverGrid                                         _receiverGrid;
+    private final SummationMode                                        _summationMode;
+
+    // Where to keep the fields, which for large venues can be off the heap.
+    private final FieldStorageMode                                     _fieldStorageMode;
+
+    // The cached fields, keyed by band table, and weighed by size in bytes.
+    // NOTE: Band tables are shared and immutable, so they key by identity.
+    private final WeightedLruCache< CenterFrequencyTable, SoundField > _soundFields;
+
+    // The field that is too large for the memory budget, if any, which is not
+    // cached but is still owned and updated by this predictor.
+    private CenterFrequencyTable                                       _oversizedCenterFrequencyTable;
+    private SoundField                                                 _oversizedSoundField;
+
+    // A scratch array for the previous parameters of a changed source.
+    private final SoundSourceArray                                     _previousSource;
+
+    // The number of incremental updates since the last full prediction.
+    private int                                                        _incrementalUpdateCount;
+
+    // The number of source changes so far, so that a background refresh can
+    // tell whether the sources changed while it was predicting.
+    private long                                                       _sourceVersion;
+
+    // The number of incremental updates after which to refresh the fields in
+    // the background, or zero to only refresh them on request.
+    private int                                                        _refreshInterval;
+
+    // The pending background refresh, if any.
+    private ForkJoinTask< Boolean >                                    _refreshTask;
+
+    public IncrementalSoundFieldPredictor( final SoundFieldPredictionEngine soundFieldPredictionEngine,
+                                           final SoundSourceArray soundSources,
+                                           final ReceiverGrid receiverGrid,
+                                           final SummationMode summationMode ) {
+        this( soundFieldPredictionEngine,
+              soundSources,
+              receiverGrid,
+              summationMode,
+              MAXIMUM_BYTES_DEFAULT );
+    }
+
+    public IncrementalSoundFieldPredictor( final SoundFieldPredictionEngine soundFieldPredictionEngine,
+                                           final SoundSourceArray soundSources,
+                                           final ReceiverGrid receiverGrid,
+                                           final SummationMode summationMode,
+                                           final long maximumBytes ) {
+        this( soundFieldPredictionEngine,
+              soundSources,
+              receiverGrid,
+              summationMode,
+              maximumBytes,
+              FieldStorageMode.defaultValue() );
+    }
+
+    public IncrementalSoundFieldPredictor( final SoundFieldPredictionEngine soundFieldPredictionEngine,
+                                           final SoundSourceArray soundSources,
+                                           final ReceiverGrid receiverGrid,
+                                           final SummationMode summationMode,
+                                           final long maximumBytes,
+                                           final FieldStorageMode fieldStorageMode ) {
+        _soundFieldPredictionEngine = soundFieldPredictionEngine;
+        _soundSources = new SoundSourceArray( soundSources );
+        _receiverGrid = receiverGrid;
+        _summationMode = summationMode;
+        _fieldStorageMode = fieldStorageMode;
+        _soundFields = new WeightedLruCache<>( maximumBytes,
+                                               soundField -> getSizeInBytes( soundField ),
+                                               ( key, soundField ) -> soundField.close() );
+        _previousSource = new SoundSourceArray( 1 );
+        _previousSource.addSource( 0.0d, 0.0d, 0.0d, 0.0d, 0.0d );
+        _oversizedCenterFrequencyTable = null;
+        _oversizedSoundField = null;
+        _incrementalUpdateCount = 0;
+        _sourceVersion = 0L;
+        _refreshInterval = 0;
+        _refreshTask = null;
+    }
+
+    // Get the size of the pressure arrays of a field.
+    private static long getSizeInBytes( final SoundField soundField ) {
+        final long arrayCount = ( SummationMode.COHERENT == soundField.getSummationMode() )
+            ? 2L
+            : 1L;
+        return arrayCount * soundField.getBandCount() * soundField.getReceiverGrid().size() * 4L;
+    }
+
+    public ReceiverGrid getReceiverGrid() {
+        return _receiverGrid;
+    }
+
+    public SummationMode getSummationMode() {
+        return _summationMode;
+    }
+
+    public FieldStorageMode getFieldStorageMode() {
+        return _fieldStorageMode;
+    }
+
+    public synchronized int getSourceCount() {
+        return _soundSources.size();
+    }
+
+    /**
+     * Returns a copy of the sources, as currently predicted.
+     *
+     * @return A copy of the sources
+     */
+    public synchronized SoundSourceArray getSoundSources() {
+        return new SoundSourceArray( _soundSources );
+    }
+
+    /**
+     * Returns the predicted sound field for the given band table, from the
+     * cache if it was used recently, or else predicted from scratch.
+     *
+     * @param centerFrequencyTable
+     *            The band table, such as the one behind the Center Frequency
+     *            selector
+     * @return The predicted sound field, which is owned by this predictor,
+     *         updated in place by later source changes, and closed once
+     *         evicted or replaced
+     */
+    public synchronized SoundField getSoundField( final CenterFrequencyTable centerFrequencyTable ) {
+        final SoundField cachedSoundField = _soundFields.get( centerFrequencyTable );
+        if ( cachedSoundField != null ) {
+            return cachedSoundField;
+        }
+        if ( centerFrequencyTable == _oversizedCenterFrequencyTable ) {
+            return _oversizedSoundField;
+        }
+
+        final SoundField soundField = _soundFieldPredictionEngine.predict( _soundSources,
+                                                                           _receiverGrid,
+                                                                           centerFrequencyTable,
+                                                                           _summationMode,
+                                                                           _fieldStorageMode );
+
+        // The previous oversized field is replaced whichever band table is
+        // requested, as callers may not hold on to it across requests.
+        // A field that the cache rejects as too large stays owned here instead.
+        closeOversizedSoundField();
+        if ( !_soundFields.put( centerFrequencyTable, soundField ) ) {
+            _oversizedCenterFrequencyTable = centerFrequencyTable;
+            _oversizedSoundField = soundField;
+        }
+        return soundField;
+    }
+
+    // Close and drop the field that is too large for the memory budget.
+    private void closeOversizedSoundField() {
+        if ( _oversizedSoundField != null ) {
+            _oversizedSoundField.close();
+            _oversizedCenterFrequencyTable = null;
+            _oversizedSoundField = null;
+        }
+    }
+
+    // Perform an action on each owned field, cached or not.
+    private void forEachSoundField( final Consumer< SoundField > action ) {
+        _soundFields.forEach( ( centerFrequencyTable, soundField ) -> action.accept( soundField ) );
+        if ( _oversizedSoundField != null ) {
+            action.accept( _oversizedSoundField );
+        }
+    }
+
+    /**
+     * Adds a source, adding its contribution to all of the cached fields.
+     *
+     * @param x
+     *            The x coordinate of the source, in meters
+     * @param y
+     *            The y coordinate of the source, in meters
+     * @param z
+     *            The z coordinate (height) of the source, in meters
+     * @param amplitude
+     *            The pressure amplitude at 1 meter, in Pascals
+     * @param delay
+     *            The signal delay, in seconds
+     * @return The index of the new source
+     */
+    public synchronized int addSource( final double x,
+                                       final double y,
+                                       final double z,
+                                       final double amplitude,
+                                       final double delay ) {
+        final int sourceIndex = _soundSources.addSource( x, y, z, amplitude, delay );
+        forEachSoundField( soundField -> _soundFieldPredictionEngine
+                .accumulate( _soundSources, sourceIndex, sourceIndex + 1, 1.0d, soundField ) );
+        countIncrementalUpdate();
+        return sourceIndex;
+    }
+
+    /**
+     * Changes a source, replacing its contribution to all of the cached
+     * fields. A source is muted by setting its amplitude to zero.
+     *
+     * @param sourceIndex
+     *            The index of the source
+     * @param x
+     *            The x coordinate of the source, in meters
+     * @param y
+     *            The y coordinate of the source, in meters
+     * @param z
+     *            The z coordinate (height) of the source, in meters
+     * @param amplitude
+     *            The pressure amplitude at 1 meter, in Pascals
+     * @param delay
+     *            The signal delay, in seconds
+     * @throws IllegalArgumentException
+     *             if there is no source with the index
+     */
+    public synchronized void updateSource( final int sourceIndex,
+                                           final double x,
+                                           final double y,
+                                           final double z,
+                                           final double amplitude,
+                                           final double delay ) {
+        if ( ( sourceIndex < 0 ) || ( sourceIndex >= _soundSources.size() ) ) {
+            throw new IllegalArgumentException( "Invalid source index: " + sourceIndex ); //$NON-NLS-1$
+        }
+
+        _previousSource.setSource( 0,
+                                   _soundSources.getX( sourceIndex ),
+                                   _soundSources.getY( sourceIndex ),
+                                   _soundSources.getZ( sourceIndex ),
+                                   _soundSources.getAmplitude( sourceIndex ),
+                                   _soundSources.getDelay( sourceIndex ) );
+        _soundSources.setSource( sourceIndex, x, y, z, amplitude, delay );
+
+        forEachSoundField( soundField -> {
+            _soundFieldPredictionEngine.accumulate( _previousSource, 0, 1, -1.0d, soundField );
+            _soundFieldPredictionEngine
+                    .accumulate( _soundSources, sourceIndex, sourceIndex + 1, 1.0d, soundField );
+        } );
+        countIncrementalUpdate();
+    }
+
+    // Count an incremental update, and start a background refresh every so
+    // many updates, if opted in and none is pending yet. A refresh that the
+    // next update makes stale is only retried that many updates later, so
+    // that a long drag does not keep the common pool busy.
+    private void countIncrementalUpdate() {
+        _incrementalUpdateCount++;
+        _sourceVersion++;
+        if ( ( _refreshInterval > 0 ) && ( ( _incrementalUpdateCount % _refreshInterval ) == 0 )
+                && ( ( _refreshTask == null ) || _refreshTask.isDone() ) ) {
+            _refreshTask = refreshInBackground();
+        }
+    }
+
+    /**
+     * Returns the number of incremental updates since the fields were last
+     * predicted from scratch, such as to decide when to refresh them.
+     *
+     * @return The number of incremental updates since the last refresh
+     */
+    public synchronized int getIncrementalUpdateCount() {
+        return _incrementalUpdateCount;
+    }
+
+    public synchronized int getRefreshInterval() {
+        return _refreshInterval;
+    }
+
+    /**
+     * Sets the number of incremental updates after which the fields are
+     * refreshed in the background, such as {@link #FULL_REFRESH_INTERVAL}.
+     * This is off by default, in which case the fields are only refreshed on
+     * request.
+     *
+     * @param refreshInterval
+     *            The number of incremental updates between refreshes, or zero
+     *            to only refresh on request
+     */
+    public synchronized void setRefreshInterval( final int refreshInterval ) {
+        if ( refreshInterval < 0 ) {
+            throw new IllegalArgumentException( "Invalid refresh interval: " + refreshInterval ); //$NON-NLS-1$
+        }
+
+        _refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Predicts the owned fields from scratch on the common pool, to clear the
+     * build-up of rounding errors, and then copies the results into the fields
+     * in place, so that fields already handed out stay current.
+     * <p>
+     * The fresh fields are predicted without holding the lock, so source
+     * changes are not held up, but they take as much storage again as the
+     * owned fields until they are copied. If the sources change in the
+     * meantime, the fresh fields are dropped, as they no longer apply.
+     *
+     * @return The task, which reports whether the fields were refreshed
+     */
+    public synchronized ForkJoinTask< Boolean > refreshInBackground() {
+        final SoundSourceArray soundSources = new SoundSourceArray( _soundSources );
+        final long sourceVersion = _sourceVersion;
+        final List< CenterFrequencyTable > centerFrequencyTables = new ArrayList<>();
+        _soundFields.forEach( ( centerFrequencyTable,
+                                soundField ) -> centerFrequencyTables.add( centerFrequencyTable ) );
+        if ( _oversizedCenterFrequencyTable != null ) {
+            centerFrequencyTables.add( _oversizedCenterFrequencyTable );
+        }
+
+        return ForkJoinPool.commonPool()
+                .submit( () -> refresh( soundSources, sourceVersion, centerFrequencyTables ) );
+    }
+
+    // Predict fresh fields for a snapshot of the sources, and copy them into
+    // the owned fields if the sources have not changed since the snapshot.
+    private boolean refresh( final SoundSourceArray soundSources,
+                             final long sourceVersion,
+                             final List< CenterFrequencyTable > centerFrequencyTables ) {
+        final Map< CenterFrequencyTable, SoundField > freshSoundFields = new HashMap<>();
+        try {
+            for ( final CenterFrequencyTable centerFrequencyTable : centerFrequencyTables ) {
+                if ( isStale( sourceVersion ) ) {
+                    return false;
+                }
+                freshSoundFields.put( centerFrequencyTable,
+                                      _soundFieldPredictionEngine.predict( soundSources,
+                                                                           _receiverGrid,
+                                                                           centerFrequencyTable,
+                                                                           _summationMode,
+                                                                           _fieldStorageMode ) );
+            }
+
+            synchronized ( this ) {
+                if ( isStale( sourceVersion ) ) {
+                    return false;
+                }
+
+                _soundFields.forEach( ( centerFrequencyTable, soundField ) -> {
+                    final SoundField freshSoundField = freshSoundFields.get( centerFrequencyTable );
+                    if ( freshSoundField != null ) {
+                        soundField.copyFrom( freshSoundField );
+                    }
+                } );
+                final SoundField freshSoundField = freshSoundFields
+                        .get( _oversizedCenterFrequencyTable );
+                if ( freshSoundField != null ) {
+                    _oversizedSoundField.copyFrom( freshSoundField );
+                }
+                _incrementalUpdateCount = 0;
+                return true;
+            }
+        }
+        finally {
+            freshSoundFields.values().forEach( SoundField::close );
+        }
+    }
+
+    // Check whether the sources changed since the given version.
+    private synchronized boolean isStale( final long sourceVersion ) {
+        return _sourceVersion != sourceVersion;
+    }
+
+    /**
+     * Closes and drops all of the cached fields, such as to free their memory,
+     * so that they are predicted from scratch on demand. Fields already handed
+     * out must no longer be used.
+     */
+    public synchronized void invalidate() {
+        _soundFields.forEach( ( centerFrequencyTable, soundField ) -> soundField.close() );
+        _soundFields.clear();
+        closeOversizedSoundField();
+        _incrementalUpdateCount = 0;
+    }
+
+    public long getHitCount() {
+        return _soundFields.getHitCount();
+    }
+
+    public long getMissCount() {
+        return _soundFields.getMissCount();
+    }
+}
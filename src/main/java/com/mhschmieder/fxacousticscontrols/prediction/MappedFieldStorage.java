@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.prediction;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Field storage that spills to a temporary memory-mapped file, with each band
+ * mapped separately, so that the grids can be larger than the available
+ * memory and are paged in and out by the operating system.
+ * <p>
+ * The file is deleted as soon as it is mapped, as the mappings keep its
+ * contents alive, so its disk space is released once the storage is closed
+ * and its mappings are reclaimed. Some platforms cannot delete a file while it
+ * is still mapped, in which case it is deleted when the storage is closed, and
+ * only left to be deleted at exit if it is still mapped by then.
+ */
+public final class MappedFieldStorage implements FieldStorage {
+
+    // The prefix and suffix of the temporary file names.
+    private static final String TEMP_FILE_PREFIX = "fxacoustics-field-"; //$NON-NLS-1$
+    private static final String TEMP_FILE_SUFFIX = ".bin";               //$NON-NLS-1$
+
+    private final int           _cellCount;
+    private final File          _file;
+    private final FloatBuffer[] _bands;
+
+    // Whether the file is already deleted.
+    private boolean             _fileDeleted;
+
+    /**
+     * Constructs a memory-mapped field storage in the default temporary
+     * directory.
+     *
+     * @param bandCount
+     *            The number of bands
+     * @param cellCount
+     *            The number of cells in the grid of each band
+     * @throws IOException
+     *             if the temporary file cannot be created or mapped
+     */
+    public MappedFieldStorage( final int bandCount, final int cellCount ) throws IOException {
+        this( bandCount, cellCount, null );
+    }
+
+    /**
+     * Constructs a memory-mapped field storage in the given directory, such as
+     * on a fast local disk with enough free space.
+     *
+     * @param bandCount
+     *            The number of bands
+     * @param cellCount
+     *            The number of cells in the grid of each band
+     * @param directory
+     *            The directory for the temporary file, or null for the default
+     *            temporary directory
+     * @throws IOException
+     *             if the temporary file cannot be created or mapped
+     */
+    public MappedFieldStorage( final int bandCount,
+                               final int cellCount,
+                               final File directory ) throws IOException {
+        if ( cellCount > ( Integer.MAX_VALUE / Float.BYTES ) ) {
+            throw new IllegalArgumentException( "Too many cells per band: " + cellCount ); //$NON-NLS-1$
+        }
+
+        _cellCount = cellCount;
+        _file = File.createTempFile( TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX, directory );
+        _bands = new FloatBuffer[ bandCount ];
+
+        // NOTE: The mappings stay valid after the channel is closed. A new
+        // file reads as zeros, so the grids start out cleared.
+        final long bandSize = ( long ) cellCount * Float.BYTES;
+        try ( final RandomAccessFile randomAccessFile = new RandomAccessFile( _file, "rw" ); //$NON-NLS-1$
+                final FileChannel fileChannel = randomAccessFile.getChannel() ) {
+            randomAccessFile.setLength( bandSize * bandCount );
+            for ( int bandIndex = 0; bandIndex < bandCount; bandIndex++ ) {
+                _bands[ bandIndex ] = fileChannel
+                        .map( FileChannel.MapMode.READ_WRITE, bandSize * bandIndex, bandSize )
+                        .order( ByteOrder.nativeOrder() ).asFloatBuffer();
+            }
+        }
+        catch ( final IOException ioe ) {
+            _file.delete();
+            throw ioe;
+        }
+
+        // Unlink the file right away where the platform allows it, so that it
+        // never outlives the mappings, even if the storage is never closed.
+        _fileDeleted = _file.delete();
+    }
+
+    @Override
+    public int getBandCount() {
+        return _bands.length;
+    }
+
+    @Override
+    public int getCellCount() {
+        return _cellCount;
+    }
+
+    @Override
+    public FloatBuffer getBand( final int bandIndex ) {
+        return _bands[ bandIndex ].duplicate();
+    }
+
+    @Override
+    public float get( final int bandIndex, final int cellIndex ) {
+        return _bands[ bandIndex ].get( cellIndex );
+    }
+
+    @Override
+    public void clear() {
+        for ( final FloatBuffer band : _bands ) {
+            for ( int i = 0; i < _cellCount; i++ ) {
+                band.put( i, 0.0f );
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        for ( int bandIndex = 0; bandIndex < _bands.length; bandIndex++ ) {
+            _bands[ bandIndex ] = null;
+        }
+
+        if ( !_fileDeleted ) {
+            _fileDeleted = _file.delete();
+            if ( !_fileDeleted ) {
+                _file.deleteOnExit();
+                _fileDeleted = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.prediction;
+
+import com.mhschmieder.fxacousticscontrols.image.SplProgressiveRenderer;
+import com.mhschmieder.fxacousticscontrols.model.FrequencyWeighting;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A coarse-first sound field prediction, which feeds a progressive render pass
+ * level by level, so that the 1/16 resolution preview is shown as soon as a
+ * strided 1/16 of the receivers has been predicted rather than once the whole
+ * grid has.
+ * <p>
+ * Each level predicts only the shown band, and only the receivers that the
+ * coarser levels skipped, so the preview costs the same however many bands the
+ * sound field has. The other bands are filled in on the common pool once the
+ * full resolution level is done, or on demand by {@link #complete()}.
+ * <p>
+ * The sound field is cleared before the first level, so it must not be shared
+ * with an incremental predictor or with another render pass.
+ */
+public final class ProgressiveSoundFieldPredictor implements SplProgressiveRenderer.LevelSource {
+
+    // The prediction engine and the sources to predict.
+    private final SoundFieldPredictionEngine _soundFieldPredictionEngine;
+    private final SoundSourceArray           _soundSources;
+
+    // The sound field to predict into, and the band and weighting to show.
+    private final SoundField                 _soundField;
+    private final int                        _bandIndex;
+    private final FrequencyWeighting         _weighting;
+
+    // The row-major SPL grid that the render pass rasterizes.
+    private final FloatBuffer                _splDb;
+
+    // Counts the render passes, so that filling in the other bands in the
+    // background gives way to a new pass.
+    private final AtomicInteger              _passCount;
+
+    // The finest zoom level of the shown band that is fully predicted, or -1
+    // if none, and whether all of the other bands are predicted as well.
+    private int                              _predictedZoomLevel;
+    private boolean                          _complete;
+
+    public ProgressiveSoundFieldPredictor( final SoundFieldPredictionEngine soundFieldPredictionEngine,
+                                           final SoundSourceArray soundSources,
+                                           final SoundField soundField,
+                                           final int bandIndex,
+                                           final FrequencyWeighting weighting,
+                                           final FloatBuffer splDb ) {
+        if ( ( bandIndex < 0 ) || ( bandIndex >= soundField.getBandCount() ) ) {
+            throw new IllegalArgumentException( "Invalid band index: " + bandIndex ); //$NON-NLS-1$
+        }
+        if ( splDb.remaining() < soundField.getReceiverGrid().size() ) {
+            throw new IllegalArgumentException( "SPL grid is too small: " //$NON-NLS-1$
+                    + splDb.remaining() );
+        }
+
+        _soundFieldPredictionEngine = soundFieldPredictionEngine;
+        _soundSources = new SoundSourceArray( soundSources );
+        _soundField = soundField;
+        _bandIndex = bandIndex;
+        _weighting = weighting;
+        _splDb = splDb;
+        _passCount = new AtomicInteger();
+        _predictedZoomLevel = -1;
+        _complete = false;
+    }
+
+    /**
+     * Returns the sound field, in which only the shown band is complete until
+     * the other bands have been filled in.
+     *
+     * @return The sound field
+     * @see #complete()
+     */
+    public SoundField getSoundField() {
+        return _soundField;
+    }
+
+    public synchronized boolean isComplete() {
+        return _complete;
+    }
+
+    @Override
+    public boolean fillLevel( final int zoomLevel,
+                              final int coarserZoomLevel,
+                              final BooleanSupplier cancelled ) {
+        // Count the pass before waiting for the lock, so that a background
+        // fill of the other bands stops at its next tile.
+        if ( coarserZoomLevel < 0 ) {
+            _passCount.incrementAndGet();
+        }
+
+        synchronized ( this ) {
+            if ( coarserZoomLevel < 0 ) {
+                _soundField.clear();
+                _predictedZoomLevel = -1;
+                _complete = false;
+            }
+
+            if ( !_soundFieldPredictionEngine.predictLevel( _soundSources,
+                                                            _soundField,
+                                                            _bandIndex,
+                                                            zoomLevel,
+                                                            coarserZoomLevel,
+                                                            cancelled ) ) {
+                return false;
+            }
+            _predictedZoomLevel = zoomLevel;
+
+            _soundField.toSplDb( _bandIndex, _splDb, _weighting, zoomLevel, coarserZoomLevel );
+        }
+
+        if ( zoomLevel == 0 ) {
+            completeInBackground();
+        }
+        return true;
+    }
+
+    /**
+     * Fills in the bands other than the shown one on the common pool, which
+     * stops early if a new render pass starts in the meantime.
+     *
+     * @return The task, which reports whether the sound field was completed
+     */
+    public ForkJoinTask< Boolean > completeInBackground() {
+        final int passCount = _passCount.get();
+        return ForkJoinPool.commonPool()
+                .submit( () -> complete( () -> _passCount.get() != passCount ) );
+    }
+
+    /**
+     * Fills in the bands other than the shown one on the calling thread, if
+     * that has not been done yet, such as before switching the shown band or
+     * summing the overall level. If the shown band is not complete either,
+     * because its render pass was cancelled, the whole field is predicted.
+     *
+     * @return The complete sound field
+     */
+    public SoundField complete() {
+        complete( null );
+        return _soundField;
+    }
+
+    // Fill in the other bands, or the whole field if the shown band was left
+    // incomplete, unless cancelled.
+    private synchronized boolean complete( final BooleanSupplier cancelled ) {
+        if ( _complete ) {
+            return true;
+        }
+        if ( ( cancelled != null ) && cancelled.getAsBoolean() ) {
+            return false;
+        }
+
+        final int bandCount = _soundField.getBandCount();
+        final boolean predicted;
+        if ( _predictedZoomLevel == 0 ) {
+            predicted = _soundFieldPredictionEngine
+                    .predictBands( _soundSources, _soundField, 0, _bandIndex, cancelled )
+                    && _soundFieldPredictionEngine.predictBands( _soundSources,
+                                                                 _soundField,
+                                                                 _bandIndex + 1,
+                                                                 bandCount,
+                                                                 cancelled );
+        }
+        else {
+            _soundField.clear();
+            predicted = _soundFieldPredictionEngine
+                    .predictBands( _soundSources, _soundField, 0, bandCount, cancelled );
+        }
+
+        // A cancelled fill leaves some bands partly predicted, so the next
+        // attempt has to start over from a cleared field.
+        _predictedZoomLevel = predicted ? 0 : -1;
+        _complete = predicted;
+        return predicted;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.prediction;
+
+/**
+ * An immutable, regular grid of receivers in a horizontal plane, in row-major
+ * order with the first row at the origin, matching the layout of the SPL grids
+ * that the SPL map renderers take.
+ */
+public final class ReceiverGrid {
+
+    private final double _originX;
+    private final double _originY;
+    private final double _z;
+    private final double _spacingX;
+    private final double _spacingY;
+    private final int    _columns;
+    private final int    _rows;
+
+    /**
+     * Constructs a receiver grid.
+     *
+     * @param originX
+     *            The x coordinate of the first receiver, in meters
+     * @param originY
+     *            The y coordinate of the first receiver, in meters
+     * @param z
+     *            The z coordinate (height) of all receivers, in meters
+     * @param spacingX
+     *            The spacing between columns, in meters
+     * @param spacingY
+     *            The spacing between rows, in meters
+     * @param columns
+     *            The number of columns
+     * @param rows
+     *            The number of rows
+     */
+    public ReceiverGrid( final double originX,
+                         final double originY,
+                         final double z,
+                         final double spacingX,
+                         final double spacingY,
+                         final int columns,
+                         final int rows ) {
+        if ( ( columns < 0 ) || ( rows < 0 ) ) {
+            throw new IllegalArgumentException( "Invalid receiver grid size: " + columns //$NON-NLS-1$
+                    + " x " + rows ); //$NON-NLS-1$
+        }
+
+        _originX = originX;
+        _originY = originY;
+        _z = z;
+        _spacingX = spacingX;
+        _spacingY = spacingY;
+        _columns = columns;
+        _rows = rows;
+    }
+
+    public double getOriginX() {
+        return _originX;
+    }
+
+    public double getOriginY() {
+        return _originY;
+    }
+
+    public double getZ() {
+        return _z;
+    }
+
+    public double getSpacingX() {
+        return _spacingX;
+    }
+
+    public double getSpacingY() {
+        return _spacingY;
+    }
+
+    public int getColumns() {
+        return _columns;
+    }
+
+    public int getRows() {
+        return _rows;
+    }
+
+    public int size() {
+        return _columns * _rows;
+    }
+
+    public double getX( final int column ) {
+        return _originX + ( column * _spacingX );
+    }
+
+    public double getY( final int row ) {
+        return _originY + ( row * _spacingY );
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.prediction;
+
+import com.mhschmieder.fxacousticscontrols.model.CenterFrequencyTable;
+import com.mhschmieder.fxacousticscontrols.model.FrequencyWeighting;
+import com.mhschmieder.fxacousticscontrols.model.FrequencyWeightingTable;
+import org.apache.commons.math3.util.FastMath;
+
+import java.io.Closeable;
+import java.nio.FloatBuffer;
+
+/**
+ * The predicted sound field over a receiver grid, for each band of a band
+ * table, kept as pressure rather than as SPL so that it can be updated
+ * incrementally and converted to SPL on demand.
+ * <p>
+ * Coherent fields keep the real and imaginary parts of the complex pressure
+ * of each receiver, while incoherent fields keep only the summed power, in
+ * place of the real part.
+ * <p>
+ * The grids are kept in a field storage, which for large venues can be off
+ * the heap or spilled to disk, and are read as float buffers without copying.
+ */
+public final class SoundField implements Closeable {
+
+    /**
+     * The reference pressure for SPL in air, in Pascals.
+     */
+    public static final double REFERENCE_PRESSURE = 20.0e-6d;
+
+    // The receivers, bands and summation mode of this sound field.
+    private final ReceiverGrid         _receiverGrid;
+    private final CenterFrequencyTable _centerFrequencyTable;
+    private final SummationMode        _summationMode;
+    private final FieldStorageMode     _fieldStorageMode;
+
+    // The real and imaginary parts of the complex pressure of each band, or
+    // the power in the real parts and no imaginary parts if incoherent.
+    final FieldStorage                 _real;
+    final FieldStorage                 _imaginary;
+
+    SoundField( final ReceiverGrid receiverGrid,
+                final CenterFrequencyTable centerFrequencyTable,
+                final SummationMode summationMode,
+                final FieldStorageMode fieldStorageMode ) {
+        _receiverGrid = receiverGrid;
+        _centerFrequencyTable = centerFrequencyTable;
+        _summationMode = summationMode;
+        _fieldStorageMode = fieldStorageMode;
+
+        final int bandCount = centerFrequencyTable.size();
+        final int receiverCount = receiverGrid.size();
+        _real = fieldStorageMode.allocate( bandCount, receiverCount );
+        _imaginary = ( SummationMode.COHERENT == summationMode )
+            ? fieldStorageMode.allocate( bandCount, receiverCount )
+            : null;
+    }
+
+    // Reset the pressure of all bands to zero, before predicting again.
+    void clear() {
+        _real.clear();
+        if ( _imaginary != null ) {
+            _imaginary.clear();
+        }
+    }
+
+    // Copy the pressure of all bands from a sound field of the same shape,
+    // such as a fresh prediction without the rounding errors of this one.
+    void copyFrom( final SoundField soundField ) {
+        for ( int bandIndex = 0, bandCount = getBandCount(); bandIndex < bandCount; bandIndex++ ) {
+            getReal( bandIndex ).put( soundField.getReal( bandIndex ) );
+            if ( _imaginary != null ) {
+                getImaginary( bandIndex ).put( soundField.getImaginary( bandIndex ) );
+            }
+        }
+    }
+
+    /**
+     * Releases the storage of this sound field, which for memory-mapped
+     * storage also deletes its file. The field must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        _real.close();
+        if ( _imaginary != null ) {
+            _imaginary.close();
+        }
+    }
+
+    public ReceiverGrid getReceiverGrid() {
+        return _receiverGrid;
+    }
+
+    public CenterFrequencyTable getCenterFrequencyTable() {
+        return _centerFrequencyTable;
+    }
+
+    public SummationMode getSummationMode() {
+        return _summationMode;
+    }
+
+    public FieldStorageMode getFieldStorageMode() {
+        return _fieldStorageMode;
+    }
+
+    public int getBandCount() {
+        return _real.getBandCount();
+    }
+
+    /**
+     * Returns a view of the real parts of the complex pressure of one band,
+     * or of the power if incoherent, without copying.
+     *
+     * @param bandIndex
+     *            The index of the band in the band table
+     * @return A row-major view of the real part of each receiver
+     */
+    public FloatBuffer getReal( final int bandIndex ) {
+        return _real.getBand( bandIndex );
+    }
+
+    /**
+     * Returns a view of the imaginary parts of the complex pressure of one
+     * band, without copying.
+     *
+     * @param bandIndex
+     *            The index of the band in the band table
+     * @return A row-major view of the imaginary part of each receiver, or null
+     *         if incoherent
+     */
+    public FloatBuffer getImaginary( final int bandIndex ) {
+        return ( _imaginary != null ) ? _imaginary.getBand( bandIndex ) : null;
+    }
+
+    /**
+     * Returns the mean square pressure at a receiver, for one band.
+     *
+     * @param bandIndex
+     *            The index of the band in the band table
+     * @param receiverIndex
+     *            The row-major index of the receiver
+     * @return The mean square pressure, in Pascals squared
+     */
+    public double getPower( final int bandIndex, final int receiverIndex ) {
+        final double real = _real.get( bandIndex, receiverIndex );
+        if ( _imaginary == null ) {
+            return real;
+        }
+
+        final double imaginary = _imaginary.get( bandIndex, receiverIndex );
+        return ( real * real ) + ( imaginary * imaginary );
+    }
+
+    // Get the power at a receiver from views of one band.
+    private static double getPower( final FloatBuffer real,
+                                    final FloatBuffer imaginary,
+                                    final int receiverIndex ) {
+        final double realPart = real.get( receiverIndex );
+        if ( imaginary == null ) {
+            return realPart;
+        }
+
+        final double imaginaryPart = imaginary.get( receiverIndex );
+        return ( realPart * realPart ) + ( imaginaryPart * imaginaryPart );
+    }
+
+    /**
+     * Converts one band of the sound field to SPL.
+     *
+     * @param bandIndex
+     *            The index of the band in the band table
+     * @param splDb
+     *            The row-major grid to write the SPL of each receiver to, in
+     *            dB, which must hold at least as many cells as there are
+     *            receivers
+     */
+    public void toSplDb( final int bandIndex, final float[] splDb ) {
+        toSplDb( bandIndex, FloatBuffer.wrap( splDb ) );
+    }
+
+    /**
+     * Converts one band of the sound field to SPL, such as into an off-heap
+     * SPL grid that the rasterizer and the auto-range engine read directly.
+     *
+     * @param bandIndex
+     *            The index of the band in the band table
+     * @param splDb
+     *            The row-major grid to write the SPL of each receiver to, in
+     *            dB, from its position on, which must have at least as many
+     *            cells remaining as there are receivers
+     */
+    public void toSplDb( final int bandIndex, final FloatBuffer splDb ) {
+        final double referencePowerInverse = 1.0d / ( REFERENCE_PRESSURE * REFERENCE_PRESSURE );
+        final FloatBuffer real = getReal( bandIndex );
+        final FloatBuffer imaginary = getImaginary( bandIndex );
+        final int offset = splDb.position();
+        final int receiverCount = _receiverGrid.size();
+        for ( int i = 0; i < receiverCount; i++ ) {
+            splDb.put( offset + i,
+                       ( float ) ( 10.0d * FastMath
+                               .log10( getPower( real, imaginary, i ) * referencePowerInverse ) ) );
+        }
+    }
+
+    /**
+     * Converts one band of the sound field to weighted SPL, adding the
+     * precomputed correction of the band as it goes.
+     * <p>
+     * To toggle the weighting of a grid that was already converted, use
+     * {@link FrequencyWeightingTable#reweight} rather than converting again.
+     *
+     * @param bandIndex
+     *            The index of the band in the band table
+     * @param splDb
+     *            The row-major grid to write the SPL of each receiver to, in
+     *            dB, from its position on, which must have at least as many
+     *            cells remaining as there are receivers
+     * @param weighting
+     *            The weighting to apply, such as A-weighting
+     */
+    public void toSplDb( final int bandIndex,
+                         final FloatBuffer splDb,
+                         final FrequencyWeighting weighting ) {
+        toSplDb( bandIndex, splDb );
+
+        final float correctionDb = FrequencyWeightingTable.getInstance( _centerFrequencyTable )
+                .getCorrectionDb( weighting, bandIndex );
+        if ( correctionDb == 0.0f ) {
+            return;
+        }
+
+        final int offset = splDb.position();
+        final int receiverCount = _receiverGrid.size();
+        for ( int i = 0; i < receiverCount; i++ ) {
+            splDb.put( offset + i, splDb.get( offset + i ) + correctionDb );
+        }
+    }
+
+    // Convert the receivers on the stride of a zoom level to weighted SPL,
+    // skipping those on the stride of a coarser zoom level, if any, as they
+    // were already converted.
+    void toSplDb( final int bandIndex,
+                  final FloatBuffer splDb,
+                  final FrequencyWeighting weighting,
+                  final int zoomLevel,
+                  final int coarserZoomLevel ) {
+        final double referencePowerInverse = 1.0d / ( REFERENCE_PRESSURE * REFERENCE_PRESSURE );
+        final float correctionDb = FrequencyWeightingTable.getInstance( _centerFrequencyTable )
+                .getCorrectionDb( weighting, bandIndex );
+        final FloatBuffer real = getReal( bandIndex );
+        final FloatBuffer imaginary = getImaginary( bandIndex );
+        final int offset = splDb.position();
+        final int columns = _receiverGrid.getColumns();
+        final int rows = _receiverGrid.getRows();
+        final int stride = 1 << zoomLevel;
+        final int coarserMask = ( coarserZoomLevel >= 0 ) ? ( 1 << coarserZoomLevel ) - 1 : -1;
+        for ( int row = 0; row < rows; row += stride ) {
+            final boolean coarserRow = ( coarserMask >= 0 ) && ( ( row & coarserMask ) == 0 );
+            for ( int column = 0; column < columns; column += stride ) {
+                if ( coarserRow && ( ( column & coarserMask ) == 0 ) ) {
+                    continue;
+                }
+
+                final int i = ( row * columns ) + column;
+                splDb.put( offset + i,
+                           ( float ) ( ( 10.0d * FastMath.log10( getPower( real, imaginary, i )
+                                   * referencePowerInverse ) ) + correctionDb ) );
+            }
+        }
+    }
+
+    /**
+     * Converts the sum of all bands of the sound field to weighted overall
+     * SPL, such as dBA, by summing the weighted power of each band and only
+     * converting the total to dB.
+     *
+     * @param splDb
+     *            The row-major grid to write the overall SPL of each receiver
+     *            to, in dB, from its position on, which must have at least as
+     *            many cells remaining as there are receivers
+     * @param weighting
+     *            The weighting to apply, such as A-weighting for dBA
+     */
+    public void toOverallSplDb( final FloatBuffer splDb, final FrequencyWeighting weighting ) {
+        final FrequencyWeightingTable weightingTable = FrequencyWeightingTable
+                .getInstance( _centerFrequencyTable );
+        final int offset = splDb.position();
+        final int receiverCount = _receiverGrid.size();
+
+        // Sum the weighted power into the output grid, band by band, so that
+        // each band is streamed through once.
+        for ( int i = 0; i < receiverCount; i++ ) {
+            splDb.put( offset + i, 0.0f );
+        }
+        for ( int bandIndex = 0; bandIndex < getBandCount(); bandIndex++ ) {
+            final double powerGain = weightingTable.getPowerGain( weighting, bandIndex );
+            final FloatBuffer real = getReal( bandIndex );
+            final FloatBuffer imaginary = getImaginary( bandIndex );
+            for ( int i = 0; i < receiverCount; i++ ) {
+                splDb.put( offset + i,
+                           ( float ) ( splDb.get( offset + i )
+                                   + ( powerGain * getPower( real, imaginary, i ) ) ) );
+            }
+        }
+
+        final double referencePowerInverse = 1.0d / ( REFERENCE_PRESSURE * REFERENCE_PRESSURE );
+        for ( int i = 0; i < receiverCount; i++ ) {
+            splDb.put( offset + i,
+                       ( float ) ( 10.0d * FastMath
+                               .log10( splDb.get( offset + i ) * referencePowerInverse ) ) );
+        }
+    }
+
+    /**
+     * Converts one band of the sound field to SPL.
+     *
+     * @param bandIndex
+     *            The index of the band in the band table
+     * @return The row-major grid of the SPL of each receiver, in dB
+     */
+    public float[] toSplDb( final int bandIndex ) {
+        final float[] splDb = new float[ _receiverGrid.size() ];
+        toSplDb( bandIndex, splDb );
+        return splDb;
+    }
+}
@@ -0,0 +1,527 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.prediction;
+
+import com.mhschmieder.fxacousticscontrols.image.SplProgressiveRenderer;
+import com.mhschmieder.fxacousticscontrols.model.CenterFrequencyTable;
+import org.apache.commons.math3.util.FastMath;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The sound field prediction engine, which sums the pressure of point sound
+ * sources over a receiver grid for each band of a band table, such as the one
+ * behind the Center Frequency selector.
+ * <p>
+ * Each source radiates as a free-field point source, evaluated at the nominal
+ * Center Frequency of each band, with spherical spreading and the phase of its
+ * propagation distance and delay. The work is split into square tiles of
+ * receivers for each band, which run in parallel on a fork-join pool.
+ */
+public final class SoundFieldPredictionEngine {
+
+    /**
+     * The default speed of sound, in meters per second, for air at about 20
+     * degrees Celsius.
+     */
+    public static final double SPEED_OF_SOUND_DEFAULT = 343.0d;
+
+    /**
+     * The minimum distance from a source, in meters, inside which the
+     * pressure is held constant to avoid the singularity at the source.
+     */
+    public static final double MINIMUM_DISTANCE       = 0.1d;
+
+    // The size of each square tile of receivers, per parallel task.
+    private static final int   TILE_SIZE              = 64;
+
+    // The speed of sound, in meters per second.
+    private final double       _speedOfSound;
+
+    // The fork-join pool to run the tiles on.
+    private final ForkJoinPool _forkJoinPool;
+
+    // Default constructor
+    public SoundFieldPredictionEngine() {
+        this( SPEED_OF_SOUND_DEFAULT, ForkJoinPool.commonPool() );
+    }
+
+    public SoundFieldPredictionEngine( final double speedOfSound,
+                                       final ForkJoinPool forkJoinPool ) {
+        _speedOfSound = speedOfSound;
+        _forkJoinPool = forkJoinPool;
+    }
+
+    public double getSpeedOfSound() {
+        return _speedOfSound;
+    }
+
+    /**
+     * Predicts the sound field of all sources over the receiver grid, for
+     * each band of the band table.
+     *
+     * @param soundSources
+     *            The sound sources
+     * @param receiverGrid
+     *            The receiver grid
+     * @param centerFrequencyTable
+     *            The band table, such as the one behind the Center Frequency
+     *            selector
+     * @param summationMode
+     *            Whether to sum complex pressure or power
+     * @return The predicted sound field, kept on the heap
+     */
+    public SoundField predict( final SoundSourceArray soundSources,
+                               final ReceiverGrid receiverGrid,
+                               final CenterFrequencyTable centerFrequencyTable,
+                               final SummationMode summationMode ) {
+        return predict( soundSources,
+                        receiverGrid,
+                        centerFrequencyTable,
+                        summationMode,
+                        FieldStorageMode.defaultValue() );
+    }
+
+    /**
+     * Predicts the sound field of all sources over the receiver grid, for
+     * each band of the band table, into the given kind of storage.
+     *
+     * @param soundSources
+     *            The sound sources
+     * @param receiverGrid
+     *            The receiver grid
+     * @param centerFrequencyTable
+     *            The band table, such as the one behind the Center Frequency
+     *            selector
+     * @param summationMode
+     *            Whether to sum complex pressure or power
+     * @param fieldStorageMode
+     *            Whether to keep the field on the heap, off the heap, or in a
+     *            memory-mapped file for grids larger than the available memory
+     * @return The predicted sound field
+     */
+    public SoundField predict( final SoundSourceArray soundSources,
+                               final ReceiverGrid receiverGrid,
+                               final CenterFrequencyTable centerFrequencyTable,
+                               final SummationMode summationMode,
+                               final FieldStorageMode fieldStorageMode ) {
+        final SoundField soundField = new SoundField( receiverGrid,
+                                                      centerFrequencyTable,
+                                                      summationMode,
+                                                      fieldStorageMode );
+
+        accumulate( soundSources, 0, soundSources.size(), 1.0d, soundField );
+
+        return soundField;
+    }
+
+    /**
+     * Adds the contributions of a range of sources to an existing sound field,
+     * or subtracts them for a negative sign, over all receivers and bands.
+     * <p>
+     * Coherent fields add or subtract complex pressure, and incoherent fields
+     * power, so subtracting the contribution of a source exactly as it was
+     * added removes it again, up to rounding.
+     *
+     * @param soundSources
+     *            The sound sources
+     * @param fromSource
+     *            The index of the first source, inclusive
+     * @param toSource
+     *            The index of the last source, exclusive
+     * @param sign
+     *            Plus one to add the contributions, or minus one to subtract
+     *            them
+     * @param soundField
+     *            The sound field to update in place
+     */
+    public void accumulate( final SoundSourceArray soundSources,
+                            final int fromSource,
+                            final int toSource,
+                            final double sign,
+                            final SoundField soundField ) {
+        accumulate( soundSources,
+                    fromSource,
+                    toSource,
+                    sign,
+                    soundField,
+                    0,
+                    soundField.getBandCount(),
+                    0,
+                    -1,
+                    null );
+    }
+
+    /**
+     * Adds the contributions of all sources to a range of bands of an existing
+     * sound field, over all receivers, such as to fill in the bands that a
+     * coarse-first prediction of a single band left out.
+     *
+     * @param soundSources
+     *            The sound sources
+     * @param soundField
+     *            The sound field to update in place
+     * @param fromBand
+     *            The index of the first band, inclusive
+     * @param toBand
+     *            The index of the last band, exclusive
+     * @param cancelled
+     *            Reports whether the prediction has been cancelled, which is
+     *            checked before each tile, or null if it cannot be
+     * @return {@code true} if the bands were predicted, or {@code false} if
+     *         the prediction was cancelled part way
+     */
+    public boolean predictBands( final SoundSourceArray soundSources,
+                                 final SoundField soundField,
+                                 final int fromBand,
+                                 final int toBand,
+                                 final BooleanSupplier cancelled ) {
+        if ( ( fromBand < 0 ) || ( toBand > soundField.getBandCount() ) ) {
+            throw new IllegalArgumentException( "Invalid band range: " + fromBand //$NON-NLS-1$
+                    + " to " + toBand ); //$NON-NLS-1$
+        }
+
+        accumulate( soundSources,
+                    0,
+                    soundSources.size(),
+                    1.0d,
+                    soundField,
+                    fromBand,
+                    toBand,
+                    0,
+                    -1,
+                    cancelled );
+        return ( cancelled == null ) || !cancelled.getAsBoolean();
+    }
+
+    /**
+     * Predicts the contributions of all sources to one band at one level of a
+     * coarse-first prediction, which covers the receivers whose row and column
+     * are both multiples of two to the power of the zoom level, other than
+     * those that were already predicted at the coarser level.
+     * <p>
+     * Predicting the levels of {@link SplProgressiveRenderer#ZOOM_LEVELS} in
+     * turn into a new, cleared field predicts every receiver of the band
+     * exactly once, so the whole band costs the same as a single prediction of
+     * it, while the first level is ready after just a fraction of that time,
+     * regardless of the number of bands in the field.
+     *
+     * @param soundSources
+     *            The sound sources
+     * @param soundField
+     *            The sound field to update in place
+     * @param bandIndex
+     *            The index of the band to predict
+     * @param zoomLevel
+     *            The zoom level, where each level halves the resolution along
+     *            each axis
+     * @param coarserZoomLevel
+     *            The zoom level that was already predicted, or -1 if none
+     * @param cancelled
+     *            Reports whether the prediction has been cancelled, which is
+     *            checked before each tile, or null if it cannot be
+     * @return {@code true} if the level was predicted, or {@code false} if it
+     *         was cancelled part way
+     */
+    public boolean predictLevel( final SoundSourceArray soundSources,
+                                 final SoundField soundField,
+                                 final int bandIndex,
+                                 final int zoomLevel,
+                                 final int coarserZoomLevel,
+                                 final BooleanSupplier cancelled ) {
+        if ( ( zoomLevel < 0 )
+                || ( ( coarserZoomLevel >= 0 ) && ( coarserZoomLevel <= zoomLevel ) ) ) {
+            throw new IllegalArgumentException( "Invalid zoom levels: " + zoomLevel //$NON-NLS-1$
+                    + ", " + coarserZoomLevel ); //$NON-NLS-1$
+        }
+        if ( ( bandIndex < 0 ) || ( bandIndex >= soundField.getBandCount() ) ) {
+            throw new IllegalArgumentException( "Invalid band index: " + bandIndex ); //$NON-NLS-1$
+        }
+
+        accumulate( soundSources,
+                    0,
+                    soundSources.size(),
+                    1.0d,
+                    soundField,
+                    bandIndex,
+                    bandIndex + 1,
+                    zoomLevel,
+                    coarserZoomLevel,
+                    cancelled );
+        return ( cancelled == null ) || !cancelled.getAsBoolean();
+    }
+
+    // Accumulate a range of sources into a range of bands, for the receivers
+    // on the stride of a zoom level, skipping those on the stride of a coarser
+    // zoom level, if any.
+    private void accumulate( final SoundSourceArray soundSources,
+                             final int fromSource,
+                             final int toSource,
+                             final double sign,
+                             final SoundField soundField,
+                             final int fromBand,
+                             final int toBand,
+                             final int zoomLevel,
+                             final int coarserZoomLevel,
+                             final BooleanSupplier cancelled ) {
+        final ReceiverGrid receiverGrid = soundField.getReceiverGrid();
+        final int tileColumns = ( receiverGrid.getColumns() + TILE_SIZE - 1 ) / TILE_SIZE;
+        final int tileRows = ( receiverGrid.getRows() + TILE_SIZE - 1 ) / TILE_SIZE;
+        final int taskCount = Math.max( 0, toBand - fromBand ) * tileColumns * tileRows;
+        if ( ( taskCount == 0 ) || ( fromSource >= toSource ) ) {
+            return;
+        }
+
+        final TileTask tileTask = new TileTask( soundSources,
+                                                fromSource,
+                                                toSource,
+                                                sign,
+                                                soundField,
+                                                fromBand,
+                                                zoomLevel,
+                                                coarserZoomLevel,
+                                                cancelled,
+                                                tileColumns,
+                                                tileRows,
+                                                0,
+                                                taskCount );
+        if ( taskCount == 1 ) {
+            tileTask.compute();
+        }
+        else {
+            _forkJoinPool.invoke( tileTask );
+        }
+    }
+
+    /**
+     * Returns the wave number of a frequency, in radians per meter.
+     *
+     * @param frequency
+     *            The frequency, in Hertz
+     * @return The wave number
+     */
+    public double getWaveNumber( final double frequency ) {
+        return ( 2.0d * FastMath.PI * frequency ) / _speedOfSound;
+    }
+
+    // Sum a range of sources into one tile of receivers for one band, keeping
+    // the source loop innermost so that it streams through the source arrays.
+    private void computeTile( final SoundSourceArray soundSources,
+                              final int fromSource,
+                              final int toSource,
+                              final double sign,
+                              final SoundField soundField,
+                              final int zoomLevel,
+                              final int coarserZoomLevel,
+                              final int bandIndex,
+                              final int fromColumn,
+                              final int toColumn,
+                              final int fromRow,
+                              final int toRow ) {
+        final ReceiverGrid receiverGrid = soundField.getReceiverGrid();
+        final double frequency = soundField.getCenterFrequencyTable()
+                .getCenterFrequency( bandIndex );
+        final double waveNumber = getWaveNumber( frequency );
+        final double angularFrequency = 2.0d * FastMath.PI * frequency;
+        final boolean coherent = SummationMode.COHERENT == soundField.getSummationMode();
+
+        final double[] sourceX = soundSources._x;
+        final double[] sourceY = soundSources._y;
+        final double[] sourceZ = soundSources._z;
+        final double[] sourceAmplitude = soundSources._amplitude;
+        final double[] sourceDelay = soundSources._delay;
+
+        final FloatBuffer real = soundField.getReal( bandIndex );
+        final FloatBuffer imaginary = soundField.getImaginary( bandIndex );
+        final double receiverZ = receiverGrid.getZ();
+        final int columns = receiverGrid.getColumns();
+
+        // Only visit the receivers on the stride of the zoom level, and skip
+        // those on the stride of the coarser level, as they are already done.
+        final int stride = 1 << zoomLevel;
+        final int coarserMask = ( coarserZoomLevel >= 0 ) ? ( 1 << coarserZoomLevel ) - 1 : -1;
+        final int firstRow = ( ( fromRow + stride ) - 1 ) & -stride;
+        final int firstColumn = ( ( fromColumn + stride ) - 1 ) & -stride;
+        for ( int row = firstRow; row < toRow; row += stride ) {
+            final double receiverY = receiverGrid.getY( row );
+            final boolean coarserRow = ( coarserMask >= 0 ) && ( ( row & coarserMask ) == 0 );
+            for ( int column = firstColumn; column < toColumn; column += stride ) {
+                if ( coarserRow && ( ( column & coarserMask ) == 0 ) ) {
+                    continue;
+                }
+
+                final double receiverX = receiverGrid.getX( column );
+                double realSum = 0.0d;
+                double imaginarySum = 0.0d;
+                for ( int s = fromSource; s < toSource; s++ ) {
+                    final double dx = receiverX - sourceX[ s ];
+                    final double dy = receiverY - sourceY[ s ];
+                    final double dz = receiverZ - sourceZ[ s ];
+                    final double distance = Math.max( MINIMUM_DISTANCE,
+                                                      Math.sqrt( ( dx * dx ) + ( dy * dy )
+                                                              + ( dz * dz ) ) );
+                    final double magnitude = sourceAmplitude[ s ] / distance;
+                    if ( coherent ) {
+                        final double phase = -( waveNumber * distance )
+                                - ( angularFrequency * sourceDelay[ s ] );
+                        realSum += magnitude * FastMath.cos( phase );
+                        imaginarySum += magnitude * FastMath.sin( phase );
+                    }
+                    else {
+                        realSum += magnitude * magnitude;
+                    }
+                }
+
+                final int receiverIndex = ( row * columns ) + column;
+                real.put( receiverIndex,
+                          real.get( receiverIndex ) + ( float ) ( sign * realSum ) );
+                if ( coherent ) {
+                    imaginary.put( receiverIndex,
+                                   imaginary.get( receiverIndex )
+                                           + ( float ) ( sign * imaginarySum ) );
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes a range of band and tile pairs, splitting the range in half
+     * until a single tile of a single band is left.
+     */
+    private final class TileTask extends RecursiveAction {
+
+        private static final long      serialVersionUID = 1L;
+
+        private final SoundSourceArray _soundSources;
+        private final int              _fromSource;
+        private final int              _toSource;
+        private final double           _sign;
+        private final SoundField       _soundField;
+        private final int              _fromBand;
+        private final int              _zoomLevel;
+        private final int              _coarserZoomLevel;
+        private final BooleanSupplier  _cancelled;
+        private final int              _tileColumns;
+        private final int              _tileRows;
+        private final int              _fromTask;
+        private final int              _toTask;
+
+        TileTask( final SoundSourceArray soundSources,
+                  final int fromSource,
+                  final int toSource,
+                  final double sign,
+                  final SoundField soundField,
+                  final int fromBand,
+                  final int zoomLevel,
+                  final int coarserZoomLevel,
+                  final BooleanSupplier cancelled,
+                  final int tileColumns,
+                  final int tileRows,
+                  final int fromTask,
+                  final int toTask ) {
+            _soundSources = soundSources;
+            _fromSource = fromSource;
+            _toSource = toSource;
+            _sign = sign;
+            _soundField = soundField;
+            _fromBand = fromBand;
+            _zoomLevel = zoomLevel;
+            _coarserZoomLevel = coarserZoomLevel;
+            _cancelled = cancelled;
+            _tileColumns = tileColumns;
+            _tileRows = tileRows;
+            _fromTask = fromTask;
+            _toTask = toTask;
+        }
+
+        @Override
+        protected void compute() {
+            if ( ( _toTask - _fromTask ) <= 1 ) {
+                if ( ( _cancelled != null ) && _cancelled.getAsBoolean() ) {
+                    return;
+                }
+
+                // Each task is one tile of one band, with the tiles of a band
+                // numbered in row-major order.
+                final int tilesPerBand = _tileColumns * _tileRows;
+                final int bandIndex = _fromBand + ( _fromTask / tilesPerBand );
+                final int tileIndex = _fromTask % tilesPerBand;
+                final int fromColumn = ( tileIndex % _tileColumns ) * TILE_SIZE;
+                final int fromRow = ( tileIndex / _tileColumns ) * TILE_SIZE;
+                final ReceiverGrid receiverGrid = _soundField.getReceiverGrid();
+                computeTile( _soundSources,
+                             _fromSource,
+                             _toSource,
+                             _sign,
+                             _soundField,
+                             _zoomLevel,
+                             _coarserZoomLevel,
+                             bandIndex,
+                             fromColumn,
+                             Math.min( fromColumn + TILE_SIZE, receiverGrid.getColumns() ),
+                             fromRow,
+                             Math.min( fromRow + TILE_SIZE, receiverGrid.getRows() ) );
+                return;
+            }
+
+            final int middleTask = ( _fromTask + _toTask ) >>> 1;
+            invokeAll( new TileTask( _soundSources,
+                                     _fromSource,
+                                     _toSource,
+                                     _sign,
+                                     _soundField,
+                                     _fromBand,
+                                     _zoomLevel,
+                                     _coarserZoomLevel,
+                                     _cancelled,
+                                     _tileColumns,
+                                     _tileRows,
+                                     _fromTask,
+                                     middleTask ),
+                       new TileTask( _soundSources,
+                                     _fromSource,
+                                     _toSource,
+                                     _sign,
+                                     _soundField,
+                                     _fromBand,
+                                     _zoomLevel,
+                                     _coarserZoomLevel,
+                                     _cancelled,
+                                     _tileColumns,
+                                     _tileRows,
+                                     middleTask,
+                                     _toTask ) );
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.prediction;
+
+import java.util.Arrays;
+
+/**
+ * A growable array of point sound sources, stored as parallel primitive
+ * arrays, one per source parameter, so that the prediction inner loops stream
+ * through contiguous memory.
+ * <p>
+ * Each source has a position in meters, a pressure amplitude in Pascals at
+ * 1 meter, and a delay in seconds. This class is not thread-safe; sources must
+ * not be changed while a prediction is running.
+ */
+public final class SoundSourceArray {
+
+    // The initial capacity, if none is given.
+    private static final int CAPACITY_DEFAULT = 16;
+
+    // The number of sources.
+    private int _size;
+
+    // The source parameters, one array per parameter.
+    double[]    _x;
+    double[]    _y;
+    double[]    _z;
+    double[]    _amplitude;
+    double[]    _delay;
+
+    // Default constructor
+    public SoundSourceArray() {
+        this( CAPACITY_DEFAULT );
+    }
+
+    public SoundSourceArray( final int capacity ) {
+        _size = 0;
+        _x = new double[ capacity ];
+        _y = new double[ capacity ];
+        _z = new double[ capacity ];
+        _amplitude = new double[ capacity ];
+        _delay = new double[ capacity ];
+    }
+
+    /**
+     * Constructs a copy of the given sources, with just enough capacity.
+     *
+     * @param soundSources
+     *            The sources to copy
+     */
+    public SoundSourceArray( final SoundSourceArray soundSources ) {
+        _size = soundSources._size;
+        _x = Arrays.copyOf( soundSources._x, _size );
+        _y = Arrays.copyOf( soundSources._y, _size );
+        _z = Arrays.copyOf( soundSources._z, _size );
+        _amplitude = Arrays.copyOf( soundSources._amplitude, _size );
+        _delay = Arrays.copyOf( soundSources._delay, _size );
+    }
+
+    public int size() {
+        return _size;
+    }
+
+    /**
+     * Adds a source.
+     *
+     * @param x
+     *            The x coordinate of the source, in meters
+     * @param y
+     *            The y coordinate of the source, in meters
+     * @param z
+     *            The z coordinate (height) of the source, in meters
+     * @param amplitude
+     *            The pressure amplitude at 1 meter, in Pascals
+     * @param delay
+     *            The signal delay, in seconds
+     * @return The index of the new source
+     */
+    public int addSource( final double x,
+                          final double y,
+                          final double z,
+                          final double amplitude,
+                          final double delay ) {
+        if ( _size == _x.length ) {
+            final int capacity = Math.max( CAPACITY_DEFAULT, _x.length * 2 );
+            _x = Arrays.copyOf( _x, capacity );
+            _y = Arrays.copyOf( _y, capacity );
+            _z = Arrays.copyOf( _z, capacity );
+            _amplitude = Arrays.copyOf( _amplitude, capacity );
+            _delay = Arrays.copyOf( _delay, capacity );
+        }
+
+        final int sourceIndex = _size++;
+        setSource( sourceIndex, x, y, z, amplitude, delay );
+        return sourceIndex;
+    }
+
+    /**
+     * Replaces the parameters of an existing source.
+     *
+     * @param sourceIndex
+     *            The index of the source
+     * @param x
+     *            The x coordinate of the source, in meters
+     * @param y
+     *            The y coordinate of the source, in meters
+     * @param z
+     *            The z coordinate (height) of the source, in meters
+     * @param amplitude
+     *            The pressure amplitude at 1 meter, in Pascals
+     * @param delay
+     *            The signal delay, in seconds
+     */
+    public void setSource( final int sourceIndex,
+                           final double x,
+                           final double y,
+                           final double z,
+                           final double amplitude,
+                           final double delay ) {
+        if ( ( sourceIndex < 0 ) || ( sourceIndex >= _size ) ) {
+            throw new IndexOutOfBoundsException( "Source index: " + sourceIndex ); //$NON-NLS-1$
+        }
+
+        _x[ sourceIndex ] = x;
+        _y[ sourceIndex ] = y;
+        _z[ sourceIndex ] = z;
+        _amplitude[ sourceIndex ] = amplitude;
+        _delay[ sourceIndex ] = delay;
+    }
+
+    public double getX( final int sourceIndex ) {
+        return _x[ sourceIndex ];
+    }
+
+    public double getY( final int sourceIndex ) {
+        return _y[ sourceIndex ];
+    }
+
+    public double getZ( final int sourceIndex ) {
+        return _z[ sourceIndex ];
+    }
+
+    public double getAmplitude( final int sourceIndex ) {
+        return _amplitude[ sourceIndex ];
+    }
+
+    public double getDelay( final int sourceIndex ) {
+        return _delay[ sourceIndex ];
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.analysis;
+
+import com.mhschmieder.fxacousticscontrols.action.AnalysisTimeHorizontalZoomChoices;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class AnalysisTimeGateTest {
+
+    private static final double SAMPLE_RATE = 48000.0d;
+
+    @Test
+    public void gateSpansTheAnalysisTimeEdge() {
+        for ( int i = 0; i < AnalysisTimeHorizontalZoomChoices.getAnalysisTimeChoiceCount(); i++ ) {
+            final AnalysisTimeGate gate = AnalysisTimeGate.getInstance( SAMPLE_RATE, i );
+            final int analysisTimeEdgeMs = AnalysisTimeHorizontalZoomChoices
+                    .getAnalysisTimeEdgeMs( i );
+            assertEquals( analysisTimeEdgeMs, gate.getAnalysisTimeEdgeMs() );
+            assertEquals( Math.round( ( analysisTimeEdgeMs * SAMPLE_RATE ) / 1000.0d ),
+                          gate.getGateSampleCount() );
+            assertEquals( FftPlan.getSize( gate.getGateSampleCount() ), gate.getFftSize() );
+            assertEquals( ( gate.getFftSize() / 2 ) + 1, gate.getBinCount() );
+        }
+    }
+
+    @Test
+    public void windowFadesOutOverTheLastQuarter() {
+        final AnalysisTimeGate gate = AnalysisTimeGate
+                .getInstance( SAMPLE_RATE, AnalysisTimeHorizontalZoomChoices.ZOOM_14MS );
+        final int gateSampleCount = gate.getGateSampleCount();
+        final int fadeOutStart = gateSampleCount
+                - ( int ) Math.round( gateSampleCount * AnalysisTimeGate.FADE_OUT_FRACTION );
+        for ( int i = 0; i < fadeOutStart; i++ ) {
+            assertEquals( 1.0d, gate.getWindow( i ), 0.0d );
+        }
+        for ( int i = fadeOutStart; i < gateSampleCount; i++ ) {
+            assertTrue( gate.getWindow( i ) < gate.getWindow( i - 1 ) );
+            assertTrue( gate.getWindow( i ) > 0.0d );
+        }
+    }
+
+    @Test
+    public void binFrequenciesSpanDcToNyquist() {
+        final AnalysisTimeGate gate = AnalysisTimeGate
+                .getInstance( SAMPLE_RATE, AnalysisTimeHorizontalZoomChoices.ZOOM_70MS );
+        assertEquals( 0.0d, gate.getBinFrequency( 0 ), 0.0d );
+        assertEquals( SAMPLE_RATE / 2.0d,
+                      gate.getBinFrequency( gate.getBinCount() - 1 ),
+                      1.0e-9d );
+    }
+
+    @Test
+    public void gateWindowsAndZeroPadsTheImpulseResponse() {
+        final AnalysisTimeGate gate = AnalysisTimeGate
+                .getInstance( SAMPLE_RATE, AnalysisTimeHorizontalZoomChoices.ZOOM_7MS );
+        final float[] impulseResponse = new float[ 4 * gate.getFftSize() ];
+        Arrays.fill( impulseResponse, 2.0f );
+        final double[] real = new double[ gate.getFftSize() ];
+        final double[] imaginary = new double[ gate.getFftSize() ];
+        Arrays.fill( imaginary, 1.0d );
+
+        // Start the gate before the impulse response, which pads with zeros.
+        gate.apply( impulseResponse, -10, real, imaginary );
+        for ( int i = 0; i < real.length; i++ ) {
+            final double expected = ( ( i >= 10 ) && ( i < gate.getGateSampleCount() ) )
+                ? 2.0d * gate.getWindow( i )
+                : 0.0d;
+            assertEquals( expected, real[ i ], 0.0d );
+            assertEquals( 0.0d, imaginary[ i ], 0.0d );
+        }
+    }
+
+    @Test
+    public void gatesAreSharedPerSampleRateAndEdge() {
+        assertSame( AnalysisTimeGate.getInstance( SAMPLE_RATE,
+                                                  AnalysisTimeHorizontalZoomChoices.ZOOM_28MS ),
+                    AnalysisTimeGate.getInstance( SAMPLE_RATE,
+                                                  AnalysisTimeHorizontalZoomChoices.ZOOM_28MS ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void nonPositiveSampleRateIsRejected() {
+        AnalysisTimeGate.getInstance( 0.0d, AnalysisTimeHorizontalZoomChoices.ZOOM_7MS );
+    }
+}
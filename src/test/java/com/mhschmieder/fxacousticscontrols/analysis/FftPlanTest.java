@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.analysis;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public final class FftPlanTest {
+
+    // Compute the forward DFT of a complex sequence directly from its
+    // definition, as the reference for the FFT.
+    private static double[][] computeDft( final double[] real, final double[] imaginary ) {
+        final int size = real.length;
+        final double[][] dft = new double[ 2 ][ size ];
+        for ( int k = 0; k < size; k++ ) {
+            double sumReal = 0.0d;
+            double sumImaginary = 0.0d;
+            for ( int n = 0; n < size; n++ ) {
+                final double angle = ( -2.0d * Math.PI * ( ( ( long ) k * n ) % size ) ) / size;
+                final double cosine = Math.cos( angle );
+                final double sine = Math.sin( angle );
+                sumReal += ( real[ n ] * cosine ) - ( imaginary[ n ] * sine );
+                sumImaginary += ( real[ n ] * sine ) + ( imaginary[ n ] * cosine );
+            }
+            dft[ 0 ][ k ] = sumReal;
+            dft[ 1 ][ k ] = sumImaginary;
+        }
+        return dft;
+    }
+
+    @Test
+    public void transformMatchesTheDftReference() {
+        final Random random = new Random( 1024L );
+        for ( int size = 1; size <= 1024; size <<= 1 ) {
+            final double[] real = new double[ size ];
+            final double[] imaginary = new double[ size ];
+            for ( int i = 0; i < size; i++ ) {
+                real[ i ] = random.nextGaussian();
+                imaginary[ i ] = random.nextGaussian();
+            }
+            final double[][] dft = computeDft( real, imaginary );
+
+            FftPlan.getInstance( size ).transform( real, imaginary );
+            final double tolerance = 1.0e-9d * size;
+            for ( int k = 0; k < size; k++ ) {
+                assertEquals( "Real part of bin " + k + " of " + size, //$NON-NLS-1$ //$NON-NLS-2$
+                              dft[ 0 ][ k ],
+                              real[ k ],
+                              tolerance );
+                assertEquals( "Imaginary part of bin " + k + " of " + size, //$NON-NLS-1$ //$NON-NLS-2$
+                              dft[ 1 ][ k ],
+                              imaginary[ k ],
+                              tolerance );
+            }
+        }
+    }
+
+    @Test
+    public void impulseHasAFlatSpectrum() {
+        final int size = 256;
+        final double[] real = new double[ size ];
+        final double[] imaginary = new double[ size ];
+        real[ 0 ] = 1.0d;
+
+        FftPlan.getInstance( size ).transform( real, imaginary );
+        for ( int k = 0; k < size; k++ ) {
+            assertEquals( 1.0d, real[ k ], 1.0e-12d );
+            assertEquals( 0.0d, imaginary[ k ], 1.0e-12d );
+        }
+    }
+
+    @Test
+    public void sizeIsTheNextPowerOfTwo() {
+        assertEquals( 1, FftPlan.getSize( 0 ) );
+        assertEquals( 1, FftPlan.getSize( 1 ) );
+        assertEquals( 2, FftPlan.getSize( 2 ) );
+        assertEquals( 4, FftPlan.getSize( 3 ) );
+        assertEquals( 1024, FftPlan.getSize( 1024 ) );
+        assertEquals( 2048, FftPlan.getSize( 1025 ) );
+    }
+
+    @Test
+    public void plansAreSharedPerSize() {
+        assertSame( FftPlan.getInstance( 512 ), FftPlan.getInstance( 512 ) );
+        assertEquals( 512, FftPlan.getInstance( 512 ).size() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void sizeThatIsNotAPowerOfTwoIsRejected() {
+        FftPlan.getInstance( 1000 );
+    }
+}
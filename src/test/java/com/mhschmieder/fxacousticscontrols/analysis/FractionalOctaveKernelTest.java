@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.analysis;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class FractionalOctaveKernelTest {
+
+    private static final int    FFT_SIZE    = 4096;
+    private static final double SAMPLE_RATE = 48000.0d;
+
+    @Test
+    public void bandEdgesAreHalfAFractionOfAnOctaveAway() {
+        for ( final int octaveDivider : new int[] { 1, 3, 6, 12, 24, 48 } ) {
+            final FractionalOctaveKernel kernel = FractionalOctaveKernel
+                    .getInstance( FFT_SIZE, SAMPLE_RATE, octaveDivider );
+            final double edgeRatio = Math.pow( 2.0d, 0.5d / octaveDivider );
+            for ( int bin = 1; bin < kernel.getBinCount(); bin++ ) {
+                final int lowerBin = kernel.getLowerBin( bin );
+                final int upperBin = kernel.getUpperBin( bin );
+
+                // Every bin of the band lies within the band edges, and the
+                // bins just outside of the band do not.
+                assertTrue( lowerBin <= bin );
+                assertTrue( upperBin >= bin );
+                if ( lowerBin < bin ) {
+                    assertTrue( ( lowerBin * edgeRatio ) >= ( bin * 0.999999d ) );
+                    assertTrue( ( ( lowerBin - 1 ) * edgeRatio ) < bin );
+                }
+                if ( upperBin > bin ) {
+                    assertTrue( upperBin <= ( bin * edgeRatio * 1.000001d ) );
+                    assertTrue( ( upperBin == ( kernel.getBinCount() - 1 ) )
+                            || ( ( upperBin + 1 ) > ( bin * edgeRatio ) ) );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void bandsWidenWithFrequency() {
+        final FractionalOctaveKernel kernel = FractionalOctaveKernel
+                .getInstance( FFT_SIZE, SAMPLE_RATE, 3 );
+        final int lastBin = kernel.getBinCount() - 2;
+        assertTrue( ( kernel.getUpperBin( lastBin ) - kernel.getLowerBin( lastBin ) ) > ( kernel
+                .getUpperBin( 100 ) - kernel.getLowerBin( 100 ) ) );
+        assertEquals( 0, kernel.getLowerBin( 0 ) );
+        assertEquals( 0, kernel.getUpperBin( 0 ) );
+        assertEquals( kernel.getBinCount() - 1, kernel.getUpperBin( kernel.getBinCount() - 1 ) );
+    }
+
+    @Test
+    public void zeroDividerDoesNotSmooth() {
+        final FractionalOctaveKernel kernel = FractionalOctaveKernel
+                .getInstance( FFT_SIZE, SAMPLE_RATE, 0 );
+        assertEquals( ( FFT_SIZE / 2 ) + 1, kernel.getBinCount() );
+        assertEquals( SAMPLE_RATE / FFT_SIZE, kernel.getFrequencyStep(), 0.0d );
+        for ( int bin = 0; bin < kernel.getBinCount(); bin++ ) {
+            assertEquals( bin, kernel.getLowerBin( bin ) );
+            assertEquals( bin, kernel.getUpperBin( bin ) );
+        }
+    }
+
+    @Test
+    public void kernelsAreShared() {
+        assertSame( FractionalOctaveKernel.getInstance( FFT_SIZE, SAMPLE_RATE, 6 ),
+                    FractionalOctaveKernel.getInstance( FFT_SIZE, SAMPLE_RATE, 6 ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void negativeDividerIsRejected() {
+        FractionalOctaveKernel.getInstance( FFT_SIZE, SAMPLE_RATE, -1 );
+    }
+}
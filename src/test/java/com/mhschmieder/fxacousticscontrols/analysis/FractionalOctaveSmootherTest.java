@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.analysis;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class FractionalOctaveSmootherTest {
+
+    private static final int    FFT_SIZE    = 2048;
+    private static final double SAMPLE_RATE = 44100.0d;
+    private static final double TOLERANCE   = 1.0e-9d;
+
+    private static double[] getRandomBins( final Random random, final int binCount ) {
+        final double[] bins = new double[ binCount ];
+        for ( int bin = 0; bin < binCount; bin++ ) {
+            bins[ bin ] = random.nextGaussian();
+        }
+        return bins;
+    }
+
+    // Average the values over the band of each bin directly, as the reference
+    // for the prefix sums.
+    private static double getBruteForceAverage( final FractionalOctaveKernel kernel,
+                                                final double[] values,
+                                                final int bin ) {
+        double sum = 0.0d;
+        for ( int i = kernel.getLowerBin( bin ); i <= kernel.getUpperBin( bin ); i++ ) {
+            sum += values[ i ];
+        }
+        return sum / ( ( kernel.getUpperBin( bin ) - kernel.getLowerBin( bin ) ) + 1 );
+    }
+
+    @Test
+    public void complexSmoothingMatchesABruteForceAverage() {
+        final Random random = new Random( 3L );
+        final FractionalOctaveSmoother smoother = new FractionalOctaveSmoother();
+        for ( final int octaveDivider : new int[] { 0, 1, 3, 24 } ) {
+            final FractionalOctaveKernel kernel = FractionalOctaveKernel
+                    .getInstance( FFT_SIZE, SAMPLE_RATE, octaveDivider );
+            final int binCount = kernel.getBinCount();
+            final double[] real = getRandomBins( random, binCount );
+            final double[] imaginary = getRandomBins( random, binCount );
+            final double[] smoothedReal = new double[ binCount ];
+            final double[] smoothedImaginary = new double[ binCount ];
+
+            smoother.smoothComplex( kernel, real, imaginary, smoothedReal, smoothedImaginary );
+            for ( int bin = 0; bin < binCount; bin++ ) {
+                assertEquals( getBruteForceAverage( kernel, real, bin ),
+                              smoothedReal[ bin ],
+                              TOLERANCE );
+                assertEquals( getBruteForceAverage( kernel, imaginary, bin ),
+                              smoothedImaginary[ bin ],
+                              TOLERANCE );
+            }
+
+            // Smoothing in place gives the same result.
+            smoother.smoothComplex( kernel, real, imaginary, real, imaginary );
+            for ( int bin = 0; bin < binCount; bin++ ) {
+                assertEquals( smoothedReal[ bin ], real[ bin ], 0.0d );
+                assertEquals( smoothedImaginary[ bin ], imaginary[ bin ], 0.0d );
+            }
+        }
+    }
+
+    @Test
+    public void powerSmoothingMatchesABruteForceAverage() {
+        final Random random = new Random( 6L );
+        final FractionalOctaveSmoother smoother = new FractionalOctaveSmoother();
+        for ( final int octaveDivider : new int[] { 0, 3, 6, 48 } ) {
+            final FractionalOctaveKernel kernel = FractionalOctaveKernel
+                    .getInstance( FFT_SIZE, SAMPLE_RATE, octaveDivider );
+            final int binCount = kernel.getBinCount();
+            final double[] real = getRandomBins( random, binCount );
+            final double[] imaginary = getRandomBins( random, binCount );
+            final double[] power = new double[ binCount ];
+            for ( int bin = 0; bin < binCount; bin++ ) {
+                power[ bin ] = ( real[ bin ] * real[ bin ] )
+                        + ( imaginary[ bin ] * imaginary[ bin ] );
+            }
+            final double[] smoothedPower = new double[ binCount ];
+
+            smoother.smoothPower( kernel, real, imaginary, smoothedPower );
+            for ( int bin = 0; bin < binCount; bin++ ) {
+                assertEquals( getBruteForceAverage( kernel, power, bin ),
+                              smoothedPower[ bin ],
+                              TOLERANCE );
+            }
+        }
+    }
+
+    @Test
+    public void smoothedCurveHasPhaseOnlyForComplexSmoothing() {
+        final FractionalOctaveKernel kernel = FractionalOctaveKernel
+                .getInstance( FFT_SIZE, SAMPLE_RATE, 3 );
+        final FractionalOctaveSmoother smoother = new FractionalOctaveSmoother();
+        final int binCount = kernel.getBinCount();
+
+        // A delay of one sample has a flat magnitude and a linear phase.
+        final double[] real = new double[ binCount ];
+        final double[] imaginary = new double[ binCount ];
+        for ( int bin = 0; bin < binCount; bin++ ) {
+            final double angle = ( -2.0d * Math.PI * bin ) / FFT_SIZE;
+            real[ bin ] = Math.cos( angle );
+            imaginary[ bin ] = Math.sin( angle );
+        }
+
+        final FrequencyResponse powerResponse = smoother
+                .smooth( kernel, SmoothingMode.POWER, real.clone(), imaginary.clone() );
+        assertFalse( powerResponse.hasPhase() );
+        assertEquals( binCount, powerResponse.size() );
+        for ( int bin = 0; bin < binCount; bin++ ) {
+            assertEquals( 0.0d, powerResponse.getMagnitudeDb( bin ), 1.0e-4d );
+        }
+
+        final FrequencyResponse complexResponse = smoother
+                .smooth( kernel, SmoothingMode.COMPLEX, real, imaginary );
+        assertTrue( complexResponse.hasPhase() );
+        assertEquals( 0.0d, complexResponse.getPhaseDegrees( 0 ), 1.0e-4d );
+        assertEquals( -360.0d / FFT_SIZE, complexResponse.getPhaseDegrees( 1 ), 1.0e-4d );
+        assertEquals( kernel.getFrequencyStep(), complexResponse.getFrequencyStep(), 0.0d );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void arraysSmallerThanTheKernelAreRejected() {
+        final FractionalOctaveKernel kernel = FractionalOctaveKernel
+                .getInstance( FFT_SIZE, SAMPLE_RATE, 3 );
+        final double[] bins = new double[ kernel.getBinCount() - 1 ];
+        new FractionalOctaveSmoother().smoothPower( kernel, bins, bins, bins );
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.analysis;
+
+import com.mhschmieder.fxacousticscontrols.action.AnalysisTimeHorizontalZoomChoices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class MinMaxDecimationPyramidTest {
+
+    private static final double SAMPLE_RATE = 48000.0d;
+
+    private static float[] getRandomTrace( final int sampleCount ) {
+        final Random random = new Random( 7L );
+        final float[] samples = new float[ sampleCount ];
+        for ( int i = 0; i < sampleCount; i++ ) {
+            samples[ i ] = ( float ) random.nextGaussian();
+        }
+        return samples;
+    }
+
+    // Get the first and last sample of a pixel column, in the same way as the
+    // pyramid does.
+    private static long getFromSample( final int startSampleIndex,
+                                       final double samplesPerPixel,
+                                       final int pixel ) {
+        return startSampleIndex + ( long ) Math.floor( pixel * samplesPerPixel );
+    }
+
+    private static long getToSample( final int startSampleIndex,
+                                     final double samplesPerPixel,
+                                     final int pixel ) {
+        return Math.max( getFromSample( startSampleIndex, samplesPerPixel, pixel ) + 1L,
+                         startSampleIndex + ( long ) Math
+                                 .floor( ( pixel + 1 ) * samplesPerPixel ) );
+    }
+
+    @Test
+    public void levelCountHalvesDownToASingleBucket() {
+        assertEquals( 1, new MinMaxDecimationPyramid( new float[ 1 ], SAMPLE_RATE )
+                .getLevelCount() );
+        assertEquals( 2, new MinMaxDecimationPyramid( new float[ 2 ], SAMPLE_RATE )
+                .getLevelCount() );
+        assertEquals( 11, new MinMaxDecimationPyramid( new float[ 1024 ], SAMPLE_RATE )
+                .getLevelCount() );
+        assertEquals( 12, new MinMaxDecimationPyramid( new float[ 1025 ], SAMPLE_RATE )
+                .getLevelCount() );
+    }
+
+    @Test
+    public void zoomedInDecimationIsExact() {
+        final float[] samples = getRandomTrace( 5000 );
+        final MinMaxDecimationPyramid pyramid = new MinMaxDecimationPyramid( samples,
+                                                                             SAMPLE_RATE );
+        final int pixelWidth = 800;
+        final float[] minimums = new float[ pixelWidth ];
+        final float[] maximums = new float[ pixelWidth ];
+
+        // Two samples per column still draws from the samples themselves.
+        final int spanSampleCount = 2 * pixelWidth;
+        pyramid.decimateSpan( 1000, spanSampleCount, pixelWidth, minimums, maximums );
+        for ( int pixel = 0; pixel < pixelWidth; pixel++ ) {
+            final int sampleIndex = 1000 + ( 2 * pixel );
+            assertEquals( Math.min( samples[ sampleIndex ], samples[ sampleIndex + 1 ] ),
+                          minimums[ pixel ],
+                          0.0f );
+            assertEquals( Math.max( samples[ sampleIndex ], samples[ sampleIndex + 1 ] ),
+                          maximums[ pixel ],
+                          0.0f );
+        }
+    }
+
+    @Test
+    public void coarseLevelsStayWithinOneBucketOfEachColumn() {
+        final float[] samples = getRandomTrace( 100000 );
+        final MinMaxDecimationPyramid pyramid = new MinMaxDecimationPyramid( samples,
+                                                                             SAMPLE_RATE );
+        final int pixelWidth = 640;
+        final float[] minimums = new float[ pixelWidth ];
+        final float[] maximums = new float[ pixelWidth ];
+        final int startSampleIndex = 123;
+        final int spanSampleCount = 90000;
+        final double samplesPerPixel = ( double ) spanSampleCount / pixelWidth;
+
+        // The coarsest buckets that are no wider than half a column.
+        final int bucketSize = Integer.highestOneBit( spanSampleCount / ( 2 * pixelWidth ) );
+
+        pyramid.decimateSpan( startSampleIndex, spanSampleCount, pixelWidth, minimums, maximums );
+        for ( int pixel = 0; pixel < pixelWidth; pixel++ ) {
+            final long fromSample = getFromSample( startSampleIndex, samplesPerPixel, pixel );
+            final long toSample = getToSample( startSampleIndex, samplesPerPixel, pixel );
+
+            // The extremes of the column are never lost, and anything beyond
+            // them comes from the buckets that overlap the column.
+            float exactMinimum = Float.POSITIVE_INFINITY;
+            float exactMaximum = Float.NEGATIVE_INFINITY;
+            for ( long i = fromSample; i < toSample; i++ ) {
+                exactMinimum = Math.min( exactMinimum, samples[ ( int ) i ] );
+                exactMaximum = Math.max( exactMaximum, samples[ ( int ) i ] );
+            }
+            float boundingMinimum = Float.POSITIVE_INFINITY;
+            float boundingMaximum = Float.NEGATIVE_INFINITY;
+            for ( long i = Math.max( 0L, fromSample - bucketSize ); i < Math
+                    .min( samples.length, toSample + bucketSize ); i++ ) {
+                boundingMinimum = Math.min( boundingMinimum, samples[ ( int ) i ] );
+                boundingMaximum = Math.max( boundingMaximum, samples[ ( int ) i ] );
+            }
+            assertTrue( minimums[ pixel ] <= exactMinimum );
+            assertTrue( maximums[ pixel ] >= exactMaximum );
+            assertTrue( minimums[ pixel ] >= boundingMinimum );
+            assertTrue( maximums[ pixel ] <= boundingMaximum );
+        }
+    }
+
+    @Test
+    public void peakSurvivesEveryZoomChoice() {
+        final int sampleCount = ( int ) ( 2.5d * SAMPLE_RATE );
+        final float[] samples = new float[ sampleCount ];
+        final int zeroSampleIndex = sampleCount / 2;
+        samples[ zeroSampleIndex + 17 ] = 1.0f;
+        samples[ zeroSampleIndex - 29 ] = -1.0f;
+        final MinMaxDecimationPyramid pyramid = new MinMaxDecimationPyramid( samples,
+                                                                             SAMPLE_RATE );
+        final int pixelWidth = 500;
+        final float[] minimums = new float[ pixelWidth ];
+        final float[] maximums = new float[ pixelWidth ];
+
+        for ( int i = 0; i < AnalysisTimeHorizontalZoomChoices.getAnalysisTimeChoiceCount(); i++ ) {
+            pyramid.decimate( i, zeroSampleIndex, pixelWidth, minimums, maximums );
+            float minimum = Float.POSITIVE_INFINITY;
+            float maximum = Float.NEGATIVE_INFINITY;
+            for ( int pixel = 0; pixel < pixelWidth; pixel++ ) {
+                minimum = Math.min( minimum, minimums[ pixel ] );
+                maximum = Math.max( maximum, maximums[ pixel ] );
+            }
+            assertEquals( -1.0f, minimum, 0.0f );
+            assertEquals( 1.0f, maximum, 0.0f );
+        }
+    }
+
+    @Test
+    public void columnsOutsideOfTheTraceAreNotANumber() {
+        final MinMaxDecimationPyramid pyramid = new MinMaxDecimationPyramid( getRandomTrace( 100 ),
+                                                                             SAMPLE_RATE );
+        final float[] minimums = new float[ 10 ];
+        final float[] maximums = new float[ 10 ];
+        pyramid.decimateSpan( -50, 200, 10, minimums, maximums );
+        assertTrue( Float.isNaN( minimums[ 0 ] ) );
+        assertTrue( Float.isNaN( maximums[ 1 ] ) );
+        assertTrue( !Float.isNaN( minimums[ 5 ] ) );
+        assertTrue( Float.isNaN( minimums[ 9 ] ) );
+    }
+
+    @Test
+    public void spanCoversBothSidesOfTheEdge() {
+        final MinMaxDecimationPyramid pyramid = new MinMaxDecimationPyramid( new float[ 10 ],
+                                                                             SAMPLE_RATE );
+        assertEquals( 672,
+                      pyramid.getSpanSampleCount( AnalysisTimeHorizontalZoomChoices.ZOOM_7MS ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void outputArraysSmallerThanThePlotAreRejected() {
+        new MinMaxDecimationPyramid( new float[ 10 ], SAMPLE_RATE )
+                .decimateSpan( 0, 10, 5, new float[ 4 ], new float[ 5 ] );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void nonPositiveSampleRateIsRejected() {
+        new MinMaxDecimationPyramid( new float[ 10 ], 0.0d );
+    }
+}
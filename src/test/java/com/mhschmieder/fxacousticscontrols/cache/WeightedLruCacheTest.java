@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.cache;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class WeightedLruCacheTest {
+
+    // Weigh each value by its length, so that the weight of an entry is
+    // obvious from the test.
+    private static WeightedLruCache< String, String > newCache( final long maximumWeight,
+                                                                final List< String > evictedKeys ) {
+        return new WeightedLruCache<>( maximumWeight,
+                                       String::length,
+                                       ( key, value ) -> evictedKeys.add( key ) );
+    }
+
+    private static List< String > getKeys( final WeightedLruCache< String, ? > cache ) {
+        final List< String > keys = new ArrayList<>();
+        cache.forEach( ( key, value ) -> keys.add( key ) );
+        return keys;
+    }
+
+    @Test
+    public void leastRecentlyUsedEntriesAreEvictedToStayWithinTheWeight() {
+        final List< String > evictedKeys = new ArrayList<>();
+        final WeightedLruCache< String, String > cache = newCache( 10L, evictedKeys );
+        cache.put( "a", "xxxx" ); //$NON-NLS-1$ //$NON-NLS-2$
+        cache.put( "b", "xxx" ); //$NON-NLS-1$ //$NON-NLS-2$
+        cache.put( "c", "xxx" ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( 10L, cache.getWeight() );
+        assertEquals( 0L, cache.getEvictionCount() );
+
+        // A heavy entry evicts as many of the oldest entries as it needs to.
+        cache.put( "d", "xxxxxx" ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( Arrays.asList( "a", "b" ), evictedKeys ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( Arrays.asList( "c", "d" ), getKeys( cache ) ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( 9L, cache.getWeight() );
+        assertEquals( 2L, cache.getEvictionCount() );
+    }
+
+    @Test
+    public void lookupsRefreshTheRecencyOfAnEntry() {
+        final List< String > evictedKeys = new ArrayList<>();
+        final WeightedLruCache< String, String > cache = newCache( 3L, evictedKeys );
+        cache.put( "a", "x" ); //$NON-NLS-1$ //$NON-NLS-2$
+        cache.put( "b", "x" ); //$NON-NLS-1$ //$NON-NLS-2$
+        cache.put( "c", "x" ); //$NON-NLS-1$ //$NON-NLS-2$
+        cache.get( "a" ); //$NON-NLS-1$
+
+        cache.put( "d", "x" ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( Arrays.asList( "b" ), evictedKeys ); //$NON-NLS-1$
+        assertEquals( Arrays.asList( "c", "a", "d" ), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                      getKeys( cache ) );
+    }
+
+    @Test
+    public void replacingAValueReweighsTheEntry() {
+        final List< String > evictedKeys = new ArrayList<>();
+        final WeightedLruCache< String, String > cache = newCache( 10L, evictedKeys );
+        cache.put( "a", "xxxxx" ); //$NON-NLS-1$ //$NON-NLS-2$
+        cache.put( "a", "xx" ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( 1, cache.size() );
+        assertEquals( 2L, cache.getWeight() );
+
+        // The replaced value is released, but it is not counted as an eviction.
+        assertEquals( Arrays.asList( "a" ), evictedKeys ); //$NON-NLS-1$
+        assertEquals( 0L, cache.getEvictionCount() );
+    }
+
+    @Test
+    public void puttingTheSameValueAgainDoesNotReleaseIt() {
+        final List< String > evictedKeys = new ArrayList<>();
+        final WeightedLruCache< String, String > cache = newCache( 10L, evictedKeys );
+        final String value = "xxx"; //$NON-NLS-1$
+        assertTrue( cache.put( "a", value ) ); //$NON-NLS-1$
+        assertTrue( cache.put( "a", value ) ); //$NON-NLS-1$
+        assertEquals( 3L, cache.getWeight() );
+        assertEquals( 0, evictedKeys.size() );
+    }
+
+    @Test
+    public void valueHeavierThanTheBudgetIsNotCached() {
+        final List< String > evictedKeys = new ArrayList<>();
+        final WeightedLruCache< String, String > cache = newCache( 4L, evictedKeys );
+        assertTrue( cache.put( "a", "xx" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertFalse( cache.put( "b", "xxxxx" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertNull( cache.get( "b" ) ); //$NON-NLS-1$
+        assertEquals( "xx", cache.get( "a" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( 2L, cache.getWeight() );
+        assertEquals( 0, evictedKeys.size() );
+    }
+
+    @Test
+    public void valueHeavierThanTheBudgetEvictsTheStalePreviousValue() {
+        final List< String > evictedKeys = new ArrayList<>();
+        final WeightedLruCache< String, String > cache = newCache( 4L, evictedKeys );
+        cache.put( "a", "xx" ); //$NON-NLS-1$ //$NON-NLS-2$
+        cache.put( "b", "x" ); //$NON-NLS-1$ //$NON-NLS-2$
+
+        // The rejected value stays with the caller, but the previous value
+        // for its key is stale, so it is evicted through the listener.
+        assertFalse( cache.put( "a", "xxxxx" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertNull( cache.get( "a" ) ); //$NON-NLS-1$
+        assertEquals( Arrays.asList( "a" ), evictedKeys ); //$NON-NLS-1$
+        assertEquals( Arrays.asList( "b" ), getKeys( cache ) ); //$NON-NLS-1$
+        assertEquals( 1L, cache.getWeight() );
+        assertEquals( 1L, cache.getEvictionCount() );
+    }
+
+    @Test
+    public void hitsAndMissesAreCounted() {
+        final WeightedLruCache< String, String > cache = newCache( 10L, new ArrayList<>() );
+        cache.put( "a", "x" ); //$NON-NLS-1$ //$NON-NLS-2$
+        cache.get( "a" ); //$NON-NLS-1$
+        cache.get( "a" ); //$NON-NLS-1$
+        cache.get( "b" ); //$NON-NLS-1$
+        assertEquals( 2L, cache.getHitCount() );
+        assertEquals( 1L, cache.getMissCount() );
+
+        cache.resetCounts();
+        assertEquals( 0L, cache.getHitCount() );
+        assertEquals( 0L, cache.getMissCount() );
+        assertEquals( 0L, cache.getEvictionCount() );
+    }
+
+    @Test
+    public void explicitRemovalsAreNotEvictions() {
+        final List< String > evictedKeys = new ArrayList<>();
+        final WeightedLruCache< String, String > cache = newCache( 10L, evictedKeys );
+        cache.put( "a1", "xx" ); //$NON-NLS-1$ //$NON-NLS-2$
+        cache.put( "a2", "xx" ); //$NON-NLS-1$ //$NON-NLS-2$
+        cache.put( "b1", "xxx" ); //$NON-NLS-1$ //$NON-NLS-2$
+
+        cache.removeIf( key -> key.startsWith( "a" ) ); //$NON-NLS-1$
+        assertEquals( Arrays.asList( "b1" ), getKeys( cache ) ); //$NON-NLS-1$
+        assertEquals( 3L, cache.getWeight() );
+
+        assertEquals( "xxx", cache.remove( "b1" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertNull( cache.remove( "b1" ) ); //$NON-NLS-1$
+        assertEquals( 0L, cache.getWeight() );
+
+        cache.put( "c", "x" ); //$NON-NLS-1$ //$NON-NLS-2$
+        cache.clear();
+        assertEquals( 0, cache.size() );
+        assertEquals( 0L, cache.getWeight() );
+        assertEquals( 0L, cache.getEvictionCount() );
+        assertEquals( 0, evictedKeys.size() );
+    }
+
+    @Test
+    public void shrinkingTheBudgetEvictsImmediately() {
+        final List< String > evictedKeys = new ArrayList<>();
+        final WeightedLruCache< String, String > cache = newCache( 10L, evictedKeys );
+        cache.put( "a", "xxx" ); //$NON-NLS-1$ //$NON-NLS-2$
+        cache.put( "b", "xxx" ); //$NON-NLS-1$ //$NON-NLS-2$
+        cache.put( "c", "xxx" ); //$NON-NLS-1$ //$NON-NLS-2$
+
+        cache.setMaximumWeight( 5L );
+        assertEquals( 5L, cache.getMaximumWeight() );
+        assertEquals( Arrays.asList( "a", "b" ), evictedKeys ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( 3L, cache.getWeight() );
+        assertEquals( 1, cache.size() );
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.control;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class SelectorListUtilitiesTest {
+
+    private static List< String > getLabels( final int fromIndex, final int toIndex ) {
+        final List< String > labels = new ArrayList<>();
+        for ( int i = fromIndex; i < toIndex; i++ ) {
+            labels.add( Integer.toString( i ) );
+        }
+        return labels;
+    }
+
+    // Apply the diff, and return the number of change events that it fired.
+    private static int applyMinimalDiff( final ObservableList< String > items,
+                                         final List< String > newItems ) {
+        final int[] changeCount = new int[ 1 ];
+        final ListChangeListener< String > listener = change -> changeCount[ 0 ]++;
+        items.addListener( listener );
+        SelectorListUtilities.applyMinimalDiff( items, newItems );
+        items.removeListener( listener );
+
+        assertEquals( newItems, items );
+        return changeCount[ 0 ];
+    }
+
+    @Test
+    public void unchangedListIsLeftAlone() {
+        final ObservableList< String > items = FXCollections
+                .observableArrayList( getLabels( 0, 10 ) );
+        assertFalse( SelectorListUtilities.applyMinimalDiff( items, getLabels( 0, 10 ) ) );
+        assertEquals( 0, applyMinimalDiff( items, getLabels( 0, 10 ) ) );
+    }
+
+    @Test
+    public void singleDifferenceIsASingleChange() {
+        final ObservableList< String > items = FXCollections
+                .observableArrayList( getLabels( 0, 10 ) );
+        final List< String > newItems = getLabels( 0, 10 );
+        newItems.set( 4, "four" ); //$NON-NLS-1$
+        assertEquals( 1, applyMinimalDiff( items, newItems ) );
+    }
+
+    @Test
+    public void growingAndShrinkingAreSingleRangeChanges() {
+        final ObservableList< String > items = FXCollections
+                .observableArrayList( getLabels( 0, 10 ) );
+        assertEquals( 1, applyMinimalDiff( items, getLabels( 0, 12 ) ) );
+        assertEquals( 1, applyMinimalDiff( items, getLabels( 0, 8 ) ) );
+
+        // Shifting the window of a band table keeps the common bands.
+        final List< String > newItems = new ArrayList<>( getLabels( 0, 2 ) );
+        newItems.addAll( getLabels( 5, 8 ) );
+        assertEquals( 1, applyMinimalDiff( items, newItems ) );
+    }
+
+    @Test
+    public void mostlyDifferentListIsReplacedInASingleChange() {
+        final ObservableList< String > items = FXCollections
+                .observableArrayList( getLabels( 0, 100 ) );
+        final List< String > newItems = getLabels( 1000, 1100 );
+        newItems.set( 0, "0" ); //$NON-NLS-1$
+        newItems.set( 99, "99" ); //$NON-NLS-1$
+        assertEquals( 1, applyMinimalDiff( items, newItems ) );
+    }
+
+    @Test
+    public void emptyListsAreHandled() {
+        final ObservableList< String > items = FXCollections.observableArrayList();
+        assertTrue( SelectorListUtilities.applyMinimalDiff( items, getLabels( 0, 3 ) ) );
+        assertEquals( getLabels( 0, 3 ), items );
+        assertTrue( SelectorListUtilities.applyMinimalDiff( items, Arrays.asList() ) );
+        assertTrue( items.isEmpty() );
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.image;
+
+import com.mhschmieder.fxacousticscontrols.control.AcousticsControlFactory;
+import org.junit.Test;
+
+import java.nio.FloatBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class SplAutoRangerTest {
+
+    // Get the SPL values from 0 dB to just below 100 dB, in steps of 0.01 dB.
+    private static float[] getUniformSplValues() {
+        final float[] splValues = new float[ 10000 ];
+        for ( int i = 0; i < splValues.length; i++ ) {
+            splValues[ i ] = i * 0.01f;
+        }
+        return splValues;
+    }
+
+    @Test
+    public void percentilesOfUniformValuesAreLinear() {
+        final SplAutoRanger splAutoRanger = new SplAutoRanger();
+        splAutoRanger.addChunk( getUniformSplValues() );
+        assertEquals( 10000L, splAutoRanger.getCount() );
+        for ( int percentile = 0; percentile <= 100; percentile += 10 ) {
+            assertEquals( percentile, splAutoRanger.getPercentile( percentile ), 0.1d );
+        }
+        assertEquals( 99.0d, splAutoRanger.getMaximumSplDb( 99.0d ), 0.0d );
+    }
+
+    @Test
+    public void notANumberIsIgnored() {
+        final SplAutoRanger splAutoRanger = new SplAutoRanger();
+        splAutoRanger.addChunk( new float[] { Float.NaN, 60.0f, Float.NaN } );
+        assertEquals( 1L, splAutoRanger.getCount() );
+        assertEquals( 60.0d, splAutoRanger.getPercentile( 50.0d ), 0.1d );
+    }
+
+    @Test
+    public void removingAChunkRestoresThePreviousHistogram() {
+        final SplAutoRanger splAutoRanger = new SplAutoRanger();
+        final float[] splValues = getUniformSplValues();
+        splAutoRanger.addChunk( splValues, 0, 5000 );
+        final double median = splAutoRanger.getPercentile( 50.0d );
+
+        final FloatBuffer chunk = FloatBuffer.wrap( splValues, 5000, 5000 ).slice();
+        splAutoRanger.addChunk( chunk );
+        assertEquals( 10000L, splAutoRanger.getCount() );
+        splAutoRanger.removeChunk( chunk );
+        assertEquals( 5000L, splAutoRanger.getCount() );
+        assertEquals( median, splAutoRanger.getPercentile( 50.0d ), 0.0d );
+
+        splAutoRanger.removeChunk( splValues, 0, 5000 );
+        assertEquals( 0L, splAutoRanger.getCount() );
+    }
+
+    @Test
+    public void valuesOutsideOfTheHistogramAreClamped() {
+        final SplAutoRanger splAutoRanger = new SplAutoRanger( 0.0d, 100.0d, 1.0d );
+        splAutoRanger.addChunk( new float[] { -50.0f, 500.0f } );
+        assertEquals( 0.0d, splAutoRanger.getPercentile( 0.0d ), 0.0d );
+        assertEquals( 100.0d, splAutoRanger.getPercentile( 100.0d ), 0.0d );
+    }
+
+    @Test
+    public void emptyHistogramHasNoRange() {
+        final SplAutoRanger splAutoRanger = new SplAutoRanger();
+        assertTrue( Double.isNaN( splAutoRanger.getPercentile( 50.0d ) ) );
+        assertTrue( Double.isNaN( splAutoRanger.getMaximumSplDb( 99.0d ) ) );
+        assertEquals( AcousticsControlFactory.SPL_RANGE_DB_DEFAULT,
+                      splAutoRanger.getSplRangeDb( false ) );
+
+        splAutoRanger.addChunk( getUniformSplValues() );
+        splAutoRanger.clear();
+        assertEquals( 0L, splAutoRanger.getCount() );
+        assertTrue( Double.isNaN( splAutoRanger.getPercentile( 50.0d ) ) );
+    }
+
+    @Test
+    public void splRangeSnapsToTheSpinnerIncrementAndLimits() {
+        final SplAutoRanger splAutoRanger = new SplAutoRanger();
+        splAutoRanger.addChunk( getUniformSplValues() );
+
+        // A spread of 50 dB snaps up to the next increment of the spinner.
+        final int splRangeDb = splAutoRanger.getSplRangeDb( 40.0d, 90.0d, true );
+        assertEquals( 0, splRangeDb % AcousticsControlFactory.SPL_RANGE_DB_INCREMENT );
+        assertTrue( splRangeDb >= 50 );
+        assertTrue( splRangeDb < ( 50 + AcousticsControlFactory.SPL_RANGE_DB_INCREMENT ) );
+
+        // A narrow spread is clamped to the minimum of the spinner, and a
+        // wide spread to its maximum.
+        assertEquals( AcousticsControlFactory.SPL_RANGE_DB_MINIMUM,
+                      splAutoRanger.getSplRangeDb( 50.0d, 55.0d, false ) );
+        assertEquals( AcousticsControlFactory.SPL_RANGE_DB_MINIMUM_EXTENDED,
+                      splAutoRanger.getSplRangeDb( 50.0d, 50.5d, true ) );
+        assertEquals( AcousticsControlFactory.SPL_RANGE_DB_MAXIMUM,
+                      splAutoRanger.getSplRangeDb( 0.0d, 100.0d, false ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void emptyHistogramRangeIsRejected() {
+        new SplAutoRanger( 100.0d, 100.0d, 0.1d );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void nonPositiveBinWidthIsRejected() {
+        new SplAutoRanger( 0.0d, 100.0d, 0.0d );
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.image;
+
+import org.junit.Test;
+
+import java.nio.FloatBuffer;
+
+import static org.junit.Assert.assertEquals;
+
+public final class SplGridSourceTest {
+
+    @Test
+    public void bufferSourceIsTheWindowFromThePositionToTheLimit() {
+        final FloatBuffer splGrid = FloatBuffer.wrap( new float[] { 1f, 2f, 3f, 4f, 5f, 6f } );
+        splGrid.position( 2 );
+        splGrid.limit( 5 );
+
+        final SplGridSource gridSource = SplGridSource.of( splGrid );
+        assertEquals( 3, gridSource.size() );
+        assertEquals( 3f, gridSource.get( 0 ), 0f );
+        assertEquals( 5f, gridSource.get( 2 ), 0f );
+
+        // The buffer is left untouched, and later changes do not move the window.
+        assertEquals( 2, splGrid.position() );
+        splGrid.position( 0 );
+        assertEquals( 3f, gridSource.get( 0 ), 0f );
+    }
+
+    @Test
+    public void arraySourceIsTheWholeArray() {
+        final SplGridSource gridSource = SplGridSource.of( new float[] { 1f, 2f, 3f } );
+        assertEquals( 3, gridSource.size() );
+        assertEquals( 3f, gridSource.get( 2 ), 0f );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void gridLargerThanTheRemainingValuesIsRejected() {
+        final FloatBuffer splGrid = FloatBuffer.allocate( 8 );
+        splGrid.limit( 5 );
+        SplHeatmapRasterizer.checkGridSize( SplGridSource.of( splGrid ).size(), 2, 3 );
+    }
+}
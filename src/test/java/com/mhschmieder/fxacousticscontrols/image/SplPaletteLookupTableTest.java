@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.image;
+
+import com.mhschmieder.jacoustics.SplPaletteResolution;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public final class SplPaletteLookupTableTest {
+
+    @Test
+    public void colorCountFollowsTheResolution() {
+        assertEquals( 256,
+                      SplPaletteLookupTable.getInstance( SplPaletteResolution.RES_256, 42 )
+                              .getColorCount() );
+        assertEquals( 64,
+                      SplPaletteLookupTable.getInstance( SplPaletteResolution.RES_64, 42 )
+                              .getColorCount() );
+        assertEquals( 42,
+                      SplPaletteLookupTable.getInstance( SplPaletteResolution.RES_1DB, 42 )
+                              .getColorCount() );
+        assertEquals( 21,
+                      SplPaletteLookupTable.getInstance( SplPaletteResolution.RES_2DB, 42 )
+                              .getColorCount() );
+
+        // A partial step at the bottom of the SPL Range still gets a color.
+        assertEquals( 15,
+                      SplPaletteLookupTable.getInstance( SplPaletteResolution.RES_3DB, 43 )
+                              .getColorCount() );
+    }
+
+    @Test
+    public void colorsRunFromBlueToRed() {
+        final SplPaletteLookupTable table = SplPaletteLookupTable
+                .getInstance( SplPaletteResolution.RES_256, 60 );
+        assertEquals( SplPaletteLookupTable.getJetArgb( 0.0d ), table.getArgb( 0 ) );
+        assertEquals( SplPaletteLookupTable.getJetArgb( 1.0d ),
+                      table.getArgb( table.getColorCount() - 1 ) );
+        assertEquals( 0xFF000080, SplPaletteLookupTable.getJetArgb( 0.0d ) );
+        assertEquals( 0xFF800000, SplPaletteLookupTable.getJetArgb( 1.0d ) );
+        assertEquals( 0xFF80FF80, SplPaletteLookupTable.getJetArgb( 0.5d ) );
+    }
+
+    @Test
+    public void splValuesMapToTheirStepBelowTheMaximum() {
+        final SplPaletteLookupTable table = SplPaletteLookupTable
+                .getInstance( SplPaletteResolution.RES_3DB, 42 );
+        final double maximumSplDb = 100.0d;
+
+        // Each color covers 3 dB, counted up from the bottom of the SPL Range.
+        assertEquals( 0, table.getIndex( 58.0d, maximumSplDb ) );
+        assertEquals( 0, table.getIndex( 60.9d, maximumSplDb ) );
+        assertEquals( 1, table.getIndex( 61.0d, maximumSplDb ) );
+        assertEquals( 13, table.getIndex( 99.5d, maximumSplDb ) );
+
+        // Values beyond the SPL Range are clamped to the end colors.
+        assertEquals( 0, table.getIndex( 0.0d, maximumSplDb ) );
+        assertEquals( 13, table.getIndex( 140.0d, maximumSplDb ) );
+    }
+
+    @Test
+    public void notANumberIsTransparent() {
+        final SplPaletteLookupTable table = SplPaletteLookupTable
+                .getInstance( SplPaletteResolution.RES_64, 42 );
+        assertEquals( -1, table.getIndex( Double.NaN, 100.0d ) );
+        assertEquals( SplPaletteLookupTable.ARGB_TRANSPARENT,
+                      table.getArgb( Double.NaN, 100.0d ) );
+    }
+
+    @Test
+    public void tablesAreSharedPerResolutionAndRange() {
+        assertSame( SplPaletteLookupTable.getInstance( SplPaletteResolution.RES_2DB, 48 ),
+                    SplPaletteLookupTable.getInstance( SplPaletteResolution.RES_2DB, 48 ) );
+        final SplPaletteLookupTable table = SplPaletteLookupTable
+                .getInstance( SplPaletteResolution.RES_2DB, 48 );
+        assertNotSame( table.toArray(), table.toArray() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void nonPositiveSplRangeIsRejected() {
+        SplPaletteLookupTable.getInstance( SplPaletteResolution.RES_256, 0 );
+    }
+}
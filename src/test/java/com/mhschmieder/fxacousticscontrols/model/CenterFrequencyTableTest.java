@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.model;
+
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class CenterFrequencyTableTest {
+
+    private static void assertStrictlyAscending( final CenterFrequencyTable table ) {
+        for ( int i = 1; i < table.size(); i++ ) {
+            assertTrue( table.getCenterFrequency( i - 1 ) < table.getCenterFrequency( i ) );
+        }
+    }
+
+    @Test
+    public void tablesAreSharedPerBandwidthAndOctaveRange() {
+        for ( final OctaveRange octaveRange : OctaveRange.narrowBandValues( true ) ) {
+            assertSame( CenterFrequencyTable.getInstance( RelativeBandwidth.SIXTH_OCTAVE,
+                                                          octaveRange,
+                                                          0 ),
+                        CenterFrequencyTable.getInstance( RelativeBandwidth.SIXTH_OCTAVE,
+                                                          octaveRange,
+                                                          0 ) );
+        }
+        assertSame( CenterFrequencyTable.getFullSpanInstance( RelativeBandwidth.FORTYEIGHTH_OCTAVE,
+                                                              0 ),
+                    CenterFrequencyTable.getFullSpanInstance( RelativeBandwidth.FORTYEIGHTH_OCTAVE,
+                                                              0 ) );
+    }
+
+    @Test
+    public void narrowBandsCannotSpanTheWideOctaveRange() {
+        final CenterFrequencyTable table = CenterFrequencyTable
+                .getInstance( RelativeBandwidth.TWELTH_OCTAVE, OctaveRange.WIDE, 0 );
+        assertTrue( table.isNarrowBand() );
+        assertFalse( table.getOctaveRange().isWide() );
+    }
+
+    @Test
+    public void labelsMatchTheBandsAndResolveBackToThem() {
+        final CenterFrequencyTable table = CenterFrequencyTable
+                .getFullSpanInstance( RelativeBandwidth.TWENTYFOURTH_OCTAVE, 0 );
+        final List< String > labels = table.getLabels();
+        assertEquals( table.size(), labels.size() );
+        for ( int i = 0; i < table.size(); i++ ) {
+            assertEquals( labels.get( i ), table.getLabel( i ) );
+            assertEquals( i, table.indexOfLabel( labels.get( i ) ) );
+            assertEquals( i, table.indexOf( table.getCenterFrequency( i ) ) );
+        }
+        assertEquals( -1, table.indexOfLabel( "not a band" ) ); //$NON-NLS-1$
+        assertEquals( -1, table.indexOfLabel( null ) );
+    }
+
+    @Test
+    public void bandsAreSortedWithoutDuplicates() {
+        for ( final RelativeBandwidth relativeBandwidth : RelativeBandwidth.values() ) {
+            assertStrictlyAscending( CenterFrequencyTable.getFullSpanInstance( relativeBandwidth,
+                                                                               0 ) );
+        }
+        assertStrictlyAscending( CenterFrequencyTable
+                .getInstance( RelativeBandwidth.TWENTYFOURTH_OCTAVE,
+                              OctaveRange.RANGE_10KHZ_TO_20KHZ,
+                              0 ) );
+    }
+
+    @Test
+    public void rangeExtendsHalfABandBeyondTheEndBands() {
+        final CenterFrequencyTable table = CenterFrequencyTable
+                .getInstance( RelativeBandwidth.SIXTH_OCTAVE, OctaveRange.defaultValue(), 0 );
+        final double halfBandRatio = Math.pow( 2.0d, 0.5d / 6.0d );
+        final double lowerBandEdge = table.getCenterFrequency( 0 ) / halfBandRatio;
+        final double upperBandEdge = table.getCenterFrequency( table.size() - 1 )
+                * halfBandRatio;
+        assertTrue( table.isInRange( lowerBandEdge * 1.0001d ) );
+        assertFalse( table.isInRange( lowerBandEdge * 0.9999d ) );
+        assertTrue( table.isInRange( upperBandEdge * 0.9999d ) );
+        assertFalse( table.isInRange( upperBandEdge * 1.0001d ) );
+    }
+
+    @Test
+    public void nearestBandClampsAtTheBoundaryBands() {
+        final CenterFrequencyTable table = CenterFrequencyTable
+                .getInstance( RelativeBandwidth.SIXTH_OCTAVE, OctaveRange.defaultValue(), 0 );
+        assertEquals( 0, table.getNearestIndex( 1.0d ) );
+        assertEquals( table.size() - 1, table.getNearestIndex( 1.0e6d ) );
+        assertEquals( table.getCenterFrequency( 0 ),
+                      table.getNearestCenterFrequency( 1.0d ),
+                      0.0d );
+        assertEquals( -1, table.getNearestIndex( Double.NaN ) );
+    }
+
+    @Test
+    public void typeAheadFindsTheFirstLabelWithThePrefix() {
+        final CenterFrequencyTable table = CenterFrequencyTable
+                .getFullSpanInstance( RelativeBandwidth.SIXTH_OCTAVE, 0 );
+        for ( int i = 0; i < table.size(); i++ ) {
+            final String label = table.getLabel( i );
+            final int index = table.findIndexByPrefix( label );
+            assertTrue( table.getLabel( index ).startsWith( label ) );
+        }
+        assertEquals( -1, table.findIndexByPrefix( "" ) ); //$NON-NLS-1$
+        assertEquals( -1, table.findIndexByPrefix( null ) );
+    }
+
+    @Test
+    public void toArrayReturnsACopy() {
+        final CenterFrequencyTable table = CenterFrequencyTable
+                .getFullSpanInstance( RelativeBandwidth.TWELTH_OCTAVE, 0 );
+        final double[] centerFrequencies = table.toArray();
+        final double firstCenterFrequency = table.getCenterFrequency( 0 );
+        centerFrequencies[ 0 ] = -1.0d;
+        assertEquals( firstCenterFrequency, table.getCenterFrequency( 0 ), 0.0d );
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.model;
+
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public final class FrequencyWeightingTest {
+
+    // The tolerance of the reference values, which IEC 61672-1 tabulates to
+    // a tenth of a dB.
+    private static final double TOLERANCE_DB = 0.1d;
+
+    // The exponents of the exact base-ten frequencies, 1 kHz * 10^(k/10),
+    // of the nominal frequencies in the reference tables.
+    private static final int[] EXPONENTS = new int[] {
+            -20, -15, -12, -9, -6, -3, 3, 6, 9, 12 };
+
+    // The A-weighting reference values from IEC 61672-1, for 10 Hz, 31.5 Hz,
+    // 63 Hz, 125 Hz, 250 Hz, 500 Hz, 2 kHz, 4 kHz, 8 kHz and 16 kHz.
+    private static final double[] A_WEIGHTING_DB = new double[] {
+            -70.4d, -39.4d, -26.2d, -16.1d, -8.6d, -3.2d, 1.2d, 1.0d, -1.1d, -6.6d };
+
+    // The C-weighting reference values from IEC 61672-1, for the same
+    // frequencies.
+    private static final double[] C_WEIGHTING_DB = new double[] {
+            -14.3d, -3.0d, -0.8d, -0.2d, 0.0d, 0.0d, -0.2d, -0.8d, -3.0d, -8.5d };
+
+    private static double getExactFrequency( final int exponent ) {
+        return 1000.0d * Math.pow( 10.0d, exponent / 10.0d );
+    }
+
+    @Test
+    public void aWeightingMatchesTheIecReferenceValues() {
+        for ( int i = 0; i < EXPONENTS.length; i++ ) {
+            final double frequency = getExactFrequency( EXPONENTS[ i ] );
+            assertEquals( "A-weighting at " + frequency + " Hz", //$NON-NLS-1$ //$NON-NLS-2$
+                          A_WEIGHTING_DB[ i ],
+                          FrequencyWeighting.A.getCorrectionDb( frequency ),
+                          TOLERANCE_DB );
+        }
+    }
+
+    @Test
+    public void cWeightingMatchesTheIecReferenceValues() {
+        for ( int i = 0; i < EXPONENTS.length; i++ ) {
+            final double frequency = getExactFrequency( EXPONENTS[ i ] );
+            assertEquals( "C-weighting at " + frequency + " Hz", //$NON-NLS-1$ //$NON-NLS-2$
+                          C_WEIGHTING_DB[ i ],
+                          FrequencyWeighting.C.getCorrectionDb( frequency ),
+                          TOLERANCE_DB );
+        }
+    }
+
+    @Test
+    public void weightingsAreNormalizedAtOneKilohertz() {
+        for ( final FrequencyWeighting frequencyWeighting : FrequencyWeighting.values() ) {
+            assertEquals( 0.0d, frequencyWeighting.getCorrectionDb( 1000.0d ), 1.0e-9d );
+        }
+    }
+
+    @Test
+    public void zWeightingIsFlat() {
+        for ( double frequency = 10.0d; frequency <= 20000.0d; frequency *= 2.0d ) {
+            assertEquals( 0.0d, FrequencyWeighting.Z.getCorrectionDb( frequency ), 0.0d );
+        }
+    }
+
+    @Test
+    public void aWeightedFlagSelectsTheWeighting() {
+        assertSame( FrequencyWeighting.A, FrequencyWeighting.fromAWeighted( true ) );
+        assertSame( FrequencyWeighting.Z, FrequencyWeighting.fromAWeighted( false ) );
+        assertSame( FrequencyWeighting.Z, FrequencyWeighting.defaultValue() );
+    }
+
+    @Test
+    public void overallPowerSumsTheWeightedBandPowers() {
+        final FrequencyWeightingTable weightingTable = FrequencyWeightingTable
+                .getInstance( CenterFrequencyTable
+                        .getFullSpanInstance( RelativeBandwidth.ONE_OCTAVE, 0 ) );
+        final double[] bandPowers = new double[ weightingTable.size() ];
+        double expectedPowerZ = 0.0d;
+        double expectedPowerA = 0.0d;
+        for ( int bandIndex = 0; bandIndex < bandPowers.length; bandIndex++ ) {
+            bandPowers[ bandIndex ] = bandIndex + 1.0d;
+            expectedPowerZ += bandPowers[ bandIndex ];
+            expectedPowerA += bandPowers[ bandIndex ] * Math
+                    .pow( 10.0d,
+                          0.1d * weightingTable.getCorrectionDb( FrequencyWeighting.A,
+                                                                 bandIndex ) );
+        }
+
+        assertEquals( expectedPowerZ,
+                      weightingTable.getOverallPower( bandPowers, FrequencyWeighting.Z ),
+                      1.0e-9d * expectedPowerZ );
+        assertEquals( expectedPowerA,
+                      weightingTable.getOverallPower( bandPowers, FrequencyWeighting.A ),
+                      1.0e-5d * expectedPowerA );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void overallPowerRejectsAMismatchedBandCount() {
+        FrequencyWeightingTable
+                .getInstance( CenterFrequencyTable.getFullSpanInstance( RelativeBandwidth.ONE_OCTAVE,
+                                                                        0 ) )
+                .getOverallPower( new double[ 1 ], FrequencyWeighting.A );
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class NearestBandResolverTest {
+
+    private static final double[] THIRD_OCTAVE_BANDS = new double[] {
+            800.0d, 1000.0d, 1250.0d, 1600.0d, 2000.0d };
+
+    @Test
+    public void exactBandFrequenciesResolveToThemselves() {
+        for ( int i = 0; i < THIRD_OCTAVE_BANDS.length; i++ ) {
+            assertEquals( i,
+                          NearestBandResolver.resolveNearestBandIndex( THIRD_OCTAVE_BANDS,
+                                                                       THIRD_OCTAVE_BANDS[ i ] ) );
+        }
+    }
+
+    @Test
+    public void frequenciesBeyondTheEndBandsClampToTheEndBands() {
+        assertEquals( 0, NearestBandResolver.resolveNearestBandIndex( THIRD_OCTAVE_BANDS, 10.0d ) );
+        assertEquals( 0, NearestBandResolver.resolveNearestBandIndex( THIRD_OCTAVE_BANDS, 0.0d ) );
+        assertEquals( 4,
+                      NearestBandResolver.resolveNearestBandIndex( THIRD_OCTAVE_BANDS,
+                                                                   20000.0d ) );
+        assertEquals( 4,
+                      NearestBandResolver
+                              .resolveNearestBandIndex( THIRD_OCTAVE_BANDS,
+                                                        Double.POSITIVE_INFINITY ) );
+    }
+
+    @Test
+    public void boundaryBetweenBandsIsTheGeometricMean() {
+        // The arithmetic mean of 1000 and 1250 Hz is 1125 Hz, but on a log
+        // scale 1115 Hz is already closer to 1250 Hz.
+        final double geometricMean = Math.sqrt( 1000.0d * 1250.0d );
+        final double justBelow = Math.nextDown( geometricMean );
+        final double justAbove = Math.nextUp( geometricMean );
+        assertEquals( 1,
+                      NearestBandResolver.resolveNearestBandIndex( THIRD_OCTAVE_BANDS,
+                                                                   justBelow ) );
+        assertEquals( 2,
+                      NearestBandResolver.resolveNearestBandIndex( THIRD_OCTAVE_BANDS,
+                                                                   justAbove ) );
+        assertEquals( 2,
+                      NearestBandResolver.resolveNearestBandIndex( THIRD_OCTAVE_BANDS, 1120.0d ) );
+    }
+
+    @Test
+    public void geometricMeanTieResolvesToTheUpperBand() {
+        // The geometric mean of 100 and 400 Hz is exactly 200 Hz.
+        final double[] bands = new double[] { 100.0d, 400.0d };
+        assertEquals( 1, NearestBandResolver.resolveNearestBandIndex( bands, 200.0d ) );
+    }
+
+    @Test
+    public void emptyBandsAndNaNResolveToNothing() {
+        assertEquals( -1, NearestBandResolver.resolveNearestBandIndex( new double[ 0 ], 1000.0d ) );
+        assertEquals( -1,
+                      NearestBandResolver.resolveNearestBandIndex( THIRD_OCTAVE_BANDS,
+                                                                   Double.NaN ) );
+        assertTrue( Double.isNaN( NearestBandResolver
+                .resolveNearestBandFrequency( THIRD_OCTAVE_BANDS, Double.NaN ) ) );
+    }
+
+    @Test
+    public void searchIsLimitedToTheGivenRange() {
+        assertEquals( 1,
+                      NearestBandResolver.resolveNearestBandIndex( THIRD_OCTAVE_BANDS,
+                                                                   1,
+                                                                   3,
+                                                                   500.0d ) );
+        assertEquals( 2,
+                      NearestBandResolver.resolveNearestBandIndex( THIRD_OCTAVE_BANDS,
+                                                                   1,
+                                                                   3,
+                                                                   2000.0d ) );
+        assertEquals( -1,
+                      NearestBandResolver.resolveNearestBandIndex( THIRD_OCTAVE_BANDS,
+                                                                   2,
+                                                                   2,
+                                                                   1000.0d ) );
+    }
+
+    @Test
+    public void resolvesTheSameBandAsALinearScanOfLogDistances() {
+        for ( double frequency = 500.0d; frequency < 2500.0d; frequency *= 1.003d ) {
+            int expectedIndex = 0;
+            for ( int i = 1; i < THIRD_OCTAVE_BANDS.length; i++ ) {
+                if ( Math.abs( Math.log( frequency / THIRD_OCTAVE_BANDS[ i ] ) ) < Math
+                        .abs( Math.log( frequency / THIRD_OCTAVE_BANDS[ expectedIndex ] ) ) ) {
+                    expectedIndex = i;
+                }
+            }
+            assertEquals( "Nearest band to " + frequency + " Hz", //$NON-NLS-1$ //$NON-NLS-2$
+                          THIRD_OCTAVE_BANDS[ expectedIndex ],
+                          NearestBandResolver.resolveNearestBandFrequency( THIRD_OCTAVE_BANDS,
+                                                                           frequency ),
+                          0.0d );
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.model;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class OctaveRangeTest {
+
+    @Test
+    public void canonicalLabelsRoundTrip() {
+        for ( final OctaveRange octaveRange : OctaveRange.values() ) {
+            assertTrue( OctaveRange.isLabel( octaveRange.label() ) );
+            assertSame( octaveRange, OctaveRange.fromLabel( octaveRange.label() ) );
+        }
+    }
+
+    @Test
+    public void unknownLabelsFallBackToTheDefault() {
+        assertFalse( OctaveRange.isLabel( "1,25 kHz a 2,5 kHz" ) ); //$NON-NLS-1$
+        assertFalse( OctaveRange.isLabel( null ) );
+        assertSame( OctaveRange.defaultValue(), OctaveRange.fromLabel( "1,25 kHz a 2,5 kHz" ) ); //$NON-NLS-1$
+    }
+
+    @Test
+    public void narrowRangesPresentAsTheirLabelsInEnglish() {
+        for ( final OctaveRange octaveRange : OctaveRange.narrowBandValues( true ) ) {
+            assertEquals( octaveRange.label(), octaveRange.toPresentationString( Locale.US ) );
+        }
+    }
+
+    @Test
+    public void presentationFormatsTheBoundsForTheLocale() {
+        assertEquals( "1,25 kHz to 2,5 kHz", //$NON-NLS-1$
+                      OctaveRange.RANGE_1250HZ_TO_2500HZ.toPresentationString( Locale.GERMANY ) );
+
+        // The canonical label is unaffected by the presentation locale.
+        assertEquals( "1.25 kHz to 2.5 kHz", OctaveRange.RANGE_1250HZ_TO_2500HZ.label() ); //$NON-NLS-1$
+    }
+
+    @Test
+    public void presentationWordingComesFromTheResourceBundle() {
+        final Locale spanish = new Locale( "sp" ); //$NON-NLS-1$
+        assertEquals( "1.25 kHz a 2.5 kHz", //$NON-NLS-1$
+                      OctaveRange.RANGE_1250HZ_TO_2500HZ.toPresentationString( spanish ) );
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxAcoustics Library
+ *
+ * You should have received a copy of the MIT License along with the FxAcoustics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxacoustics
+ */
+package com.mhschmieder.fxacousticscontrols.prediction;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class DitheringStatisticsTest {
+
+    private static final double TOLERANCE = 1.0e-9d;
+
+    // Get the results of each dithering trial, with two results per trial
+    // and an offset that would defeat a naive sum of squares.
+    private static double[][] getTrialResults( final int trialCount ) {
+        final Random random = new Random( 61672L );
+        final double[][] trialResults = new double[ trialCount ][ 2 ];
+        for ( int i = 0; i < trialCount; i++ ) {
+            trialResults[ i ][ 0 ] = 1.0e6d + random.nextGaussian();
+            trialResults[ i ][ 1 ] = 94.0d + ( 3.0d * random.nextGaussian() );
+        }
+        return trialResults;
+    }
+
+    private static void assertSameStatistics( final DitheringStatistics expected,
+                                              final DitheringStatistics actual ) {
+        assertEquals( expected.getCount(), actual.getCount() );
+        for ( int j = 0; j < expected.getResultCount(); j++ ) {
+            assertEquals( expected.getMean( j ), actual.getMean( j ), TOLERANCE );
+            assertEquals( expected.getVariance( j ), actual.getVariance( j ), TOLERANCE );
+            assertEquals( expected.getMinimum( j ), actual.getMinimum( j ), 0.0d );
+            assertEquals( expected.getMaximum( j ), actual.getMaximum( j ), 0.0d );
+        }
+    }
+
+    @Test
+    public void statisticsMatchATwoPassComputation() {
+        final double[][] trialResults = getTrialResults( 1000 );
+        final DitheringStatistics ditheringStatistics = new DitheringStatistics( 2 );
+        for ( final double[] results : trialResults ) {
+            ditheringStatistics.add( results );
+        }
+
+        assertEquals( trialResults.length, ditheringStatistics.getCount() );
+        for ( int j = 0; j < 2; j++ ) {
+            double sum = 0.0d;
+            double minimum = Double.POSITIVE_INFINITY;
+            double maximum = Double.NEGATIVE_INFINITY;
+            for ( final double[] results : trialResults ) {
+                sum += results[ j ];
+                minimum = Math.min( minimum, results[ j ] );
+                maximum = Math.max( maximum, results[ j ] );
+            }
+            final double mean = sum / trialResults.length;
+            double sumOfSquares = 0.0d;
+            for ( final double[] results : trialResults ) {
+                sumOfSquares += ( results[ j ] - mean ) * ( results[ j ] - mean );
+            }
+            final double variance = sumOfSquares / ( trialResults.length - 1 );
+
+            assertEquals( mean, ditheringStatistics.getMean( j ), TOLERANCE );
+            assertEquals( variance, ditheringStatistics.getVariance( j ), 1.0e-6d );
+            assertEquals( Math.sqrt( variance ),
+                          ditheringStatistics.getStandardDeviation( j ),
+                          1.0e-6d );
+            assertEquals( minimum, ditheringStatistics.getMinimum( j ), 0.0d );
+            assertEquals( maximum, ditheringStatistics.getMaximum( j ), 0.0d );
+        }
+    }
+
+    @Test
+    public void mergingMatchesAddingSequentially() {
+        final double[][] trialResults = getTrialResults( 301 );
+        final DitheringStatistics sequential = new DitheringStatistics( 2 );
+        final DitheringStatistics lower = new DitheringStatistics( 2 );
+        final DitheringStatistics upper = new DitheringStatistics( 2 );
+        for ( int i = 0; i < trialResults.length; i++ ) {
+            sequential.add( trialResults[ i ] );
+            ( ( i < 100 ) ? lower : upper ).add( trialResults[ i ] );
+        }
+
+        lower.merge( upper );
+        assertSameStatistics( sequential, lower );
+    }
+
+    @Test
+    public void mergingEmptyStatisticsChangesNothing() {
+        final double[][] trialResults = getTrialResults( 10 );
+        final DitheringStatistics expected = new DitheringStatistics( 2 );
+        final DitheringStatistics actual = new DitheringStatistics( 2 );
+        for ( final double[] results : trialResults ) {
+            expected.add( results );
+            actual.add( results );
+        }
+
+        actual.merge( new DitheringStatistics( 2 ) );
+        assertSameStatistics( expected, actual );
+
+        final DitheringStatistics empty = new DitheringStatistics( 2 );
+        empty.merge( expected );
+        assertSameStatistics( expected, empty );
+    }
+
+    @Test
+    public void tooFewTrialsHaveNoStatistics() {
+        final DitheringStatistics ditheringStatistics = new DitheringStatistics( 1 );
+        assertTrue( Double.isNaN( ditheringStatistics.getMean( 0 ) ) );
+        assertTrue( Double.isNaN( ditheringStatistics.getVariance( 0 ) ) );
+
+        ditheringStatistics.add( new double[] { 3.0d } );
+        assertEquals( 3.0d, ditheringStatistics.getMean( 0 ), 0.0d );
+        assertTrue( Double.isNaN( ditheringStatistics.getVariance( 0 ) ) );
+    }
+}